@@ -0,0 +1,106 @@
+package com.foodordering;
+
+import com.foodordering.dto.OrderItemDto;
+import com.foodordering.entity.Order;
+import com.foodordering.entity.OrderItem;
+import com.foodordering.entity.OrderStatus;
+import com.foodordering.entity.Product;
+import com.foodordering.entity.ProductCategory;
+import com.foodordering.entity.Review;
+import com.foodordering.entity.User;
+import com.foodordering.entity.UserRole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared, deterministic object graphs for the JMH benchmarks.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public final class BenchmarkFixtures {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 12, 30);
+
+    private BenchmarkFixtures() {}
+
+    public static User user(long id) {
+        User user = new User("user" + id, "user" + id + "@example.com", "encodedPassword", UserRole.USER);
+        user.setId(id);
+        user.setActive(true);
+        user.setCreatedAt(NOW);
+        user.setUpdatedAt(NOW);
+        return user;
+    }
+
+    public static Product product(long id) {
+        Product product = new Product(
+                "Product " + id,
+                "Freshly prepared dish number " + id + " with seasonal ingredients.",
+                new BigDecimal("7.50").add(BigDecimal.valueOf(id % 10, 1)),
+                ProductCategory.values()[(int) (id % ProductCategory.values().length)],
+                "/images/product-" + id + ".png");
+        product.setId(id);
+        product.setStockQuantity(100);
+        product.setCreatedAt(NOW);
+        product.setUpdatedAt(NOW);
+        return product;
+    }
+
+    public static List<Product> products(int count) {
+        List<Product> products = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            products.add(product(id));
+        }
+        return products;
+    }
+
+    public static List<Review> reviews(Product product, int count) {
+        List<Review> reviews = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Review review = new Review();
+            review.setId((long) i + 1);
+            review.setProduct(product);
+            review.setUser(user(i % 50 + 1));
+            review.setRating(i % 5 + 1);
+            review.setComment("Review " + i);
+            review.setCreatedAt(NOW);
+            reviews.add(review);
+        }
+        return reviews;
+    }
+
+    public static Order order(long id, int itemCount) {
+        Order order = new Order(user(1), BigDecimal.ZERO, "Ermou 1, Athens");
+        order.setId(id);
+        order.setStatus(OrderStatus.PENDING);
+        order.setDeliveryNotes("Ring the bell");
+        order.setEstimatedDeliveryTime(NOW.plusMinutes(45));
+        order.setCreatedAt(NOW);
+        order.setUpdatedAt(NOW);
+        for (int i = 0; i < itemCount; i++) {
+            Product product = product(i + 1);
+            OrderItem item = new OrderItem(order, product, i % 3 + 1, product.getPrice());
+            item.setId((long) i + 1);
+            order.addItem(item);
+        }
+        order.calculateTotal();
+        return order;
+    }
+
+    public static List<OrderItemDto> orderItems(int count) {
+        List<OrderItemDto> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Product product = product(i + 1);
+            OrderItemDto item = new OrderItemDto();
+            item.setProductId(product.getId());
+            item.setQuantity(i % 3 + 1);
+            item.setPrice(product.getPrice());
+            items.add(item);
+        }
+        return items;
+    }
+}
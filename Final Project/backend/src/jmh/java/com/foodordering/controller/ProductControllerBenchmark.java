@@ -0,0 +1,77 @@
+package com.foodordering.controller;
+
+import com.foodordering.BenchmarkFixtures;
+import com.foodordering.dto.ProductDto;
+import com.foodordering.entity.Product;
+import com.foodordering.repository.ReviewRepository;
+import com.foodordering.repository.ReviewRepository.ProductRating;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks ProductController entity-to-DTO conversion.
+ *
+ * The review repository is stubbed, so the numbers cover mapping and joining
+ * the pre-aggregated ratings only; the rating query itself is not included.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductControllerBenchmark {
+
+    @Param({"20", "200"})
+    public int productCount;
+
+    private ProductController productController;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        products = BenchmarkFixtures.products(productCount);
+        List<ProductRating> ratings = new ArrayList<>();
+        for (Product product : products) {
+            ratings.add(rating(product.getId(), 3.0 + (product.getId() % 20) / 10.0));
+        }
+        ReviewRepository reviewRepository = Mockito.mock(ReviewRepository.class);
+        Mockito.when(reviewRepository.findAverageRatingsByProductIds(ArgumentMatchers.anyCollection()))
+                .thenReturn(ratings);
+
+        productController = new ProductController();
+        ReflectionTestUtils.setField(productController, "reviewRepository", reviewRepository);
+    }
+
+    @Benchmark
+    public List<ProductDto> convertToDtos() {
+        return productController.convertToDtos(products);
+    }
+
+    private static ProductRating rating(Long productId, Double averageRating) {
+        return new ProductRating() {
+            @Override
+            public Long getProductId() {
+                return productId;
+            }
+
+            @Override
+            public Double getAverageRating() {
+                return averageRating;
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.foodordering.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.foodordering.BenchmarkFixtures;
+import com.foodordering.entity.OrderStatus;
+import com.foodordering.entity.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks Jackson serialization of typical API payloads.
+ *
+ * The ObjectMapper is configured like Spring Boot's default one
+ * (JavaTimeModule, ISO dates).
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private List<ProductDto> catalog;
+    private OrderDto order;
+    private List<ReviewDto> reviews;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        catalog = new ArrayList<>();
+        for (Product product : BenchmarkFixtures.products(20)) {
+            ProductDto dto = new ProductDto(product.getId(), product.getName(), product.getDescription(),
+                    product.getPrice(), product.getCategory(), product.getImageUrl(), product.isAvailable(),
+                    product.getCreatedAt(), product.getUpdatedAt());
+            dto.setStockQuantity(product.getStockQuantity());
+            dto.setAverageRating(4.2);
+            catalog.add(dto);
+        }
+
+        List<OrderItemDto> items = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            items.add(new OrderItemDto((long) i, 1L, (long) i, "Product " + i, "/images/product-" + i + ".png",
+                    2, catalog.get(i).getPrice()));
+        }
+        LocalDateTime now = LocalDateTime.of(2024, 1, 15, 12, 30);
+        order = new OrderDto(1L, 1L, items, catalog.get(0).getPrice(), OrderStatus.PENDING, now,
+                "Ermou 1, Athens", "Ring the bell", now.plusMinutes(45), null);
+
+        reviews = new ArrayList<>();
+        for (int i = 1; i <= 50; i++) {
+            reviews.add(new ReviewDto((long) i, i % 5 + 1, "Tasty and arrived hot, would order again.",
+                    "user" + i, now));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeCatalog() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(catalog);
+    }
+
+    @Benchmark
+    public byte[] serializeOrder() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] serializeReviews() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(reviews);
+    }
+}
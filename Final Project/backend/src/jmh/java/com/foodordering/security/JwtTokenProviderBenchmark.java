@@ -0,0 +1,61 @@
+package com.foodordering.security;
+
+import com.foodordering.BenchmarkFixtures;
+import com.foodordering.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JWT generation and verification in JwtTokenProvider.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", "benchmark_jwt_secret_key_that_is_long_enough_for_hs256");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 900000L);
+        ReflectionTestUtils.setField(tokenProvider, "jwtRefreshExpirationMs", 604800000L);
+        user = BenchmarkFixtures.user(1);
+        token = tokenProvider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return tokenProvider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    /**
+     * The work JwtAuthenticationFilter does for every authenticated request.
+     */
+    @Benchmark
+    public String validateAndExtractUsername() {
+        if (!tokenProvider.validateToken(token)) {
+            throw new IllegalStateException("Benchmark token should be valid");
+        }
+        return tokenProvider.getUsernameFromToken(token);
+    }
+}
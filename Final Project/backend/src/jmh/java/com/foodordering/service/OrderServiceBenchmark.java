@@ -0,0 +1,54 @@
+package com.foodordering.service;
+
+import com.foodordering.BenchmarkFixtures;
+import com.foodordering.dto.OrderDto;
+import com.foodordering.dto.OrderItemDto;
+import com.foodordering.entity.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks BigDecimal order totaling and entity-to-DTO conversion in OrderService.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderServiceBenchmark {
+
+    @Param({"3", "20"})
+    public int itemCount;
+
+    private OrderService orderService;
+    private List<OrderItemDto> items;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        orderService = new OrderService();
+        items = BenchmarkFixtures.orderItems(itemCount);
+        order = BenchmarkFixtures.order(1, itemCount);
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalAmount() {
+        return orderService.calculateTotalAmount(items);
+    }
+
+    @Benchmark
+    public OrderDto convertToDto() {
+        return orderService.convertToDto(order);
+    }
+}
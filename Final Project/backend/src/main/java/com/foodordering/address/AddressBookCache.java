@@ -0,0 +1,158 @@
+package com.foodordering.address;
+
+import com.foodordering.dto.AddressDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * In-memory cache of each user's addresses, so checkout pages read the
+ * address book and the default address without a query.
+ *
+ * Every change to a user's addresses must call {@link #invalidate}; the
+ * entry is dropped when the transaction commits. Each user's entry carries
+ * a version that every invalidation bumps; a load that was running while
+ * the user's address book was invalidated is returned but not cached, so a
+ * read racing a write cannot put the old addresses back. Other users'
+ * changes do not affect it.
+ *
+ * Reads take no lock. Once more than {@code maxUsers} users are held, the
+ * least recently read are dropped, a tenth more than needed at a time so
+ * the store is not sorted on every miss.
+ *
+ * Entries live in the memory of one instance; a change made through another
+ * instance is seen once the entry expires.
+ *
+ * Meters: {@code address.book.cache} (counter, tagged {@code result} hit or
+ * miss), {@code address.book.cache.size} (gauge).
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+public class AddressBookCache {
+
+    private final AddressBookProperties properties;
+    private final Map<Long, Entry> books = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Counter hits;
+    private final Counter misses;
+
+    public AddressBookCache(AddressBookProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        Gauge.builder("address.book.cache.size", books, Map::size)
+                .description("Address books held in memory")
+                .register(meterRegistry);
+        this.hits = Counter.builder("address.book.cache")
+                .description("Address book lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("address.book.cache")
+                .description("Address book lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The user's addresses, loaded with {@code loader} if they are not
+     * cached. The returned list is shared and must not be modified.
+     */
+    public List<AddressDto> get(Long userId, Function<Long, List<AddressDto>> loader) {
+        Entry entry = books.get(userId);
+        long now = System.nanoTime();
+        if (entry != null && entry.addresses != null
+                && now - entry.loadedNanos < properties.getTimeToLive().toNanos()) {
+            entry.lastAccessNanos = now;
+            hits.increment();
+            return entry.addresses;
+        }
+        long version = entry != null ? entry.version : 0;
+        misses.increment();
+        List<AddressDto> addresses = List.copyOf(loader.apply(userId));
+        books.compute(userId, (id, current) -> (current != null ? current.version : 0) == version
+                ? new Entry(addresses, System.nanoTime(), version)
+                : current);
+        if (books.size() > properties.getMaxUsers()) {
+            evictOverCapacity();
+        }
+        return addresses;
+    }
+
+    /**
+     * Drop the user's cached addresses once the current transaction commits.
+     */
+    public void invalidate(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        } else {
+            evict(userId);
+        }
+    }
+
+    /**
+     * Replace the user's entry with an empty one of the next version, so a
+     * load that started before does not cache its result.
+     */
+    private void evict(Long userId) {
+        books.compute(userId, (id, current) -> new Entry(null, 0, (current != null ? current.version : 0) + 1));
+    }
+
+    private void evictOverCapacity() {
+        // One thread sorts and drops; the others carry on
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int surplus = books.size() - properties.getMaxUsers() + Math.max(1, properties.getMaxUsers() / 10);
+            if (surplus <= 0) {
+                return;
+            }
+            // Sort a copy of the access times, since reads keep changing them
+            List<Candidate> byAge = new ArrayList<>(books.size());
+            books.forEach((userId, entry) -> byAge.add(new Candidate(userId, entry, entry.lastAccessNanos)));
+            byAge.sort(Comparator.comparingLong(Candidate::lastAccessNanos));
+            for (Candidate candidate : byAge.subList(0, Math.min(surplus, byAge.size()))) {
+                books.remove(candidate.userId(), candidate.entry());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * A user's cached addresses, or none after an invalidation.
+     */
+    private static final class Entry {
+
+        private final List<AddressDto> addresses;
+        private final long loadedNanos;
+        private final long version;
+        private volatile long lastAccessNanos;
+
+        private Entry(List<AddressDto> addresses, long loadedNanos, long version) {
+            this.addresses = addresses;
+            this.loadedNanos = loadedNanos;
+            this.version = version;
+            this.lastAccessNanos = System.nanoTime();
+        }
+    }
+
+    private record Candidate(Long userId, Entry entry, long lastAccessNanos) {
+    }
+}
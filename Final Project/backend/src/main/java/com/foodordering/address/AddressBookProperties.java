@@ -0,0 +1,42 @@
+package com.foodordering.address;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the address book cache.
+ *
+ * The address books of at most {@code maxUsers} users are kept, least
+ * recently used dropped first. An address book is reloaded after
+ * {@code timeToLive}, which bounds how long a change made through another
+ * instance can go unseen.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "address-book")
+public class AddressBookProperties {
+
+    private int maxUsers = 10_000;
+
+    private Duration timeToLive = Duration.ofMinutes(10);
+
+    public int getMaxUsers() {
+        return maxUsers;
+    }
+
+    public void setMaxUsers(int maxUsers) {
+        this.maxUsers = maxUsers;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+}
@@ -0,0 +1,39 @@
+package com.foodordering.availability;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the username/email availability filters.
+ *
+ * The filters are sized for twice the current number of users, and at least
+ * {@code expectedUsers}, with the given {@code falsePositiveRate}. They are
+ * rebuilt every {@code user-availability.rebuild-interval-ms}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "user-availability")
+public class AvailabilityProperties {
+
+    private long expectedUsers = 100_000;
+
+    private double falsePositiveRate = 0.01;
+
+    public long getExpectedUsers() {
+        return expectedUsers;
+    }
+
+    public void setExpectedUsers(long expectedUsers) {
+        this.expectedUsers = expectedUsers;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+}
@@ -0,0 +1,186 @@
+package com.foodordering.availability;
+
+import com.foodordering.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * In-memory bloom filters of all usernames and emails.
+ *
+ * A name the filter has never seen is certainly free, so most availability
+ * checks for new names are answered without touching the database; a
+ * possible match still has to be confirmed there. The filters are loaded
+ * once the application is ready, updated when users are created or renamed,
+ * and rebuilt periodically, which drops names that were freed again and
+ * picks up users created by other instances. Until the first load completes
+ * every name counts as possibly taken.
+ *
+ * The filters only speed up availability checks: uniqueness is still
+ * enforced by the database constraints.
+ *
+ * Meters: {@code user.availability.checks} (counter, tags {@code field} and
+ * {@code result} = {@code free} or {@code maybe-taken}).
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+public class UserAvailabilityIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserAvailabilityIndex.class);
+
+    private final UserRepository userRepository;
+    private final AvailabilityProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Counter usernameFree;
+    private final Counter usernameMaybeTaken;
+    private final Counter emailFree;
+    private final Counter emailMaybeTaken;
+
+    private volatile Filters filters;
+    private volatile Filters pending;
+
+    public UserAvailabilityIndex(UserRepository userRepository, AvailabilityProperties properties,
+                                 PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.usernameFree = checks(meterRegistry, "username", "free");
+        this.usernameMaybeTaken = checks(meterRegistry, "username", "maybe-taken");
+        this.emailFree = checks(meterRegistry, "email", "free");
+        this.emailMaybeTaken = checks(meterRegistry, "email", "maybe-taken");
+    }
+
+    /**
+     * Whether the username may be taken; {@code false} means it is certainly free.
+     */
+    public boolean mightContainUsername(String username) {
+        Filters current = filters;
+        boolean maybe = current == null || current.usernames.mightContain(username);
+        (maybe ? usernameMaybeTaken : usernameFree).increment();
+        return maybe;
+    }
+
+    /**
+     * Whether the email may be taken; {@code false} means it is certainly free.
+     */
+    public boolean mightContainEmail(String email) {
+        Filters current = filters;
+        boolean maybe = current == null || current.emails.mightContain(email);
+        (maybe ? emailMaybeTaken : emailFree).increment();
+        return maybe;
+    }
+
+    /**
+     * Add a created or renamed user's names, once the current transaction
+     * commits (right away when there is none).
+     */
+    public void record(String username, String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(username, email);
+                }
+            });
+        } else {
+            put(username, email);
+        }
+    }
+
+    /**
+     * Whether the filters have been loaded.
+     */
+    public boolean isLoaded() {
+        return filters != null;
+    }
+
+    /**
+     * Load the filters once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            logger.warn("Could not load the username/email availability filters; checks go to the database", ex);
+        }
+    }
+
+    /**
+     * Rebuild the filters from the users table.
+     */
+    @Scheduled(fixedDelayString = "${user-availability.rebuild-interval-ms:3600000}",
+            initialDelayString = "${user-availability.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        long users = userRepository.count();
+        Filters next = new Filters(Math.max(properties.getExpectedUsers(), users * 2), properties.getFalsePositiveRate());
+        // Names committed from here on are added to the new filters as well;
+        // earlier ones are visible to the query below
+        pending = next;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = userRepository.streamUsernamesAndEmails()) {
+                    rows.forEach(row -> next.put((String) row[0], (String) row[1]));
+                }
+            });
+            filters = next;
+        } finally {
+            pending = null;
+        }
+        logger.info("Loaded availability filters for {} users ({} bits, {} hashes each)",
+                users, next.usernames.getBitCount(), next.usernames.getHashCount());
+    }
+
+    private void put(String username, String email) {
+        Filters current = filters;
+        if (current != null) {
+            current.put(username, email);
+        }
+        Filters next = pending;
+        if (next != null) {
+            next.put(username, email);
+        }
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String field, String result) {
+        return Counter.builder("user.availability.checks")
+                .description("Availability checks, by whether the filter settled them as free")
+                .tag("field", field)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class Filters {
+
+        private final BloomFilter usernames;
+        private final BloomFilter emails;
+
+        private Filters(long expectedUsers, double falsePositiveRate) {
+            this.usernames = new BloomFilter(expectedUsers, falsePositiveRate);
+            this.emails = new BloomFilter(expectedUsers, falsePositiveRate);
+        }
+
+        private void put(String username, String email) {
+            if (username != null) {
+                usernames.put(username);
+            }
+            if (email != null) {
+                emails.put(email);
+            }
+        }
+    }
+}
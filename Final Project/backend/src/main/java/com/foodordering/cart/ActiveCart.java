@@ -0,0 +1,194 @@
+package com.foodordering.cart;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A customer's cart while it is held in memory: product ids and quantities,
+ * changed in place.
+ *
+ * The product and quantity limits are checked under the cart's monitor
+ * together with the change, so concurrent additions cannot overshoot them.
+ * Every change bumps {@code version}; the write-behind flush records the
+ * version it wrote, so the cart is dirty while the two differ. The persist
+ * lock is held while the cart's rows are written (by the flush or by
+ * checkout), so the two never overwrite each other. Once evicted from the
+ * {@link CartStore} a cart rejects further changes and callers load it
+ * again.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class ActiveCart {
+
+    private final Long userId;
+    private final int maxItems;
+    private final int maxQuantity;
+    private final Map<Long, Integer> quantities = new LinkedHashMap<>();
+    private final ReentrantLock persistLock = new ReentrantLock();
+
+    private long version;
+    private long persistedVersion;
+    private boolean evicted;
+    private volatile long lastAccessNanos = System.nanoTime();
+
+    public ActiveCart(Long userId, Map<Long, Integer> quantities, int maxItems, int maxQuantity) {
+        this.userId = userId;
+        this.maxItems = maxItems;
+        this.maxQuantity = maxQuantity;
+        this.quantities.putAll(quantities);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    ReentrantLock getPersistLock() {
+        return persistLock;
+    }
+
+    long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    /**
+     * Add to the quantity of a product.
+     *
+     * @return false when the cart has been evicted
+     * @throws IllegalArgumentException when the change would exceed a limit
+     */
+    public synchronized boolean add(Long productId, int quantity) {
+        if (evicted) {
+            return false;
+        }
+        checkLimits(productId, quantities.getOrDefault(productId, 0) + quantity);
+        quantities.merge(productId, quantity, Integer::sum);
+        changed();
+        return true;
+    }
+
+    /**
+     * Set the quantity of a product; zero removes it.
+     *
+     * @return false when the cart has been evicted
+     * @throws IllegalArgumentException when the change would exceed a limit
+     */
+    public synchronized boolean set(Long productId, int quantity) {
+        if (evicted) {
+            return false;
+        }
+        checkLimits(productId, quantity);
+        if (quantity == 0) {
+            quantities.remove(productId);
+        } else {
+            quantities.put(productId, quantity);
+        }
+        changed();
+        return true;
+    }
+
+    /**
+     * Remove every product.
+     *
+     * @return false when the cart has been evicted
+     */
+    public synchronized boolean clear() {
+        if (evicted) {
+            return false;
+        }
+        quantities.clear();
+        changed();
+        return true;
+    }
+
+    /**
+     * A consistent copy of the contents.
+     */
+    public synchronized Snapshot snapshot() {
+        lastAccessNanos = System.nanoTime();
+        return new Snapshot(userId, version, Collections.unmodifiableMap(new LinkedHashMap<>(quantities)));
+    }
+
+    synchronized boolean isEvicted() {
+        return evicted;
+    }
+
+    synchronized boolean isDirty() {
+        return version != persistedVersion;
+    }
+
+    /**
+     * Record that the contents at {@code snapshot} are stored.
+     *
+     * @return whether changes made since still have to be written
+     */
+    synchronized boolean persisted(Snapshot snapshot) {
+        persistedVersion = Math.max(persistedVersion, snapshot.version());
+        return isDirty();
+    }
+
+    /**
+     * Take the checked-out quantities out of the cart, after its rows have been deleted.
+     *
+     * @return whether products added during checkout still have to be written
+     */
+    synchronized boolean checkedOut(Snapshot snapshot) {
+        snapshot.quantities().forEach((productId, quantity) ->
+                quantities.computeIfPresent(productId, (id, current) -> current > quantity ? current - quantity : null));
+        version++;
+        persistedVersion = quantities.isEmpty() ? version : -1;
+        return isDirty();
+    }
+
+    /**
+     * Drop a product that is being deleted. Its rows are deleted with the
+     * product, so this is not a change to write.
+     */
+    synchronized void discard(Long productId) {
+        quantities.remove(productId);
+    }
+
+    /**
+     * Mark the cart evicted, dropping unwritten changes.
+     */
+    synchronized void evict() {
+        evicted = true;
+    }
+
+    /**
+     * Mark the cart evicted unless it has unwritten changes.
+     */
+    synchronized boolean evictIfClean() {
+        if (isDirty()) {
+            return false;
+        }
+        evicted = true;
+        return true;
+    }
+
+    private void checkLimits(Long productId, int quantity) {
+        if (quantity > maxQuantity) {
+            throw new IllegalArgumentException("At most " + maxQuantity + " of a product fit in the cart");
+        }
+        if (quantity > 0 && !quantities.containsKey(productId) && quantities.size() >= maxItems) {
+            throw new IllegalArgumentException("At most " + maxItems + " different products fit in the cart");
+        }
+    }
+
+    private void changed() {
+        version++;
+        lastAccessNanos = System.nanoTime();
+    }
+
+    /**
+     * Cart contents at one version.
+     */
+    public record Snapshot(Long userId, long version, Map<Long, Integer> quantities) {
+
+        public boolean isEmpty() {
+            return quantities.isEmpty();
+        }
+    }
+}
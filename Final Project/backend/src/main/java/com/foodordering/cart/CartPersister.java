@@ -0,0 +1,130 @@
+package com.foodordering.cart;
+
+import com.foodordering.entity.Cart;
+import com.foodordering.entity.CartItem;
+import com.foodordering.repository.CartRepository;
+import com.foodordering.repository.ProductRepository;
+import com.foodordering.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reads and writes the {@code carts} and {@code cart_items} rows behind the
+ * in-memory carts.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+public class CartPersister {
+
+    private static final Logger logger = LoggerFactory.getLogger(CartPersister.class);
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    /**
+     * Load the stored contents of a user's cart, empty when there is none.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> load(Long userId) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        cartRepository.findByUserIdWithItems(userId).ifPresent(cart -> cart.getItems()
+                .forEach(item -> quantities.put(item.getProduct().getId(), item.getQuantity())));
+        return quantities;
+    }
+
+    /**
+     * Write several carts in one transaction: one query loads the stored
+     * carts, and only the items whose quantity changed are written. Carts of
+     * deleted users and items of deleted products are skipped, so they
+     * cannot fail the whole batch.
+     */
+    @Transactional
+    public void save(List<ActiveCart.Snapshot> snapshots) {
+        Map<Long, Cart> stored = cartRepository.findAllByUserIdInWithItems(snapshots.stream()
+                        .map(ActiveCart.Snapshot::userId)
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(cart -> cart.getUser().getId(), Function.identity()));
+        Set<Long> existingUsers = existing(snapshots.stream()
+                .filter(snapshot -> !snapshot.isEmpty() && !stored.containsKey(snapshot.userId()))
+                .map(ActiveCart.Snapshot::userId)
+                .collect(Collectors.toSet()), userRepository::findExistingIds);
+        Set<Long> existingProducts = existing(snapshots.stream()
+                .flatMap(snapshot -> snapshot.quantities().keySet().stream())
+                .collect(Collectors.toSet()), productRepository::findExistingIds);
+
+        for (ActiveCart.Snapshot snapshot : snapshots) {
+            Cart cart = stored.get(snapshot.userId());
+            if (cart == null) {
+                if (snapshot.isEmpty()) {
+                    continue;
+                }
+                if (!existingUsers.contains(snapshot.userId())) {
+                    logger.warn("Not writing the cart of deleted user {}", snapshot.userId());
+                    continue;
+                }
+                cart = cartRepository.save(new Cart(userRepository.getReferenceById(snapshot.userId())));
+            }
+
+            Map<Long, CartItem> items = new HashMap<>();
+            for (CartItem item : cart.getItems()) {
+                items.put(item.getProduct().getId(), item);
+            }
+            for (Map.Entry<Long, Integer> entry : snapshot.quantities().entrySet()) {
+                CartItem item = items.remove(entry.getKey());
+                if (item == null) {
+                    if (!existingProducts.contains(entry.getKey())) {
+                        logger.warn("Not writing deleted product {} to the cart of user {}", entry.getKey(), snapshot.userId());
+                        continue;
+                    }
+                    cart.addItem(new CartItem(cart, productRepository.getReferenceById(entry.getKey()), entry.getValue()));
+                } else if (!item.getQuantity().equals(entry.getValue())) {
+                    item.setQuantity(entry.getValue());
+                }
+            }
+            for (CartItem removed : items.values()) {
+                cart.removeItem(removed);
+            }
+        }
+    }
+
+    /**
+     * Delete the cart items of a product; joins the caller's transaction.
+     */
+    @Transactional
+    public void deleteProductItems(Long productId) {
+        cartRepository.deleteItemsByProductId(productId);
+    }
+
+    /**
+     * Delete the items of a user's cart; joins the caller's transaction.
+     */
+    @Transactional
+    public void deleteItems(Long userId) {
+        cartRepository.deleteItemsByUserId(userId);
+    }
+
+    private static Set<Long> existing(Set<Long> ids, Function<Set<Long>, List<Long>> finder) {
+        return ids.isEmpty() ? Set.of() : new HashSet<>(finder.apply(ids));
+    }
+}
@@ -0,0 +1,82 @@
+package com.foodordering.cart;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the server-side cart.
+ *
+ * At most {@code maxActiveCarts} carts are kept in memory; carts untouched for
+ * {@code idleTimeout}, and the least recently used ones beyond the maximum,
+ * are dropped once their changes are written. Changes are written every
+ * {@code flushIntervalMs}, up to {@code batchSize} carts per transaction.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "cart")
+public class CartProperties {
+
+    private int maxActiveCarts = 10_000;
+
+    private Duration idleTimeout = Duration.ofMinutes(30);
+
+    private long flushIntervalMs = 1000;
+
+    private int batchSize = 100;
+
+    private int maxItems = 50;
+
+    private int maxQuantity = 99;
+
+    public int getMaxActiveCarts() {
+        return maxActiveCarts;
+    }
+
+    public void setMaxActiveCarts(int maxActiveCarts) {
+        this.maxActiveCarts = maxActiveCarts;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    public void setMaxItems(int maxItems) {
+        this.maxItems = maxItems;
+    }
+
+    public int getMaxQuantity() {
+        return maxQuantity;
+    }
+
+    public void setMaxQuantity(int maxQuantity) {
+        this.maxQuantity = maxQuantity;
+    }
+}
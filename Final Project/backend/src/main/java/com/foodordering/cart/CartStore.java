@@ -0,0 +1,275 @@
+package com.foodordering.cart;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Bounded in-memory store of active carts, keyed by user id, with
+ * write-behind persistence.
+ *
+ * Cart changes only mark the cart dirty; a periodic flush writes all carts
+ * changed since the previous run in batches, so any number of edits to a
+ * cart between two flushes cost a single write. The flush runs on a thread
+ * of its own rather than the shared scheduler, so a slow scheduled job
+ * elsewhere cannot hold it back. A cart is loaded from the
+ * database the first time it is used and dropped again once idle or when
+ * the store is over capacity, but never while it has unwritten changes.
+ * Dirty carts are also written on shutdown; a crash loses at most the edits
+ * of the last flush interval.
+ *
+ * Carts live in the memory of one instance, so with several backend
+ * instances requests of a user must be routed to the same one.
+ *
+ * Meters: {@code cart.active} and {@code cart.dirty} (gauges),
+ * {@code cart.flush} (timer per batch), {@code cart.flush.carts} and
+ * {@code cart.flush.failures} (counters).
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+public class CartStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(CartStore.class);
+
+    private final CartPersister persister;
+    private final CartProperties properties;
+    private final Map<Long, ActiveCart> carts = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final Timer flushTimer;
+    private final Counter flushedCarts;
+    private final Counter flushFailures;
+
+    private ScheduledExecutorService flusher;
+
+    public CartStore(CartPersister persister, CartProperties properties, MeterRegistry meterRegistry) {
+        this.persister = persister;
+        this.properties = properties;
+        Gauge.builder("cart.active", carts, Map::size)
+                .description("Carts held in memory")
+                .register(meterRegistry);
+        Gauge.builder("cart.dirty", dirty, Set::size)
+                .description("Carts with changes not yet written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("cart.flush")
+                .description("Time to write a batch of carts")
+                .register(meterRegistry);
+        this.flushedCarts = Counter.builder("cart.flush.carts")
+                .description("Carts written by the write-behind flush")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("cart.flush.failures")
+                .description("Cart batches that failed to be written and were retried")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start the periodic flush.
+     */
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "cart-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getFlushIntervalMs();
+        flusher.scheduleWithFixedDelay(this::scheduledFlush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * The user's cart, loaded from the database if it is not in memory.
+     */
+    public ActiveCart get(Long userId) {
+        ActiveCart cart = carts.get(userId);
+        if (cart != null) {
+            return cart;
+        }
+        if (carts.size() >= properties.getMaxActiveCarts()) {
+            // Make room for a tenth more, so a full store is not sorted on every miss
+            evictOverCapacity(Math.max(1, properties.getMaxActiveCarts() / 10));
+        }
+        ActiveCart loaded = new ActiveCart(userId, persister.load(userId),
+                properties.getMaxItems(), properties.getMaxQuantity());
+        cart = carts.putIfAbsent(userId, loaded);
+        return cart != null ? cart : loaded;
+    }
+
+    /**
+     * Queue a changed cart for the next flush.
+     */
+    public void changed(ActiveCart cart) {
+        dirty.add(cart.getUserId());
+    }
+
+    /**
+     * Whether the user's cart has changes not yet written.
+     */
+    public boolean isDirty(Long userId) {
+        return dirty.contains(userId);
+    }
+
+    /**
+     * Turn the user's cart into an order.
+     *
+     * {@code placeOrder} gets the cart contents and must delete the cart's
+     * items in the same transaction as it creates the order. The flush does
+     * not write the cart meanwhile; products added while the order is placed
+     * stay in the cart.
+     *
+     * @throws IllegalStateException when the cart is empty
+     */
+    public <T> T checkout(Long userId, Function<ActiveCart.Snapshot, T> placeOrder) {
+        while (true) {
+            ActiveCart cart = get(userId);
+            cart.getPersistLock().lock();
+            try {
+                if (cart.isEvicted()) {
+                    continue;
+                }
+                ActiveCart.Snapshot snapshot = cart.snapshot();
+                if (snapshot.isEmpty()) {
+                    throw new IllegalStateException("Cart is empty");
+                }
+                T result = placeOrder.apply(snapshot);
+                if (cart.checkedOut(snapshot)) {
+                    dirty.add(userId);
+                }
+                return result;
+            } finally {
+                cart.getPersistLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Take a product that is about to be deleted out of every cart, in
+     * memory and in the database.
+     */
+    public void removeProduct(Long productId) {
+        carts.values().forEach(cart -> cart.discard(productId));
+        persister.deleteProductItems(productId);
+    }
+
+    /**
+     * Drop the cart of a user who is about to be deleted without writing it.
+     */
+    public void removeUser(Long userId) {
+        ActiveCart cart = carts.remove(userId);
+        if (cart != null) {
+            cart.evict();
+        }
+        dirty.remove(userId);
+    }
+
+    /**
+     * Write all changed carts, then drop idle and surplus ones.
+     */
+    public void flush() {
+        List<Long> pending = new ArrayList<>(dirty);
+        for (int from = 0; from < pending.size(); from += properties.getBatchSize()) {
+            flushBatch(pending.subList(from, Math.min(from + properties.getBatchSize(), pending.size())));
+        }
+        evictIdle();
+        evictOverCapacity(0);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() throws InterruptedException {
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        logger.info("Writing {} changed carts before shutdown", dirty.size());
+        flush();
+    }
+
+    private void scheduledFlush() {
+        // An exception escaping here would cancel all later runs
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            logger.warn("Cart flush failed, retrying on the next run", ex);
+        }
+    }
+
+    private void flushBatch(List<Long> userIds) {
+        List<ActiveCart> locked = new ArrayList<>();
+        List<ActiveCart.Snapshot> snapshots = new ArrayList<>();
+        for (Long userId : userIds) {
+            ActiveCart cart = carts.get(userId);
+            // A cart being checked out is written by the checkout; try it again next time
+            if (cart == null || !cart.getPersistLock().tryLock()) {
+                continue;
+            }
+            dirty.remove(userId);
+            locked.add(cart);
+            snapshots.add(cart.snapshot());
+        }
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        boolean saved = false;
+        try {
+            flushTimer.record(() -> persister.save(snapshots));
+            flushedCarts.increment(snapshots.size());
+            saved = true;
+        } catch (RuntimeException ex) {
+            flushFailures.increment();
+            logger.warn("Failed to write {} carts, retrying on the next flush", snapshots.size(), ex);
+        } finally {
+            for (int i = 0; i < locked.size(); i++) {
+                ActiveCart cart = locked.get(i);
+                if (!saved || cart.persisted(snapshots.get(i))) {
+                    dirty.add(cart.getUserId());
+                }
+                cart.getPersistLock().unlock();
+            }
+        }
+    }
+
+    private void evictIdle() {
+        long cutoff = System.nanoTime() - properties.getIdleTimeout().toNanos();
+        for (Iterator<ActiveCart> it = carts.values().iterator(); it.hasNext(); ) {
+            ActiveCart cart = it.next();
+            if (cart.getLastAccessNanos() - cutoff < 0 && cart.evictIfClean()) {
+                it.remove();
+            }
+        }
+    }
+
+    private void evictOverCapacity(int room) {
+        int surplus = carts.size() - properties.getMaxActiveCarts() + room;
+        if (surplus <= 0) {
+            return;
+        }
+        List<ActiveCart> byAge = new ArrayList<>(carts.values());
+        byAge.sort(Comparator.comparingLong(ActiveCart::getLastAccessNanos));
+        for (ActiveCart cart : byAge) {
+            if (surplus <= 0) {
+                break;
+            }
+            if (cart.evictIfClean() && carts.remove(cart.getUserId(), cart)) {
+                surplus--;
+            }
+        }
+    }
+}
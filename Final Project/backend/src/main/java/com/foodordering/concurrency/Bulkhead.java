@@ -0,0 +1,16 @@
+package com.foodordering.concurrency;
+
+/**
+ * Partitions that isolate admin and analytics traffic from customer traffic.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public enum Bulkhead {
+
+    /** Checkout, orders, catalogue and everything not classified as admin. */
+    CUSTOMER,
+
+    /** Admin listings, reports and statistics. */
+    ADMIN
+}
@@ -0,0 +1,35 @@
+package com.foodordering.concurrency;
+
+/**
+ * Holds the bulkhead of the request being served on the current thread.
+ *
+ * Set by {@link BulkheadFilter} for the duration of the filter chain and read
+ * when a database connection is requested, so admin work draws from its own
+ * connection pool.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public final class BulkheadContext {
+
+    private static final ThreadLocal<Bulkhead> CURRENT = new ThreadLocal<>();
+
+    private BulkheadContext() {
+    }
+
+    /**
+     * The current bulkhead, {@link Bulkhead#CUSTOMER} outside of a request.
+     */
+    public static Bulkhead current() {
+        Bulkhead bulkhead = CURRENT.get();
+        return bulkhead != null ? bulkhead : Bulkhead.CUSTOMER;
+    }
+
+    static void set(Bulkhead bulkhead) {
+        CURRENT.set(bulkhead);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
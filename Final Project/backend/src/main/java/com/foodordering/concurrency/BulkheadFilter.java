@@ -0,0 +1,201 @@
+package com.foodordering.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Runs admin and customer requests in separate bulkheads.
+ *
+ * Each bulkhead may occupy at most its share of the request threads, so a
+ * burst of admin reports cannot take the threads checkout needs, and while
+ * an admin request is served its connections come from the admin pool (see
+ * {@link BulkheadContext}). Runs ahead of the global concurrency limit, so
+ * requests waiting for their bulkhead do not hold a global slot.
+ *
+ * Per bulkhead it publishes {@code bulkhead.requests.active},
+ * {@code bulkhead.requests.max}, {@code bulkhead.requests.waiting},
+ * {@code bulkhead.saturation} (active / max) and
+ * {@code bulkhead.requests.rejected}; connection pool saturation is in the
+ * {@code hikaricp.connections.*} metrics of the {@code admin} pool.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 15)
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkheadFilter.class);
+
+    private final BulkheadProperties properties;
+    private final List<AdminRoute> adminRoutes;
+    private final Map<Bulkhead, Partition> partitions = new EnumMap<>(Bulkhead.class);
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public BulkheadFilter(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.adminRoutes = properties.getAdminRoutes().stream()
+                .map(AdminRoute::new)
+                .collect(Collectors.toList());
+        partitions.put(Bulkhead.ADMIN, new Partition(Bulkhead.ADMIN, properties.getAdmin(), meterRegistry));
+        partitions.put(Bulkhead.CUSTOMER, new Partition(Bulkhead.CUSTOMER, properties.getCustomer(), meterRegistry));
+        if (properties.isEnabled()) {
+            logger.info("Bulkheads enabled: admin {} requests, customer {} requests",
+                    describe(properties.getAdmin()), describe(properties.getCustomer()));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+        Bulkhead bulkhead = findBulkhead(request);
+        Partition partition = partitions.get(bulkhead);
+        if (!partition.acquire()) {
+            partition.rejections.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Server busy\",\"retryAfterSeconds\":1}");
+            return;
+        }
+        BulkheadContext.set(bulkhead);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            BulkheadContext.clear();
+            partition.release();
+        }
+    }
+
+    private Bulkhead findBulkhead(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        for (AdminRoute route : adminRoutes) {
+            if ((route.methods.isEmpty() || route.methods.contains(method))
+                    && pathMatcher.match(route.pattern, path)) {
+                return Bulkhead.ADMIN;
+            }
+        }
+        return Bulkhead.CUSTOMER;
+    }
+
+    private static String describe(BulkheadProperties.Partition partition) {
+        return partition.getMaxConcurrentRequests() > 0
+                ? "at most " + partition.getMaxConcurrentRequests() : "unlimited";
+    }
+
+    /**
+     * The permits, counters and meters of one bulkhead.
+     */
+    private static final class Partition {
+
+        private final int max;
+        private final long maxWaitNanos;
+        private final Semaphore permits;
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final Counter rejections;
+
+        private Partition(Bulkhead bulkhead, BulkheadProperties.Partition config, MeterRegistry meterRegistry) {
+            this.max = config.getMaxConcurrentRequests();
+            this.maxWaitNanos = config.getMaxWait().toNanos();
+            this.permits = max > 0 ? new Semaphore(max, true) : null;
+            String tag = bulkhead.name().toLowerCase(Locale.ROOT);
+            this.rejections = Counter.builder("bulkhead.requests.rejected")
+                    .description("Requests rejected because their bulkhead was full")
+                    .tag("bulkhead", tag)
+                    .register(meterRegistry);
+            Gauge.builder("bulkhead.requests.active", active, AtomicInteger::get)
+                    .description("Requests being processed in the bulkhead")
+                    .tag("bulkhead", tag)
+                    .register(meterRegistry);
+            Gauge.builder("bulkhead.requests.waiting", waiting, AtomicInteger::get)
+                    .description("Requests waiting to enter the bulkhead")
+                    .tag("bulkhead", tag)
+                    .register(meterRegistry);
+            if (max > 0) {
+                Gauge.builder("bulkhead.requests.max", () -> max)
+                        .description("Maximum requests processed in the bulkhead at once")
+                        .tag("bulkhead", tag)
+                        .register(meterRegistry);
+                Gauge.builder("bulkhead.saturation", active, a -> (double) a.get() / max)
+                        .description("Share of the bulkhead in use")
+                        .tag("bulkhead", tag)
+                        .register(meterRegistry);
+            }
+        }
+
+        private boolean acquire() {
+            if (permits != null && !permits.tryAcquire()) {
+                waiting.incrementAndGet();
+                try {
+                    if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                        return false;
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                } finally {
+                    waiting.decrementAndGet();
+                }
+            }
+            active.incrementAndGet();
+            return true;
+        }
+
+        private void release() {
+            active.decrementAndGet();
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * A configured admin route.
+     */
+    private static final class AdminRoute {
+
+        private final String pattern;
+        private final Set<String> methods;
+
+        private AdminRoute(BulkheadProperties.Route route) {
+            this.pattern = route.getPattern();
+            this.methods = route.getMethods().stream()
+                    .map(method -> method.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.foodordering.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for the admin and customer bulkheads.
+ *
+ * Requests matching one of the {@code adminRoutes} (first match wins) run in
+ * the admin bulkhead, all others in the customer bulkhead. Each bulkhead caps
+ * the request threads it may occupy at {@code maxConcurrentRequests}
+ * (0 for no cap) and rejects requests that cannot get in within
+ * {@code maxWait} with 503. Admin requests also take their database
+ * connections from a separate pool of {@code adminConnectionPoolSize}
+ * connections, so long scans never hold connections checkout needs.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = false;
+
+    private Partition admin = new Partition();
+
+    private Partition customer = new Partition();
+
+    private int adminConnectionPoolSize = 3;
+
+    private List<Route> adminRoutes = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Partition getAdmin() {
+        return admin;
+    }
+
+    public void setAdmin(Partition admin) {
+        this.admin = admin;
+    }
+
+    public Partition getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(Partition customer) {
+        this.customer = customer;
+    }
+
+    public int getAdminConnectionPoolSize() {
+        return adminConnectionPoolSize;
+    }
+
+    public void setAdminConnectionPoolSize(int adminConnectionPoolSize) {
+        this.adminConnectionPoolSize = adminConnectionPoolSize;
+    }
+
+    public List<Route> getAdminRoutes() {
+        return adminRoutes;
+    }
+
+    public void setAdminRoutes(List<Route> adminRoutes) {
+        this.adminRoutes = adminRoutes;
+    }
+
+    /**
+     * Limits of a single bulkhead.
+     */
+    public static class Partition {
+
+        private int maxConcurrentRequests = 0;
+
+        private Duration maxWait = Duration.ofMillis(500);
+
+        public int getMaxConcurrentRequests() {
+            return maxConcurrentRequests;
+        }
+
+        public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+    }
+
+    /**
+     * A route served by the admin bulkhead.
+     */
+    public static class Route {
+
+        private String pattern;
+
+        private List<String> methods = new ArrayList<>();
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.foodordering.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for coalescing product, review and user lookups.
+ *
+ * A lookup that found nothing is answered from memory for
+ * {@code negativeTtl} (zero to disable), for at most
+ * {@code maxNegativeEntries} keys per lookup.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "lookup-coalescing")
+public class CoalescingProperties {
+
+    private Duration negativeTtl = Duration.ofSeconds(5);
+
+    private int maxNegativeEntries = 10_000;
+
+    public Duration getNegativeTtl() {
+        return negativeTtl;
+    }
+
+    public void setNegativeTtl(Duration negativeTtl) {
+        this.negativeTtl = negativeTtl;
+    }
+
+    public int getMaxNegativeEntries() {
+        return maxNegativeEntries;
+    }
+
+    public void setMaxNegativeEntries(int maxNegativeEntries) {
+        this.maxNegativeEntries = maxNegativeEntries;
+    }
+}
@@ -0,0 +1,245 @@
+package com.foodordering.concurrency;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Caps the number of requests processed at once and sheds the excess.
+ *
+ * The limit starts from the connection pool size and, in adaptive mode,
+ * follows the observed latency through a {@link GradientLimit}: it grows
+ * while latency stays flat and shrinks as soon as requests start queueing
+ * for connections or CPU. Each request is classified into a
+ * {@link RequestPriority} that may only use its share of the limit, so
+ * under load admin listings and contact searches are rejected before
+ * ordinary traffic, and order placement and status last.
+ *
+ * Requests that cannot get in wait briefly and are then rejected with 503,
+ * which is cheaper for the client to retry than a 30 second connection
+ * timeout. Actuator endpoints are never limited. The current limit is
+ * published as {@code http.server.requests.concurrency.limit}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final ConcurrencyLimitProperties properties;
+    private final GradientLimit limit;
+    private final List<PriorityRule> rules;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, DataSource dataSource,
+                                  MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        int initialLimit = properties.getMaxConcurrentRequests() > 0
+                ? properties.getMaxConcurrentRequests()
+                : poolSize(dataSource) * properties.getPermitsPerConnection();
+        this.limit = new GradientLimit(initialLimit, properties.getMinLimit(), properties.getMaxLimit(),
+                properties.getTolerance(), properties.getSmoothing());
+        this.rules = properties.getPriorities().stream()
+                .map(PriorityRule::new)
+                .collect(Collectors.toList());
+        Gauge.builder("http.server.requests.concurrency.limit", limit, GradientLimit::getLimit)
+                .description("Maximum requests processed at once")
+                .register(meterRegistry);
+        Gauge.builder("http.server.requests.concurrency.in.flight", inFlight, AtomicInteger::get)
+                .description("Requests currently being processed")
+                .register(meterRegistry);
+        if (properties.isEnabled()) {
+            logger.info("Limiting concurrent requests to {}{}", initialLimit,
+                    properties.isAdaptive() ? " initially, adapting to latency" : "");
+        }
+    }
+
+    /**
+     * The current limit.
+     */
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+        RequestPriority priority = findPriority(request);
+        boolean acquired;
+        try {
+            acquired = acquire(priority);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            reject(response, priority);
+            return;
+        }
+        int concurrency = inFlight.get();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+            // Async requests release their thread before the work is done, so their time says nothing
+            if (properties.isAdaptive() && !request.isAsyncStarted()) {
+                limit.onSample(System.nanoTime() - start, concurrency);
+            }
+        } finally {
+            release();
+        }
+    }
+
+    private boolean acquire(RequestPriority priority) throws InterruptedException {
+        if (tryAcquire(priority)) {
+            return true;
+        }
+        long nanos = properties.getMaxWait().toNanos();
+        if (nanos <= 0) {
+            return false;
+        }
+        lock.lock();
+        try {
+            waiters.incrementAndGet();
+            try {
+                while (!tryAcquire(priority)) {
+                    if (nanos <= 0) {
+                        return false;
+                    }
+                    nanos = released.awaitNanos(nanos);
+                }
+                return true;
+            } finally {
+                waiters.decrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean tryAcquire(RequestPriority priority) {
+        int allowed = allowance(priority);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        if (waiters.get() > 0) {
+            lock.lock();
+            try {
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private int allowance(RequestPriority priority) {
+        int current = limit.getLimit();
+        return switch (priority) {
+            case CRITICAL -> current;
+            case NORMAL -> Math.max(1, (int) (current * properties.getNormalPriorityShare()));
+            case LOW -> Math.max(1, (int) (current * properties.getLowPriorityShare()));
+        };
+    }
+
+    private RequestPriority findPriority(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        for (PriorityRule rule : rules) {
+            if ((rule.methods.isEmpty() || rule.methods.contains(method))
+                    && pathMatcher.match(rule.pattern, path)) {
+                return rule.priority;
+            }
+        }
+        return RequestPriority.NORMAL;
+    }
+
+    private void reject(HttpServletResponse response, RequestPriority priority) throws IOException {
+        Counter.builder("http.server.requests.rejected")
+                .description("Requests rejected by the concurrency limit")
+                .tag("reason", "concurrency")
+                .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .increment();
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader("Retry-After", "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Server busy\",\"retryAfterSeconds\":1}");
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        return hikari != null ? hikari.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+    }
+
+    /**
+     * A configured priority rule.
+     */
+    private static final class PriorityRule {
+
+        private final String pattern;
+        private final Set<String> methods;
+        private final RequestPriority priority;
+
+        private PriorityRule(ConcurrencyLimitProperties.Rule rule) {
+            this.pattern = rule.getPattern();
+            this.methods = rule.getMethods().stream()
+                    .map(method -> method.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            this.priority = rule.getPriority();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.foodordering.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for the request concurrency limit.
+ *
+ * The initial limit is {@code maxConcurrentRequests} when set, otherwise the
+ * connection pool's maximum size times {@code permitsPerConnection}. When
+ * {@code adaptive} is on, the limit then follows the observed latency
+ * between {@code minLimit} and {@code maxLimit} (see {@link GradientLimit}).
+ *
+ * Requests are classified by the {@code priorities} rules, evaluated in
+ * declaration order (first match wins, unmatched requests are
+ * {@link RequestPriority#NORMAL}). Normal and low priority requests may only
+ * use {@code normalPriorityShare} and {@code lowPriorityShare} of the limit,
+ * so they are shed first. Requests that cannot get in within {@code maxWait}
+ * are rejected with 503.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = false;
+
+    private int maxConcurrentRequests = 0;
+
+    private int permitsPerConnection = 2;
+
+    private Duration maxWait = Duration.ofSeconds(1);
+
+    private boolean adaptive = true;
+
+    private int minLimit = 4;
+
+    private int maxLimit = 200;
+
+    private double tolerance = 1.5;
+
+    private double smoothing = 0.2;
+
+    private double normalPriorityShare = 0.9;
+
+    private double lowPriorityShare = 0.6;
+
+    private List<Rule> priorities = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    public int getPermitsPerConnection() {
+        return permitsPerConnection;
+    }
+
+    public void setPermitsPerConnection(int permitsPerConnection) {
+        this.permitsPerConnection = permitsPerConnection;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    public double getNormalPriorityShare() {
+        return normalPriorityShare;
+    }
+
+    public void setNormalPriorityShare(double normalPriorityShare) {
+        this.normalPriorityShare = normalPriorityShare;
+    }
+
+    public double getLowPriorityShare() {
+        return lowPriorityShare;
+    }
+
+    public void setLowPriorityShare(double lowPriorityShare) {
+        this.lowPriorityShare = lowPriorityShare;
+    }
+
+    public List<Rule> getPriorities() {
+        return priorities;
+    }
+
+    public void setPriorities(List<Rule> priorities) {
+        this.priorities = priorities;
+    }
+
+    /**
+     * Assigns a priority to the requests matching a route.
+     */
+    public static class Rule {
+
+        private String pattern;
+
+        private List<String> methods = new ArrayList<>();
+
+        private RequestPriority priority = RequestPriority.NORMAL;
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        public RequestPriority getPriority() {
+            return priority;
+        }
+
+        public void setPriority(RequestPriority priority) {
+            this.priority = priority;
+        }
+    }
+}
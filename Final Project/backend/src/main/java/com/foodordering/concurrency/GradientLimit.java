@@ -0,0 +1,90 @@
+package com.foodordering.concurrency;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Concurrency limit that adapts to observed latency, in the style of the
+ * gradient algorithm of Netflix's concurrency-limits.
+ *
+ * Two moving averages of request latency are kept: a long-term one standing
+ * for the latency without queueing, and a short-term one for the current
+ * latency. While the current latency stays within {@code tolerance} times
+ * the long-term one the limit grows by about its square root per sample;
+ * once it exceeds it, the limit shrinks in proportion (by at most half).
+ * Samples taken while less than half the limit is in use say nothing about
+ * capacity and leave the limit alone. Changes are smoothed and clamped to
+ * {@code [minLimit, maxLimit]}.
+ *
+ * Every request reports a sample, so the averages and the limit are kept
+ * in one immutable estimate that each sample replaces with a
+ * compare-and-set rather than under a lock. A sample that loses the race
+ * is recomputed against the newer estimate.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class GradientLimit {
+
+    private static final double SHORT_RTT_WEIGHT = 0.1;
+    private static final double LONG_RTT_WEIGHT = 0.01;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final AtomicReference<Estimate> estimate;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+        this.minLimit = Math.min(minLimit, initialLimit);
+        this.maxLimit = Math.max(maxLimit, initialLimit);
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.estimate = new AtomicReference<>(new Estimate(initialLimit, 0, 0));
+    }
+
+    /**
+     * The current limit.
+     */
+    public int getLimit() {
+        return (int) estimate.get().limit();
+    }
+
+    /**
+     * Record a completed request.
+     *
+     * @param rttNanos how long the request took
+     * @param inFlight requests in progress when it started, itself included
+     */
+    public void onSample(long rttNanos, int inFlight) {
+        Estimate current = estimate.get();
+        while (!estimate.compareAndSet(current, next(current, rttNanos, inFlight))) {
+            current = estimate.get();
+        }
+    }
+
+    private Estimate next(Estimate current, long rttNanos, int inFlight) {
+        if (current.longRtt() == 0) {
+            return new Estimate(current.limit(), rttNanos, rttNanos);
+        }
+        double shortRtt = current.shortRtt() + (rttNanos - current.shortRtt()) * SHORT_RTT_WEIGHT;
+        double longRtt = current.longRtt() + (rttNanos - current.longRtt()) * LONG_RTT_WEIGHT;
+
+        // After an overload the long-term average is inflated; let it recover quickly
+        if (longRtt > 2 * shortRtt) {
+            longRtt *= 0.95;
+        }
+
+        double estimatedLimit = current.limit();
+        if (inFlight < estimatedLimit / 2) {
+            return new Estimate(estimatedLimit, shortRtt, longRtt);
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        return new Estimate(Math.max(minLimit, Math.min(maxLimit, newLimit)), shortRtt, longRtt);
+    }
+
+    private record Estimate(double limit, double shortRtt, double longRtt) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.foodordering.concurrency;
+
+/**
+ * Traffic classes for load shedding.
+ *
+ * Each class may only use its share of the concurrency limit, so as the
+ * limit fills up, low priority requests are shed first and critical ones
+ * last.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public enum RequestPriority {
+
+    /** Order placement and order status: may use the whole limit. */
+    CRITICAL,
+
+    /** Everything not classified otherwise. */
+    NORMAL,
+
+    /** Admin listings and contact search. */
+    LOW
+}
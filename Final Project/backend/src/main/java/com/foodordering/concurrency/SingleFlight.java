@@ -0,0 +1,170 @@
+package com.foodordering.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent lookups of the same key into one load.
+ *
+ * The first caller for a key runs the loader; callers arriving while it runs
+ * wait for and share its result, or its exception. Nothing found is cached
+ * for a short time, so repeated lookups of a missing key do not reach the
+ * database either. Found values are never cached: a caller that arrives
+ * after the load has finished starts a new one.
+ *
+ * Whatever creates a value for a key must call {@link #forget} so the
+ * not-found entry is dropped; inside a transaction that happens when it
+ * commits. A load that was running while any key was forgotten does not
+ * record its not-found result.
+ *
+ * Callers wait without a transaction of their own, so waiting holds no
+ * database connection, and loaders should return detached values such as
+ * DTOs, since the result is shared between threads.
+ *
+ * Meters: {@code lookup.coalescing} (counter, tags {@code lookup} and
+ * {@code result} = {@code loaded}, {@code coalesced} or {@code negative}).
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Map<K, Long> notFound = new ConcurrentHashMap<>();
+    private final AtomicLong forgets = new AtomicLong();
+    private final long negativeTtlNanos;
+    private final int maxNegativeEntries;
+    private final Counter loaded;
+    private final Counter coalesced;
+    private final Counter negative;
+
+    public SingleFlight(String lookup, Duration negativeTtl, int maxNegativeEntries, MeterRegistry meterRegistry) {
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.maxNegativeEntries = maxNegativeEntries;
+        this.loaded = counter(meterRegistry, lookup, "loaded");
+        this.coalesced = counter(meterRegistry, lookup, "coalesced");
+        this.negative = counter(meterRegistry, lookup, "negative");
+    }
+
+    /**
+     * The value for {@code key}, or null if it does not exist. Loaded with
+     * {@code loader} unless a load of the same key is already running or the
+     * key was recently not found.
+     */
+    public V get(K key, Supplier<V> loader) {
+        Long expires = notFound.get(key);
+        if (expires != null) {
+            if (expires - System.nanoTime() > 0) {
+                negative.increment();
+                return null;
+            }
+            notFound.remove(key, expires);
+        }
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+
+        loaded.increment();
+        long generation = forgets.get();
+        try {
+            V value = loader.get();
+            if (value == null && negativeTtlNanos > 0 && forgets.get() == generation) {
+                rememberNotFound(key, generation);
+            }
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Drop the not-found entry of {@code key}, after the current transaction
+     * commits if there is one.
+     */
+    public void forget(K key) {
+        forgetIf(key::equals);
+    }
+
+    /**
+     * Drop the not-found entries of all keys matching {@code condition},
+     * after the current transaction commits if there is one.
+     */
+    public void forgetIf(Predicate<K> condition) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    drop(condition);
+                }
+            });
+        } else {
+            drop(condition);
+        }
+    }
+
+    private void drop(Predicate<K> condition) {
+        forgets.incrementAndGet();
+        notFound.keySet().removeIf(condition);
+    }
+
+    /**
+     * Record {@code key} as not found, then take the entry back if a forget
+     * happened since the load began: a drop that ran between the caller's
+     * generation check and the put would otherwise have missed it.
+     */
+    private void rememberNotFound(K key, long generation) {
+        long now = System.nanoTime();
+        if (notFound.size() >= maxNegativeEntries) {
+            notFound.values().removeIf(expires -> expires - now <= 0);
+            if (notFound.size() >= maxNegativeEntries) {
+                notFound.clear();
+            }
+        }
+        Long expires = now + negativeTtlNanos;
+        notFound.put(key, expires);
+        if (forgets.get() != generation) {
+            notFound.remove(key, expires);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String lookup, String result) {
+        return Counter.builder("lookup.coalescing")
+                .description("Entity lookups by how they were answered")
+                .tag("lookup", lookup)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
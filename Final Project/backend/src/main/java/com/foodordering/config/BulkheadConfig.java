@@ -0,0 +1,63 @@
+package com.foodordering.config;
+
+import com.foodordering.concurrency.BulkheadProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Gives the admin bulkhead its own connection pool.
+ *
+ * When {@code bulkhead.enabled} is set, the application data source is
+ * wrapped in a {@link BulkheadRoutingDataSource} next to a small pool named
+ * {@code admin}, connected to the primary database. Customer work keeps the
+ * regular pool (and the read replica, when configured) to itself.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+public class BulkheadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkheadConfig.class);
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    /**
+     * Wrap the application data source once it has been created.
+     */
+    @Bean
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(ObjectProvider<BulkheadProperties> properties,
+                                                                    ObjectProvider<DataSourceProperties> dataSourceProperties,
+                                                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || !properties.getObject().isEnabled()) {
+                    return bean;
+                }
+                int poolSize = properties.getObject().getAdminConnectionPoolSize();
+                HikariDataSource admin = dataSourceProperties.getObject().initializeDataSourceBuilder()
+                        .type(HikariDataSource.class)
+                        .build();
+                admin.setPoolName("admin");
+                admin.setMaximumPoolSize(poolSize);
+                admin.setMinimumIdle(0);
+                meterRegistry.ifAvailable(registry -> admin.setMetricsTrackerFactory(
+                        new MicrometerMetricsTrackerFactory(registry)));
+                logger.info("Admin requests use a separate pool of {} connections", poolSize);
+                return new BulkheadRoutingDataSource(dataSource, admin);
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.foodordering.config;
+
+import com.foodordering.concurrency.Bulkhead;
+import com.foodordering.concurrency.BulkheadContext;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Hands out connections from the admin pool while an admin request is
+ * served and from the application's regular data source otherwise.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class BulkheadRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final DataSource customer;
+    private final DataSource admin;
+
+    public BulkheadRoutingDataSource(DataSource customer, DataSource admin) {
+        this.customer = customer;
+        this.admin = admin;
+        setTargetDataSources(Map.of(Bulkhead.CUSTOMER, customer, Bulkhead.ADMIN, admin));
+        setDefaultTargetDataSource(customer);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return BulkheadContext.current();
+    }
+
+    /**
+     * Close both pools; this bean replaces the one Spring would otherwise close.
+     */
+    @Override
+    public void close() throws Exception {
+        if (admin instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        if (customer instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.foodordering.config;
+
+import com.foodordering.monitoring.SqlStatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Hibernate configuration that cannot be expressed in application.properties.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Configuration
+public class HibernateConfig {
+
+    /**
+     * Register the per-request SQL statement counter.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    /**
+     * Pass the second-level cache configuration to Hibernate as an encoded URI.
+     * Hibernate cannot convert the classpath URL itself when the executable
+     * jar sits in a directory whose name contains a space.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer cacheConfigUriCustomizer(
+            @Value("${spring.jpa.properties.hibernate.javax.cache.uri:}") String location) {
+        return properties -> {
+            ClassPathResource resource = new ClassPathResource(location);
+            if (!location.isEmpty() && resource.exists()) {
+                try {
+                    properties.put("hibernate.javax.cache.uri", resource.getURI().toString());
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        };
+    }
+}
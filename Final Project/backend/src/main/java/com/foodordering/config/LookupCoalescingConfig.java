@@ -0,0 +1,51 @@
+package com.foodordering.config;
+
+import com.foodordering.concurrency.CoalescingProperties;
+import com.foodordering.concurrency.SingleFlight;
+import com.foodordering.dto.ProductDto;
+import com.foodordering.dto.ReviewPageDto;
+import com.foodordering.dto.UserDto;
+import com.foodordering.service.ReviewService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Single-flight lookups for the hot entity reads: a product by id, a page of
+ * a product's reviews, and a user by username, both for authentication and
+ * as a DTO.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+public class LookupCoalescingConfig {
+
+    @Bean
+    public SingleFlight<Long, ProductDto> productLookups(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        return create("product", properties, meterRegistry);
+    }
+
+    @Bean
+    public SingleFlight<ReviewService.FeedKey, ReviewPageDto> reviewFeedLookups(CoalescingProperties properties,
+                                                                               MeterRegistry meterRegistry) {
+        return create("review-feed", properties, meterRegistry);
+    }
+
+    @Bean
+    public SingleFlight<String, UserDetails> userDetailsLookups(CoalescingProperties properties,
+                                                                MeterRegistry meterRegistry) {
+        return create("user-details", properties, meterRegistry);
+    }
+
+    @Bean
+    public SingleFlight<String, UserDto> userLookups(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        return create("user", properties, meterRegistry);
+    }
+
+    private static <K, V> SingleFlight<K, V> create(String lookup, CoalescingProperties properties,
+                                                    MeterRegistry meterRegistry) {
+        return new SingleFlight<>(lookup, properties.getNegativeTtl(), properties.getMaxNegativeEntries(), meterRegistry);
+    }
+}
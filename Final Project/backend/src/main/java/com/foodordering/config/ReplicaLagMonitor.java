@@ -0,0 +1,104 @@
+package com.foodordering.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Periodically checks the read replica and decides whether it may serve reads.
+ *
+ * The replica is taken out of rotation when it cannot be reached or when its
+ * replication lag exceeds {@code replica.max-lag}, and put back on the next
+ * successful check. The first check runs on the scheduler right after
+ * startup rather than while the application starts, so an unreachable
+ * replica does not delay startup; until then reads go to the primary.
+ * Connecting and the lag query are bounded by {@code replica.connection-timeout}
+ * and {@code replica.check-timeout}. Publishes {@code datasource.replica.lag} (seconds) and
+ * {@code datasource.replica.available} (1 or 0).
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replicaDataSource;
+    private final ReplicaDataSourceProperties properties;
+
+    private volatile boolean available;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ReplicaDataSourceProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.properties = properties;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replication lag of the read replica")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .description("Whether read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether read-only transactions may use the replica.
+     */
+    public boolean isReplicaAvailable() {
+        return available;
+    }
+
+    /**
+     * Measure the replica lag and update its availability.
+     */
+    @Scheduled(fixedDelayString = "${replica.lag-check-interval-ms:5000}")
+    public void checkReplica() {
+        boolean nowAvailable;
+        try {
+            lagSeconds = measureLagSeconds();
+            nowAvailable = lagSeconds * 1000 <= properties.getMaxLag().toMillis();
+            if (!nowAvailable && available) {
+                logger.warn("Read replica is {} s behind (max {}), routing reads to the primary",
+                        lagSeconds, properties.getMaxLag());
+            }
+        } catch (SQLException ex) {
+            lagSeconds = Double.NaN;
+            nowAvailable = false;
+            if (available) {
+                logger.warn("Read replica unreachable, routing reads to the primary: {}", ex.getMessage());
+            }
+        }
+        if (nowAvailable && !available) {
+            logger.info("Read replica available, routing read-only transactions to it");
+        }
+        available = nowAvailable;
+    }
+
+    private double measureLagSeconds() throws SQLException {
+        int timeoutSeconds = (int) Math.max(1, properties.getCheckTimeout().toSeconds());
+        try (Connection connection = replicaDataSource.getConnection()) {
+            String lagQuery = properties.getLagQuery();
+            if (lagQuery == null || lagQuery.isBlank()) {
+                if (!connection.isValid(timeoutSeconds)) {
+                    throw new SQLException("Connection validation failed");
+                }
+                return 0;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(timeoutSeconds);
+                try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                    return resultSet.next() ? resultSet.getDouble(1) : 0;
+                }
+            }
+        }
+    }
+}
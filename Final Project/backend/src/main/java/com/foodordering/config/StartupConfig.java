@@ -0,0 +1,55 @@
+package com.foodordering.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Startup configuration.
+ *
+ * The springdoc/OpenAPI beans are only needed when someone opens the API
+ * docs, so they are created on first use instead of during startup. The
+ * flags are set on the bean definitions, so they also end up in the
+ * AOT-generated code of the fast-startup build.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+
+    private static final String[] LAZY_PREFIXES = {"org.springdoc.", "com.foodordering.config.OpenApiConfig"};
+
+    /**
+     * Mark the API documentation beans as lazy.
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyApiDocumentationBeans() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                String source = definition.getBeanClassName();
+                if (source == null && definition.getFactoryBeanName() != null
+                        && beanFactory.containsBeanDefinition(definition.getFactoryBeanName())) {
+                    source = beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName();
+                }
+                if (isLazy(source)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static boolean isLazy(String className) {
+        if (className == null) {
+            return false;
+        }
+        for (String prefix : LAZY_PREFIXES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
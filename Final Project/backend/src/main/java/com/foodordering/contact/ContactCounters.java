@@ -0,0 +1,251 @@
+package com.foodordering.contact;
+
+import com.foodordering.entity.Contact;
+import com.foodordering.entity.ContactStatus;
+import com.foodordering.repository.ContactRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Live counts of contact submissions per status and per day of creation,
+ * so the admin statistics are answered from memory instead of scanning the
+ * contacts table.
+ *
+ * The counts are changed when a submission, status change or deletion
+ * commits, and replaced every {@code contact-statistics.reconcile-interval-ms}
+ * by the result of a single {@code GROUP BY} query; changes committed while
+ * that query runs are carried over. A change racing the query may be counted
+ * twice or not at all until the next reconciliation, which also picks up
+ * changes made by other instances. Per-day counts are kept for the last
+ * {@value #RETAINED_DAYS} days.
+ *
+ * Meters: {@code contact.count} (gauge, tag {@code status}).
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+public class ContactCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContactCounters.class);
+
+    private static final int RETAINED_DAYS = 7;
+
+    private final ContactRepository contactRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private volatile Counts counts = new Counts();
+    private volatile Counts pending;
+    private volatile boolean loaded;
+
+    public ContactCounters(ContactRepository contactRepository, PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.contactRepository = contactRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        for (ContactStatus status : ContactStatus.values()) {
+            Gauge.builder("contact.count", this, counters -> counters.counts.byStatus.get(status).get())
+                    .description("Contact submissions by status")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Count a new submission once the current transaction commits.
+     */
+    public void contactCreated(Contact contact) {
+        LocalDate day = dayOf(contact.getCreatedAt());
+        ContactStatus status = contact.getStatus();
+        afterCommit(() -> apply(status, day, 1));
+    }
+
+    /**
+     * Move a submission between statuses once the current transaction commits.
+     */
+    public void statusChanged(ContactStatus from, ContactStatus to) {
+        if (from == to) {
+            return;
+        }
+        afterCommit(() -> {
+            apply(from, null, -1);
+            apply(to, null, 1);
+        });
+    }
+
+    /**
+     * Uncount a deleted submission once the current transaction commits.
+     */
+    public void contactDeleted(Contact contact) {
+        LocalDate day = dayOf(contact.getCreatedAt());
+        ContactStatus status = contact.getStatus();
+        afterCommit(() -> apply(status, day, -1));
+    }
+
+    /**
+     * Number of submissions.
+     */
+    public long getTotal() {
+        ensureLoaded();
+        long total = 0;
+        for (AtomicLong count : counts.byStatus.values()) {
+            total += count.get();
+        }
+        return total;
+    }
+
+    /**
+     * Number of submissions with the given status.
+     */
+    public long getCount(ContactStatus status) {
+        ensureLoaded();
+        return counts.byStatus.get(status).get();
+    }
+
+    /**
+     * Number of submissions created on the given day, within the retained days.
+     */
+    public long getCountOn(LocalDate day) {
+        ensureLoaded();
+        AtomicLong count = counts.byDay.get(day);
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * Load the counts once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            reconcile();
+        } catch (RuntimeException ex) {
+            logger.warn("Could not load the contact counters; loading them on first use", ex);
+        }
+    }
+
+    /**
+     * Replace the counts with those from the database.
+     */
+    @Scheduled(fixedDelayString = "${contact-statistics.reconcile-interval-ms:300000}",
+            initialDelayString = "${contact-statistics.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        Counts changes = new Counts();
+        swapLock.writeLock().lock();
+        try {
+            pending = changes;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        Counts fresh = new Counts();
+        try {
+            List<Object[]> rows = readOnlyTransaction.execute(status -> contactRepository.countByStatusAndDay());
+            for (Object[] row : rows) {
+                fresh.add((ContactStatus) row[0], (LocalDate) row[1], ((Number) row[2]).longValue());
+            }
+        } catch (RuntimeException ex) {
+            pending = null;
+            throw ex;
+        }
+        swapLock.writeLock().lock();
+        try {
+            fresh.addAll(changes);
+            fresh.byDay.keySet().removeIf(day -> day.isBefore(LocalDate.now().minusDays(RETAINED_DAYS - 1)));
+            long drift = Math.abs(total(fresh) - total(counts));
+            counts = fresh;
+            pending = null;
+            loaded = true;
+            if (drift > 0) {
+                logger.debug("Contact counters were off by {} submissions", drift);
+            }
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            reconcile();
+        }
+    }
+
+    private void apply(ContactStatus status, LocalDate day, long delta) {
+        swapLock.readLock().lock();
+        try {
+            counts.add(status, day, delta);
+            Counts changes = pending;
+            if (changes != null) {
+                changes.add(status, day, delta);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private static LocalDate dayOf(LocalDateTime createdAt) {
+        return createdAt != null ? createdAt.toLocalDate() : null;
+    }
+
+    private static long total(Counts counts) {
+        return counts.byStatus.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    private static final class Counts {
+
+        private final Map<ContactStatus, AtomicLong> byStatus = new EnumMap<>(ContactStatus.class);
+        private final Map<LocalDate, AtomicLong> byDay = new ConcurrentHashMap<>();
+
+        private Counts() {
+            for (ContactStatus status : ContactStatus.values()) {
+                byStatus.put(status, new AtomicLong());
+            }
+        }
+
+        private void add(ContactStatus status, LocalDate day, long delta) {
+            if (status != null) {
+                byStatus.get(status).addAndGet(delta);
+            }
+            if (day != null) {
+                byDay.computeIfAbsent(day, key -> new AtomicLong()).addAndGet(delta);
+            }
+        }
+
+        private void addAll(Counts other) {
+            other.byStatus.forEach((status, count) -> add(status, null, count.get()));
+            other.byDay.forEach((day, count) -> add(null, day, count.get()));
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package com.foodordering.contact;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodordering.entity.Contact;
+import com.foodordering.exception.ContactQueueFullException;
+import com.foodordering.repository.ContactRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind ingestion of public contact form submissions.
+ *
+ * A submission is journaled, queued and acknowledged without touching the
+ * database. A background thread writes queued submissions as one
+ * multi-row insert once {@code batchSize} are waiting or the oldest has
+ * waited {@code maxDelay}. When the queue is full new submissions are
+ * rejected. Failed batches are retried; after {@code maxBatchAttempts}
+ * failures the batch is written row by row, and a row the database rejects
+ * as invalid is moved to the journal's dead-letter file so it cannot hold
+ * up the queue. Submissions still queued at a crash or failed shutdown are
+ * read back from the journal and written on the next start, the same way.
+ * A crash between a batch insert and the journal cleanup can store those
+ * submissions twice.
+ *
+ * Meters: {@code contact.ingestion.queue} and
+ * {@code contact.ingestion.queue.remaining} (gauges),
+ * {@code contact.ingestion.accepted}, {@code contact.ingestion.rejected},
+ * {@code contact.ingestion.flush.failures} and
+ * {@code contact.ingestion.dead.letters} (counters),
+ * {@code contact.ingestion.flush} (timer per batch).
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+public class ContactIngestionBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContactIngestionBuffer.class);
+
+    private static final long MAX_RETRY_BACKOFF_MS = 30_000;
+
+    private final ContactRepository contactRepository;
+    private final ContactCounters contactCounters;
+    private final ContactIngestionProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transaction;
+    private final BlockingQueue<Queued> queue = new LinkedBlockingQueue<>();
+    private final Semaphore capacity;
+    private final Object writeLock = new Object();
+    private final ReentrantLock signalLock = new ReentrantLock();
+    private final Condition batchReady = signalLock.newCondition();
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter flushFailures;
+    private final Counter deadLetters;
+    private final Timer flushTimer;
+
+    private ContactJournal journal;
+    private Thread writer;
+    private volatile boolean running;
+    private int failedAttempts;
+
+    public ContactIngestionBuffer(ContactRepository contactRepository, ContactCounters contactCounters,
+                                  ContactIngestionProperties properties, ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.contactRepository = contactRepository;
+        this.contactCounters = contactCounters;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.capacity = new Semaphore(properties.getQueueCapacity());
+        Gauge.builder("contact.ingestion.queue", queue, BlockingQueue::size)
+                .description("Accepted contact submissions not yet written")
+                .register(meterRegistry);
+        Gauge.builder("contact.ingestion.queue.remaining", capacity, Semaphore::availablePermits)
+                .description("Contact submissions that can still be accepted")
+                .register(meterRegistry);
+        this.accepted = Counter.builder("contact.ingestion.accepted")
+                .description("Contact submissions accepted into the queue")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("contact.ingestion.rejected")
+                .description("Contact submissions rejected because the queue was full")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("contact.ingestion.flush.failures")
+                .description("Contact batches that failed to be written and were retried")
+                .register(meterRegistry);
+        this.deadLetters = Counter.builder("contact.ingestion.dead.letters")
+                .description("Contact submissions the database rejected, moved to the dead-letter file")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("contact.ingestion.flush")
+                .description("Time to write a batch of contact submissions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Write what a previous run left in the journal, then start the writer.
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        journal = new ContactJournal(Path.of(properties.getJournalDirectory()), objectMapper,
+                properties.getJournalSegmentSize().toBytes());
+        for (long segment : journal.recoveredSegments()) {
+            List<ContactSubmission> submissions = journal.read(segment);
+            for (int from = 0; from < submissions.size(); from += properties.getBatchSize()) {
+                recover(submissions.subList(from, Math.min(submissions.size(), from + properties.getBatchSize())));
+            }
+            journal.delete(segment);
+            logger.info("Recovered {} contact submissions from the journal", submissions.size());
+        }
+        running = true;
+        writer = new Thread(this::writeLoop, "contact-ingestion");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Whether submissions go through the buffer.
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Accept a submission for writing. Returns the contact as it will be
+     * stored, without an id.
+     *
+     * @throws ContactQueueFullException when the queue is full
+     */
+    public Contact submit(Contact contact) {
+        if (!capacity.tryAcquire()) {
+            rejected.increment();
+            throw new ContactQueueFullException("Too many contact submissions, please try again shortly");
+        }
+        ContactSubmission submission = ContactSubmission.of(contact, LocalDateTime.now());
+        long segment;
+        try {
+            segment = journal.append(submission);
+        } catch (IOException ex) {
+            capacity.release();
+            throw new UncheckedIOException("Could not journal the contact submission", ex);
+        }
+        queue.add(new Queued(submission, segment, System.nanoTime()));
+        accepted.increment();
+        if (queue.size() >= properties.getBatchSize()) {
+            signal();
+        }
+        return submission.toContact();
+    }
+
+    /**
+     * Write everything accepted so far.
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            while (!queue.isEmpty()) {
+                writeBatch();
+            }
+        }
+    }
+
+    /**
+     * Stop the writer, write what is still queued and close the journal.
+     */
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        signal();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            logger.warn("Could not write {} queued contact submissions on shutdown; "
+                    + "they are kept in the journal", queue.size(), ex);
+        }
+        journal.close();
+    }
+
+    private void writeLoop() {
+        long backoffMs = 0;
+        while (running) {
+            try {
+                if (backoffMs > 0) {
+                    await(TimeUnit.MILLISECONDS.toNanos(backoffMs));
+                } else {
+                    awaitBatch();
+                }
+                if (!running || queue.isEmpty()) {
+                    continue;
+                }
+                synchronized (writeLock) {
+                    writeBatch();
+                }
+                backoffMs = 0;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                flushFailures.increment();
+                backoffMs = Math.min(MAX_RETRY_BACKOFF_MS, Math.max(100, backoffMs * 2));
+                logger.warn("Could not write contact submissions, retrying in {} ms", backoffMs, ex);
+            }
+        }
+    }
+
+    /**
+     * Wait until a full batch is queued or the oldest submission is due.
+     */
+    private void awaitBatch() throws InterruptedException {
+        long maxDelay = properties.getMaxDelay().toNanos();
+        while (running) {
+            Queued oldest = queue.peek();
+            if (oldest == null) {
+                await(maxDelay);
+                continue;
+            }
+            long due = oldest.acceptedNanos() + maxDelay - System.nanoTime();
+            if (queue.size() >= properties.getBatchSize() || due <= 0) {
+                return;
+            }
+            await(due);
+        }
+    }
+
+    /**
+     * Write up to one batch from the head of the queue. Runs under the
+     * write lock; on failure the batch stays queued. A batch that already
+     * failed {@code maxBatchAttempts} times is written row by row.
+     */
+    private void writeBatch() {
+        List<Queued> batch = new ArrayList<>();
+        for (Queued queued : queue) {
+            if (batch.size() == properties.getBatchSize()) {
+                break;
+            }
+            batch.add(queued);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<ContactSubmission> submissions = new ArrayList<>(batch.size());
+        Map<Long, Integer> perSegment = new HashMap<>();
+        for (Queued queued : batch) {
+            submissions.add(queued.submission());
+            perSegment.merge(queued.segment(), 1, Integer::sum);
+        }
+        if (failedAttempts >= properties.getMaxBatchAttempts()) {
+            writeRows(batch);
+            failedAttempts = 0;
+            return;
+        }
+        try {
+            flushTimer.record(() -> insert(submissions));
+        } catch (RuntimeException ex) {
+            failedAttempts++;
+            throw ex;
+        }
+        failedAttempts = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            queue.remove();
+        }
+        capacity.release(batch.size());
+        perSegment.forEach(journal::written);
+    }
+
+    /**
+     * Write a batch one row at a time, taking each row off the queue as soon
+     * as it is written or dead-lettered, so a later failure does not write
+     * it again.
+     */
+    private void writeRows(List<Queued> batch) {
+        for (Queued queued : batch) {
+            insertOrDeadLetter(queued.submission());
+            queue.remove();
+            capacity.release();
+            journal.written(queued.segment(), 1);
+        }
+    }
+
+    /**
+     * Write recovered submissions as one batch, or row by row if the
+     * database rejects the batch.
+     */
+    private void recover(List<ContactSubmission> submissions) {
+        try {
+            insert(submissions);
+        } catch (DataIntegrityViolationException ex) {
+            submissions.forEach(this::insertOrDeadLetter);
+        }
+    }
+
+    /**
+     * Write one submission; if the database rejects it as invalid, move it
+     * to the dead-letter file instead. Any other failure is thrown.
+     */
+    private void insertOrDeadLetter(ContactSubmission submission) {
+        try {
+            insert(List.of(submission));
+        } catch (DataIntegrityViolationException ex) {
+            try {
+                journal.deadLetter(submission);
+            } catch (IOException io) {
+                throw new UncheckedIOException("Could not dead-letter the contact submission", io);
+            }
+            deadLetters.increment();
+            logger.error("Contact submission accepted at {} was rejected by the database; "
+                    + "moved to the dead-letter file", submission.acceptedAt(), ex);
+        }
+    }
+
+    private void insert(List<ContactSubmission> submissions) {
+        List<Contact> contacts = submissions.stream().map(ContactSubmission::toContact).toList();
+        transaction.executeWithoutResult(status -> contactRepository.insertAll(contacts));
+        contacts.forEach(contactCounters::contactCreated);
+    }
+
+    private void signal() {
+        signalLock.lock();
+        try {
+            batchReady.signalAll();
+        } finally {
+            signalLock.unlock();
+        }
+    }
+
+    private void await(long nanos) throws InterruptedException {
+        signalLock.lock();
+        try {
+            batchReady.awaitNanos(nanos);
+        } finally {
+            signalLock.unlock();
+        }
+    }
+
+    private record Queued(ContactSubmission submission, long segment, long acceptedNanos) {
+    }
+}
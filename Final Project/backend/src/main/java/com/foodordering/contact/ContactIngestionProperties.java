@@ -0,0 +1,97 @@
+package com.foodordering.contact;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for buffered contact form ingestion.
+ *
+ * Up to {@code queueCapacity} accepted submissions wait to be written;
+ * they are written once {@code batchSize} are queued or the oldest has
+ * waited {@code maxDelay}. Every submission is first appended to a journal
+ * in {@code journalDirectory}, split into files of about
+ * {@code journalSegmentSize}. A batch that failed {@code maxBatchAttempts}
+ * times is written row by row, and rows the database rejects are moved to
+ * the journal's dead-letter file. When disabled, submissions are saved one by
+ * one as before.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "contact-ingestion")
+public class ContactIngestionProperties {
+
+    private boolean enabled = true;
+
+    private int queueCapacity = 10_000;
+
+    private int batchSize = 200;
+
+    private Duration maxDelay = Duration.ofMillis(200);
+
+    private int maxBatchAttempts = 3;
+
+    private String journalDirectory = "data/contact-journal";
+
+    private DataSize journalSegmentSize = DataSize.ofMegabytes(16);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public void setMaxDelay(Duration maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    public int getMaxBatchAttempts() {
+        return maxBatchAttempts;
+    }
+
+    public void setMaxBatchAttempts(int maxBatchAttempts) {
+        this.maxBatchAttempts = maxBatchAttempts;
+    }
+
+    public String getJournalDirectory() {
+        return journalDirectory;
+    }
+
+    public void setJournalDirectory(String journalDirectory) {
+        this.journalDirectory = journalDirectory;
+    }
+
+    public DataSize getJournalSegmentSize() {
+        return journalSegmentSize;
+    }
+
+    public void setJournalSegmentSize(DataSize journalSegmentSize) {
+        this.journalSegmentSize = journalSegmentSize;
+    }
+}
@@ -0,0 +1,246 @@
+package com.foodordering.contact;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Append-only local journal of accepted contact submissions.
+ *
+ * Each submission is written as a line of JSON and forced to disk before
+ * {@link #append} returns, so an acknowledged submission survives a crash.
+ * Threads appending at the same time share one {@code fsync}. The journal
+ * is split into numbered segment files; a segment is deleted once it is no
+ * longer appended to and all its submissions are reported written with
+ * {@link #written}. Segments left over by a previous run are listed by
+ * {@link #recoveredSegments}. Submissions that can never be written are
+ * moved to a separate dead-letter file with {@link #deadLetter}, which is
+ * kept for inspection and not read back. The directory is locked, so only
+ * one process can use it.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+class ContactJournal implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContactJournal.class);
+
+    private static final String PREFIX = "contacts-";
+    private static final String SUFFIX = ".journal";
+    private static final String DEAD_LETTERS = "dead-letters" + SUFFIX;
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final long segmentSize;
+    private final List<Long> recoveredSegments;
+    private final Map<Long, AtomicInteger> outstanding = new ConcurrentHashMap<>();
+    private final Object appendLock = new Object();
+    private final Object syncLock = new Object();
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+
+    private FileChannel channel;
+    private volatile long segment;
+    private long segmentBytes;
+    private volatile long appended;
+    private long synced;
+
+    ContactJournal(Path directory, ObjectMapper objectMapper, long segmentSize) throws IOException {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve("lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.lock = tryLock(lockChannel);
+        if (lock == null) {
+            lockChannel.close();
+            throw new IOException("Contact journal directory " + directory + " is in use by another process");
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            this.recoveredSegments = files
+                    .map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+        this.segment = recoveredSegments.isEmpty() ? 1 : recoveredSegments.get(recoveredSegments.size() - 1) + 1;
+        this.channel = open(segment);
+    }
+
+    /**
+     * Segments written by a previous run, oldest first.
+     */
+    List<Long> recoveredSegments() {
+        return recoveredSegments;
+    }
+
+    /**
+     * The submissions in a segment. A line that cannot be read, such as a
+     * last line cut short by a crash before it was acknowledged, is skipped.
+     */
+    List<ContactSubmission> read(long segment) throws IOException {
+        List<ContactSubmission> submissions = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path(segment), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    submissions.add(objectMapper.readValue(line, ContactSubmission.class));
+                } catch (JsonProcessingException ex) {
+                    logger.warn("Skipping unreadable entry in contact journal segment {}", segment);
+                }
+            }
+        }
+        return submissions;
+    }
+
+    /**
+     * Durably append a submission and return the segment holding it.
+     */
+    long append(ContactSubmission submission) throws IOException {
+        byte[] line = (objectMapper.writeValueAsString(submission) + "\n").getBytes(StandardCharsets.UTF_8);
+        long position;
+        long holder;
+        synchronized (appendLock) {
+            if (segmentBytes > 0 && segmentBytes + line.length > segmentSize) {
+                rotate();
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            segmentBytes += line.length;
+            holder = segment;
+            outstanding.computeIfAbsent(holder, key -> new AtomicInteger()).incrementAndGet();
+            position = appended + line.length;
+            appended = position;
+        }
+        sync(position);
+        return holder;
+    }
+
+    /**
+     * Report that {@code count} submissions of the segment are in the database.
+     */
+    void written(long segment, int count) {
+        AtomicInteger remaining = outstanding.get(segment);
+        if (remaining != null && remaining.addAndGet(-count) <= 0 && segment != this.segment) {
+            delete(segment);
+        }
+    }
+
+    /**
+     * Durably append a submission that cannot be written to the dead-letter
+     * file. The caller still reports it {@link #written}.
+     */
+    void deadLetter(ContactSubmission submission) throws IOException {
+        byte[] line = (objectMapper.writeValueAsString(submission) + "\n").getBytes(StandardCharsets.UTF_8);
+        try (FileChannel deadLetters = FileChannel.open(directory.resolve(DEAD_LETTERS), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                deadLetters.write(buffer);
+            }
+            deadLetters.force(false);
+        }
+    }
+
+    /**
+     * Delete a segment, e.g. a recovered one once its submissions are written.
+     */
+    void delete(long segment) {
+        outstanding.remove(segment);
+        try {
+            Files.deleteIfExists(path(segment));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (appendLock) {
+            synchronized (syncLock) {
+                channel.force(false);
+                channel.close();
+            }
+            AtomicInteger remaining = outstanding.get(segment);
+            if (remaining == null || remaining.get() <= 0) {
+                delete(segment);
+            }
+            lock.release();
+            lockChannel.close();
+        }
+    }
+
+    /**
+     * Force everything up to {@code position} to disk, unless another
+     * thread's force already covered it.
+     */
+    private void sync(long position) throws IOException {
+        synchronized (syncLock) {
+            if (synced >= position) {
+                return;
+            }
+            long target = appended;
+            channel.force(false);
+            synced = target;
+        }
+    }
+
+    private void rotate() throws IOException {
+        long previous = segment;
+        synchronized (syncLock) {
+            channel.force(false);
+            channel.close();
+            synced = appended;
+            channel = open(previous + 1);
+        }
+        segment = previous + 1;
+        segmentBytes = 0;
+        AtomicInteger remaining = outstanding.get(previous);
+        if (remaining == null || remaining.get() <= 0) {
+            delete(previous);
+        }
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException ex) {
+            return null;
+        }
+    }
+
+    private FileChannel open(long segment) throws IOException {
+        return FileChannel.open(path(segment), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private Path path(long segment) {
+        return directory.resolve(PREFIX + segment + SUFFIX);
+    }
+}
@@ -0,0 +1,33 @@
+package com.foodordering.contact;
+
+import com.foodordering.entity.Contact;
+import com.foodordering.entity.ContactStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * An accepted contact form submission as it is journaled and queued until
+ * it is written to the database.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public record ContactSubmission(String name, String email, String subject, String message, String phoneNumber,
+                                LocalDateTime acceptedAt) {
+
+    static ContactSubmission of(Contact contact, LocalDateTime acceptedAt) {
+        return new ContactSubmission(contact.getName(), contact.getEmail(), contact.getSubject(),
+                contact.getMessage(), contact.getPhoneNumber(), acceptedAt);
+    }
+
+    /**
+     * The contact row to insert.
+     */
+    Contact toContact() {
+        Contact contact = new Contact(name, email, subject, message, phoneNumber);
+        contact.setStatus(ContactStatus.PENDING);
+        contact.setCreatedAt(acceptedAt);
+        contact.setUpdatedAt(acceptedAt);
+        return contact;
+    }
+}
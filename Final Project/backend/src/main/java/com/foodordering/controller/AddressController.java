@@ -1,15 +1,19 @@
 package com.foodordering.controller;
 
 import com.foodordering.dto.AddressDto;
+import com.foodordering.exception.DefaultAddressConflictException;
+import com.foodordering.exception.ResourceNotFoundException;
 import com.foodordering.service.AddressService;
 import com.foodordering.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/user/addresses")
@@ -31,6 +35,12 @@ public class AddressController {
         return addressService.getAddressesByUserId(getCurrentUserId());
     }
 
+    @GetMapping("/default")
+    public ResponseEntity<AddressDto> getDefaultAddress() {
+        AddressDto address = addressService.getDefaultAddress(getCurrentUserId());
+        return address != null ? ResponseEntity.ok(address) : ResponseEntity.noContent().build();
+    }
+
     @PostMapping
     public AddressDto createAddress(@RequestBody AddressDto dto) {
         return addressService.createAddress(getCurrentUserId(), dto);
@@ -52,4 +62,14 @@ public class AddressController {
         addressService.setDefaultAddress(getCurrentUserId(), id);
         return ResponseEntity.ok().build();
     }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleNotFound(ResourceNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", ex.getMessage()));
+    }
+
+    @ExceptionHandler(DefaultAddressConflictException.class)
+    public ResponseEntity<Map<String, String>> handleDefaultConflict(DefaultAddressConflictException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", ex.getMessage()));
+    }
 } 
\ No newline at end of file
@@ -8,6 +8,7 @@ import com.foodordering.entity.User;
 import com.foodordering.entity.UserRole;
 import com.foodordering.exception.InvalidSecretKeyException;
 import com.foodordering.exception.ResourceNotFoundException;
+import com.foodordering.exception.UserAlreadyExistsException;
 import com.foodordering.security.JwtTokenProvider;
 import com.foodordering.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,6 +30,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -100,6 +102,32 @@ public class AuthController {
         return ResponseEntity.status(HttpStatus.CREATED).body(authResponse);
     }
 
+    /**
+     * Check whether a username and/or email is still free, e.g. while the
+     * signup form is being filled in.
+     */
+    @GetMapping("/availability")
+    @Operation(summary = "Check availability", description = "Tells whether a username and/or email can still be registered")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Availability of the given values"),
+        @ApiResponse(responseCode = "400", description = "Neither username nor email given")
+    })
+    public ResponseEntity<Map<String, Boolean>> checkAvailability(
+            @Parameter(description = "Username to check") @RequestParam(required = false) String username,
+            @Parameter(description = "Email to check") @RequestParam(required = false) String email) {
+        if (username == null && email == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        Map<String, Boolean> availability = new LinkedHashMap<>();
+        if (username != null) {
+            availability.put("usernameAvailable", !userService.existsByUsername(username));
+        }
+        if (email != null) {
+            availability.put("emailAvailable", !userService.existsByEmail(email));
+        }
+        return ResponseEntity.ok(availability);
+    }
+
     /**
      * Authenticate user and return JWT tokens.
      */
@@ -308,4 +336,9 @@ public class AuthController {
             return ResponseEntity.badRequest().body("Failed to reset password: " + e.getMessage());
         }
     }
-} 
\ No newline at end of file
+
+    @ExceptionHandler(UserAlreadyExistsException.class)
+    public ResponseEntity<Map<String, String>> handleUserAlreadyExists(UserAlreadyExistsException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", ex.getMessage()));
+    }
+}
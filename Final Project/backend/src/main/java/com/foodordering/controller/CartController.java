@@ -0,0 +1,149 @@
+package com.foodordering.controller;
+
+import com.foodordering.dto.CartDto;
+import com.foodordering.dto.CartItemDto;
+import com.foodordering.dto.OrderDto;
+import com.foodordering.exception.ResourceNotFoundException;
+import com.foodordering.service.CartService;
+import com.foodordering.service.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Cart Controller for the authenticated user's shopping cart.
+ *
+ * Provides endpoints for viewing and editing the cart and for turning it
+ * into an order in one call.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/cart")
+@Tag(name = "Cart", description = "Shopping cart APIs")
+@PreAuthorize("hasRole('USER')")
+public class CartController {
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private UserService userService;
+
+    /**
+     * Get the cart.
+     */
+    @GetMapping
+    @Operation(summary = "Get cart", description = "Retrieves the authenticated user's cart")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Cart retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = CartDto.class))),
+        @ApiResponse(responseCode = "401", description = "Not authenticated")
+    })
+    public ResponseEntity<CartDto> getCart() {
+        return ResponseEntity.ok(cartService.getCart(getCurrentUserId()));
+    }
+
+    /**
+     * Add a product to the cart.
+     */
+    @PostMapping("/items")
+    @Operation(summary = "Add to cart", description = "Adds a quantity of a product to the cart")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Product added",
+                    content = @Content(schema = @Schema(implementation = CartDto.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid quantity or unavailable product"),
+        @ApiResponse(responseCode = "404", description = "Product not found")
+    })
+    public ResponseEntity<CartDto> addItem(
+            @Parameter(description = "Product ID and quantity", required = true)
+            @RequestBody CartItemDto item) {
+        return ResponseEntity.ok(cartService.addItem(getCurrentUserId(), item.getProductId(), item.getQuantity()));
+    }
+
+    /**
+     * Set the quantity of a product in the cart.
+     */
+    @PutMapping("/items/{productId}")
+    @Operation(summary = "Update cart item", description = "Sets the quantity of a product; 0 removes it")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Quantity updated",
+                    content = @Content(schema = @Schema(implementation = CartDto.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid quantity or unavailable product"),
+        @ApiResponse(responseCode = "404", description = "Product not found")
+    })
+    public ResponseEntity<CartDto> updateItem(
+            @Parameter(description = "Product ID", required = true)
+            @PathVariable Long productId,
+            @Parameter(description = "New quantity", required = true)
+            @RequestBody CartItemDto item) {
+        return ResponseEntity.ok(cartService.updateItem(getCurrentUserId(), productId, item.getQuantity()));
+    }
+
+    /**
+     * Remove a product from the cart.
+     */
+    @DeleteMapping("/items/{productId}")
+    @Operation(summary = "Remove cart item", description = "Removes a product from the cart")
+    public ResponseEntity<CartDto> removeItem(
+            @Parameter(description = "Product ID", required = true)
+            @PathVariable Long productId) {
+        return ResponseEntity.ok(cartService.removeItem(getCurrentUserId(), productId));
+    }
+
+    /**
+     * Empty the cart.
+     */
+    @DeleteMapping
+    @Operation(summary = "Clear cart", description = "Removes every product from the cart")
+    public ResponseEntity<Void> clearCart() {
+        cartService.clearCart(getCurrentUserId());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Place an order for the cart contents.
+     */
+    @PostMapping("/checkout")
+    @Operation(summary = "Check out", description = "Places an order for the cart contents and empties the cart")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Order created successfully",
+                    content = @Content(schema = @Schema(implementation = OrderDto.class))),
+        @ApiResponse(responseCode = "400", description = "Cart is empty")
+    })
+    public ResponseEntity<OrderDto> checkout(
+            @Parameter(description = "Delivery address and notes", required = true)
+            @RequestBody OrderDto orderDetails) {
+        OrderDto order = cartService.checkout(getCurrentUserId(), orderDetails);
+        return ResponseEntity.status(HttpStatus.CREATED).body(order);
+    }
+
+    @ExceptionHandler({IllegalArgumentException.class, IllegalStateException.class})
+    public ResponseEntity<Map<String, String>> handleBadRequest(RuntimeException ex) {
+        return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+    }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleNotFound(ResourceNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", ex.getMessage()));
+    }
+
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return userService.findByUsername(authentication.getName()).getId();
+    }
+}
@@ -1,7 +1,11 @@
 package com.foodordering.controller;
 
 import com.foodordering.dto.ContactDto;
+import com.foodordering.dto.ContactSearchFilter;
+import com.foodordering.dto.ContactSearchPageDto;
+import com.foodordering.dto.ContactSummaryDto;
 import com.foodordering.entity.ContactStatus;
+import com.foodordering.exception.ContactQueueFullException;
 import com.foodordering.service.ContactService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,12 +16,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Contact Controller for handling contact form submissions.
@@ -32,6 +38,8 @@ import java.util.List;
 @Tag(name = "Contact", description = "Contact form management APIs")
 public class ContactController {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     @Autowired
     private ContactService contactService;
 
@@ -43,14 +51,18 @@ public class ContactController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Contact form submitted successfully",
                     content = @Content(schema = @Schema(implementation = ContactDto.class))),
-        @ApiResponse(responseCode = "400", description = "Invalid input data")
+        @ApiResponse(responseCode = "202", description = "Contact form accepted and queued for storage",
+                    content = @Content(schema = @Schema(implementation = ContactDto.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input data"),
+        @ApiResponse(responseCode = "503", description = "Too many submissions, retry shortly")
     })
     public ResponseEntity<ContactDto> submitContact(
             @Parameter(description = "Contact form data", required = true)
             @Valid @RequestBody ContactDto contactDto) {
         
         ContactDto savedContact = contactService.submitContact(contactDto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedContact);
+        HttpStatus status = savedContact.getId() != null ? HttpStatus.CREATED : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(savedContact);
     }
 
     /**
@@ -58,14 +70,15 @@ public class ContactController {
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Get all contacts", description = "Get all contact form submissions (admin only)")
+    @Operation(summary = "Get all contacts",
+               description = "Get summaries of all contact form submissions with a message preview (admin only)")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Contacts retrieved successfully",
-                    content = @Content(schema = @Schema(implementation = ContactDto.class))),
+                    content = @Content(schema = @Schema(implementation = ContactSummaryDto.class))),
         @ApiResponse(responseCode = "403", description = "Access forbidden")
     })
-    public ResponseEntity<List<ContactDto>> getAllContacts() {
-        List<ContactDto> contacts = contactService.getAllContacts();
+    public ResponseEntity<List<ContactSummaryDto>> getAllContacts() {
+        List<ContactSummaryDto> contacts = contactService.getAllContacts();
         return ResponseEntity.ok(contacts);
     }
 
@@ -116,26 +129,27 @@ public class ContactController {
      */
     @GetMapping("/status/{status}")
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Get contacts by status", description = "Get contact form submissions by status (admin only)")
+    @Operation(summary = "Get contacts by status", description = "Get summaries of contact form submissions by status (admin only)")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Contacts retrieved successfully",
-                    content = @Content(schema = @Schema(implementation = ContactDto.class))),
+                    content = @Content(schema = @Schema(implementation = ContactSummaryDto.class))),
         @ApiResponse(responseCode = "403", description = "Access forbidden")
     })
-    public ResponseEntity<List<ContactDto>> getContactsByStatus(
+    public ResponseEntity<List<ContactSummaryDto>> getContactsByStatus(
             @Parameter(description = "Contact status", required = true)
             @PathVariable ContactStatus status) {
         
-        List<ContactDto> contacts = contactService.getContactsByStatus(status);
+        List<ContactSummaryDto> contacts = contactService.getContactsByStatus(status);
         return ResponseEntity.ok(contacts);
     }
 
     /**
-     * Search contacts by keyword (admin only).
+     * Search contacts by keyword (admin only). Returns the best matches; use
+     * the inbox search to page through all of them.
      */
     @GetMapping("/search")
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Search contacts", description = "Search contact form submissions by keyword (admin only)")
+    @Operation(summary = "Search contacts", description = "Search contact form submissions by keyword, best matches first (admin only)")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Search results retrieved successfully",
                     content = @Content(schema = @Schema(implementation = ContactDto.class))),
@@ -145,10 +159,32 @@ public class ContactController {
             @Parameter(description = "Search keyword", required = true)
             @RequestParam String keyword) {
         
-        List<ContactDto> contacts = contactService.searchContacts(keyword);
+        List<ContactDto> contacts = contactService.searchContacts(keyword, MAX_PAGE_SIZE);
         return ResponseEntity.ok(contacts);
     }
 
+    /**
+     * Search the contact inbox one page at a time (admin only).
+     */
+    @GetMapping("/inbox")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Search contact inbox",
+               description = "Full-text search with status and date filters, ranked by relevance and paged (admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search results retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = ContactSearchPageDto.class))),
+        @ApiResponse(responseCode = "403", description = "Access forbidden")
+    })
+    public ResponseEntity<ContactSearchPageDto> searchInbox(
+            @Parameter(description = "Query and filters") ContactSearchFilter filter,
+            @Parameter(description = "Page number, from 0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+        
+        ContactSearchPageDto results = contactService.searchInbox(filter, Math.max(0, page),
+                Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        return ResponseEntity.ok(results);
+    }
+
     /**
      * Get contact statistics (admin only).
      */
@@ -182,4 +218,11 @@ public class ContactController {
         contactService.deleteContact(id);
         return ResponseEntity.noContent().build();
     }
-} 
\ No newline at end of file
+
+    @ExceptionHandler(ContactQueueFullException.class)
+    public ResponseEntity<Map<String, String>> handleQueueFull(ContactQueueFullException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", ex.getMessage()));
+    }
+}
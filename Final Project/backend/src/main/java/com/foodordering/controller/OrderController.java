@@ -1,6 +1,7 @@
 package com.foodordering.controller;
 
 import com.foodordering.dto.OrderDto;
+import com.foodordering.dto.OrderSummaryDto;
 import com.foodordering.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -85,16 +86,16 @@ public class OrderController {
      * Get all orders (admin only).
      */
     @GetMapping
-    @Operation(summary = "Get all orders", description = "Retrieves all orders (admin only)")
+    @Operation(summary = "Get all orders", description = "Retrieves summaries of all orders, without items (admin only)")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Orders retrieved successfully",
-                    content = @Content(schema = @Schema(implementation = OrderDto.class))),
+                    content = @Content(schema = @Schema(implementation = OrderSummaryDto.class))),
         @ApiResponse(responseCode = "401", description = "Not authenticated"),
         @ApiResponse(responseCode = "403", description = "Access forbidden")
     })
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<OrderDto>> getAllOrders() {
-        List<OrderDto> orders = orderService.getAllOrders();
+    public ResponseEntity<List<OrderSummaryDto>> getAllOrders() {
+        List<OrderSummaryDto> orders = orderService.getAllOrders();
         return ResponseEntity.ok(orders);
     }
 
@@ -1,10 +1,15 @@
 package com.foodordering.controller;
 
+import com.foodordering.cart.CartStore;
+import com.foodordering.concurrency.SingleFlight;
 import com.foodordering.dto.ProductDto;
+import com.foodordering.dto.ReviewPageDto;
 import com.foodordering.entity.Product;
 import com.foodordering.entity.ProductCategory;
 import com.foodordering.repository.ProductRepository;
 import com.foodordering.repository.ReviewRepository;
+import com.foodordering.repository.ReviewRepository.ProductRating;
+import com.foodordering.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,6 +24,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.springframework.security.access.prepost.PreAuthorize;
 
@@ -41,6 +47,15 @@ public class ProductController {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private SingleFlight<Long, ProductDto> productLookups;
+
+    @Autowired
+    private SingleFlight<ReviewService.FeedKey, ReviewPageDto> reviewFeedLookups;
+
     /**
      * Get all products.
      */
@@ -66,11 +81,7 @@ public class ProductController {
             products = productRepository.findByAvailableTrue();
         }
         
-        List<ProductDto> productDtos = products.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(productDtos);
+        return ResponseEntity.ok(convertToDtos(products));
     }
 
     /**
@@ -80,14 +91,12 @@ public class ProductController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<ProductDto>> getAllProductsAdmin() {
         List<Product> products = productRepository.findAll();
-        List<ProductDto> productDtos = products.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(productDtos);
+        return ResponseEntity.ok(convertToDtos(products));
     }
 
     /**
-     * Get product by ID.
+     * Get product by ID. Concurrent requests for the same product share one
+     * lookup, and a missing product is remembered briefly.
      */
     @GetMapping("/{id}")
     @Operation(summary = "Get product by ID", description = "Retrieves a specific product by its ID")
@@ -100,14 +109,14 @@ public class ProductController {
             @Parameter(description = "Product ID", required = true)
             @PathVariable Long id) {
         
-        Product product = productRepository.findById(id)
-                .orElse(null);
+        ProductDto product = productLookups.get(id,
+                () -> productRepository.findById(id).map(this::convertToDto).orElse(null));
         
         if (product == null) {
             return ResponseEntity.notFound().build();
         }
         
-        return ResponseEntity.ok(convertToDto(product));
+        return ResponseEntity.ok(product);
     }
 
     /**
@@ -135,6 +144,8 @@ public class ProductController {
         product.setStockQuantity(productDto.getStockQuantity());
         
         Product savedProduct = productRepository.save(product);
+        productLookups.forget(savedProduct.getId());
+        reviewFeedLookups.forgetIf(key -> savedProduct.getId().equals(key.productId()));
         
         return ResponseEntity.status(HttpStatus.CREATED).body(convertToDto(savedProduct));
     }
@@ -195,15 +206,36 @@ public class ProductController {
             return ResponseEntity.notFound().build();
         }
         
+        cartStore.removeProduct(id);
         productRepository.deleteById(id);
         
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Convert products to DTOs, loading all average ratings in one query.
+     */
+    List<ProductDto> convertToDtos(List<Product> products) {
+        if (products.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Double> ratings = reviewRepository.findAverageRatingsByProductIds(
+                        products.stream().map(Product::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(ProductRating::getProductId, ProductRating::getAverageRating));
+        return products.stream()
+                .map(product -> convertToDto(product, ratings.get(product.getId())))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Convert Product entity to ProductDto.
      */
-    private ProductDto convertToDto(Product product) {
+    ProductDto convertToDto(Product product) {
+        return convertToDto(product, reviewRepository.findAverageRatingByProductId(product.getId()));
+    }
+
+    private ProductDto convertToDto(Product product, Double averageRating) {
         ProductDto dto = new ProductDto(
                 product.getId(),
                 product.getName(),
@@ -216,14 +248,7 @@ public class ProductController {
                 product.getUpdatedAt()
         );
         dto.setStockQuantity(product.getStockQuantity());
-        // Calculate average rating
-        var reviews = reviewRepository.findByProductId(product.getId());
-        if (reviews != null && !reviews.isEmpty()) {
-            double avg = reviews.stream().mapToInt(r -> r.getRating()).average().orElse(Double.NaN);
-            dto.setAverageRating(Double.isNaN(avg) ? null : avg);
-        } else {
-            dto.setAverageRating(null);
-        }
+        dto.setAverageRating(averageRating);
         return dto;
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.foodordering.controller;
+
+import com.foodordering.dto.OrderStatusDto;
+import com.foodordering.dto.ProductDto;
+import com.foodordering.dto.ReviewDto;
+import com.foodordering.entity.OrderStatus;
+import com.foodordering.entity.ProductCategory;
+import com.foodordering.repository.ReactiveCatalogRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * REST Controller for the non-blocking read API.
+ *
+ * Serves the same product, review and order status shapes as the blocking
+ * endpoints, read over R2DBC. Lists are returned as a JSON array by default
+ * and streamed element by element when the client accepts
+ * {@code application/x-ndjson} or {@code text/event-stream}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/reactive")
+@Tag(name = "Reactive Reads", description = "Non-blocking read API for products, reviews and order status")
+@CrossOrigin(origins = "*")
+public class ReactiveCatalogController {
+
+    @Autowired
+    private ReactiveCatalogRepository catalogRepository;
+
+    @Value("${reactive.order-status-poll-interval:2s}")
+    private Duration orderStatusPollInterval;
+
+    /**
+     * Get available products.
+     */
+    @GetMapping("/products")
+    @Operation(summary = "Stream available products", description = "Available products, optionally filtered by category or search term")
+    public Flux<ProductDto> getProducts(
+            @Parameter(description = "Product category filter")
+            @RequestParam(required = false) ProductCategory category,
+            @Parameter(description = "Search term")
+            @RequestParam(required = false) String search) {
+        String term = search != null && !search.trim().isEmpty() ? search.trim() : null;
+        return catalogRepository.findAvailableProducts(category, term);
+    }
+
+    /**
+     * Get product by ID.
+     */
+    @GetMapping("/products/{id}")
+    @Operation(summary = "Get product by ID")
+    public Mono<ProductDto> getProduct(@PathVariable Long id) {
+        return catalogRepository.findProductById(id)
+                .switchIfEmpty(Mono.error(() -> notFound("Product not found with id: " + id)));
+    }
+
+    /**
+     * Get the reviews of a product, newest first.
+     */
+    @GetMapping("/products/{productId}/reviews")
+    @Operation(summary = "Stream product reviews")
+    public Flux<ReviewDto> getReviews(@PathVariable Long productId) {
+        return catalogRepository.existsProductById(productId)
+                .flatMapMany(exists -> exists
+                        ? catalogRepository.findReviewsByProductId(productId)
+                        : Flux.error(notFound("Product not found with id: " + productId)));
+    }
+
+    /**
+     * Get the current status of an order.
+     */
+    @GetMapping("/orders/{orderId}/status")
+    @Operation(summary = "Get order status", description = "Available to the customer who placed the order and to admins")
+    public Mono<OrderStatusDto> getOrderStatus(@PathVariable Long orderId, Authentication authentication) {
+        return findOwnedOrderStatus(orderId, authentication);
+    }
+
+    /**
+     * Stream status changes of an order as server-sent events until it is delivered or cancelled.
+     */
+    @GetMapping(value = "/orders/{orderId}/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream order status changes", description = "Emits the current status, then every change until the order is delivered or cancelled")
+    public Flux<OrderStatusDto> streamOrderStatus(@PathVariable Long orderId, Authentication authentication) {
+        return findOwnedOrderStatus(orderId, authentication)
+                .flatMapMany(first -> Flux.interval(orderStatusPollInterval)
+                        .concatMap(tick -> catalogRepository.findOrderStatus(orderId))
+                        .map(ReactiveCatalogRepository.OwnedOrderStatus::status)
+                        .startWith(first))
+                .distinctUntilChanged(OrderStatusDto::getStatus)
+                .takeUntil(status -> status.getStatus() == OrderStatus.DELIVERED
+                        || status.getStatus() == OrderStatus.CANCELLED);
+    }
+
+    private Mono<OrderStatusDto> findOwnedOrderStatus(Long orderId, Authentication authentication) {
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        return catalogRepository.findOrderStatus(orderId)
+                .filter(owned -> admin || owned.username().equals(authentication.getName()))
+                .map(ReactiveCatalogRepository.OwnedOrderStatus::status)
+                .switchIfEmpty(Mono.error(() -> notFound("Order not found with id: " + orderId)));
+    }
+
+    private static ResponseStatusException notFound(String message) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, message);
+    }
+}
@@ -1,55 +1,80 @@
 package com.foodordering.controller;
 
 import com.foodordering.entity.Review;
+import com.foodordering.exception.ResourceNotFoundException;
+import com.foodordering.repository.ReviewFeedRepository;
 import com.foodordering.service.ReviewService;
 import com.foodordering.service.UserService;
+import com.foodordering.dto.RatingHistogramDto;
 import com.foodordering.dto.ReviewDto;
+import com.foodordering.dto.ReviewPageDto;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/products")
 @CrossOrigin(origins = "*")
 public class ReviewController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private ReviewService reviewService;
 
     @Autowired
     private UserService userService;
 
+    /**
+     * The newest reviews of a product, first page only.
+     */
     @GetMapping("/{productId}/reviews")
-    public ResponseEntity<List<ReviewDto>> getReviewsByProduct(@PathVariable Long productId) {
-        List<Review> reviews = reviewService.getReviewsByProduct(productId);
-        List<ReviewDto> dtos = reviews.stream().map(r -> new ReviewDto(
-            r.getId(),
-            r.getRating(),
-            r.getComment(),
-            r.getUser() != null ? r.getUser().getUsername() : null,
-            r.getCreatedAt()
-        )).collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<List<ReviewDto>> getReviewsByProduct(@PathVariable Long productId,
+                                                               @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(reviewService.getReviewFeed(productId, ReviewFeedRepository.Sort.RECENT, null,
+                pageSize(size)).getReviews());
+    }
+
+    /**
+     * A product's reviews one keyset page at a time, newest or best rated first.
+     */
+    @GetMapping("/{productId}/reviews/feed")
+    public ReviewPageDto getReviewFeed(@PathVariable Long productId,
+                                       @RequestParam(defaultValue = "RECENT") ReviewFeedRepository.Sort sort,
+                                       @RequestParam(required = false) String after,
+                                       @RequestParam(defaultValue = "20") int size) {
+        return reviewService.getReviewFeed(productId, sort, after, pageSize(size));
     }
 
+    /**
+     * Number of reviews of a product per star rating.
+     */
+    @GetMapping("/{productId}/reviews/histogram")
+    public RatingHistogramDto getRatingHistogram(@PathVariable Long productId) {
+        return reviewService.getRatingHistogram(productId);
+    }
+
+    /**
+     * The newest reviews of all products, first page only.
+     */
     @GetMapping("/all-reviews")
-    public ResponseEntity<List<ReviewDto>> getAllReviews() {
-        List<Review> reviews = reviewService.getAllReviewsWithUserAndProduct();
-        List<ReviewDto> dtos = reviews.stream().map(r -> new ReviewDto(
-            r.getId(),
-            r.getRating(),
-            r.getComment(),
-            r.getUser() != null ? r.getUser().getUsername() : null,
-            r.getCreatedAt(),
-            r.getProduct() != null ? r.getProduct().getId() : null,
-            r.getProduct() != null ? r.getProduct().getName() : null
-        )).collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<List<ReviewDto>> getAllReviews(@RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(reviewService.getReviewFeed(null, ReviewFeedRepository.Sort.RECENT, null,
+                pageSize(size)).getReviews());
+    }
+
+    /**
+     * Reviews of all products one keyset page at a time, newest first.
+     */
+    @GetMapping("/all-reviews/feed")
+    public ReviewPageDto getAllReviewsFeed(@RequestParam(required = false) String after,
+                                           @RequestParam(defaultValue = "50") int size) {
+        return reviewService.getReviewFeed(null, ReviewFeedRepository.Sort.RECENT, after, pageSize(size));
     }
 
     @PostMapping("/{productId}/reviews")
@@ -87,4 +112,18 @@ public class ReviewController {
         reviewService.deleteReview(reviewId, userId);
         return ResponseEntity.ok().build();
     }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException ex) {
+        return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+    }
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleNotFound(ResourceNotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", ex.getMessage()));
+    }
+
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
 } 
\ No newline at end of file
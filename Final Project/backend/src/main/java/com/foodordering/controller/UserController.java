@@ -2,6 +2,8 @@ package com.foodordering.controller;
 
 import com.foodordering.dto.UserDto;
 import com.foodordering.dto.AdminUserDto;
+import com.foodordering.dto.UserDirectoryFilter;
+import com.foodordering.dto.UserDirectoryPageDto;
 import com.foodordering.dto.PasswordResetRequest;
 import com.foodordering.entity.UserRole;
 import com.foodordering.service.UserService;
@@ -15,6 +17,8 @@ import java.util.Map;
 @RestController
 @RequestMapping("/users")
 public class UserController {
+    private static final int MAX_PAGE_SIZE = 200;
+
     @Autowired
     private UserService userService;
 
@@ -24,6 +28,17 @@ public class UserController {
         return userService.findAllUsers();
     }
 
+    /**
+     * Search the user directory one keyset page at a time.
+     */
+    @GetMapping("/directory")
+    @PreAuthorize("hasRole('ADMIN')")
+    public UserDirectoryPageDto getUserDirectory(UserDirectoryFilter filter,
+                                                 @RequestParam(required = false) Long after,
+                                                 @RequestParam(defaultValue = "50") int size) {
+        return userService.searchUserDirectory(filter, after, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     public UserDto createUser(@RequestBody AdminUserDto userDto) {
@@ -0,0 +1,61 @@
+package com.foodordering.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a user's cart, priced at current product prices.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class CartDto {
+
+    private Long userId;
+    private List<CartItemDto> items;
+    private BigDecimal totalAmount;
+    private int itemCount;
+
+    // Constructors
+    public CartDto() {}
+
+    public CartDto(Long userId, List<CartItemDto> items, BigDecimal totalAmount, int itemCount) {
+        this.userId = userId;
+        this.items = items;
+        this.totalAmount = totalAmount;
+        this.itemCount = itemCount;
+    }
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public List<CartItemDto> getItems() {
+        return items;
+    }
+
+    public void setItems(List<CartItemDto> items) {
+        this.items = items;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+}
@@ -0,0 +1,73 @@
+package com.foodordering.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for a product in the cart.
+ *
+ * As a request body only {@code productId} and {@code quantity} are used.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class CartItemDto {
+
+    private Long productId;
+    private String productName;
+    private String productImageUrl;
+    private BigDecimal price;
+    private Integer quantity;
+
+    // Constructors
+    public CartItemDto() {}
+
+    public CartItemDto(Long productId, String productName, String productImageUrl,
+                       BigDecimal price, Integer quantity) {
+        this.productId = productId;
+        this.productName = productName;
+        this.productImageUrl = productImageUrl;
+        this.price = price;
+        this.quantity = quantity;
+    }
+
+    // Getters and Setters
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    public String getProductImageUrl() {
+        return productImageUrl;
+    }
+
+    public void setProductImageUrl(String productImageUrl) {
+        this.productImageUrl = productImageUrl;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,68 @@
+package com.foodordering.dto;
+
+import com.foodordering.entity.ContactStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Query and filters for the contact inbox search. Every field is optional.
+ *
+ * {@code q} uses web search syntax: all words must occur, {@code "quoted
+ * phrases"} are matched as phrases, {@code or} between words accepts
+ * either and {@code -word} excludes a word.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class ContactSearchFilter {
+
+    private String q;
+    private ContactStatus status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    // Constructors
+    public ContactSearchFilter() {}
+
+    public ContactSearchFilter(String q) {
+        this.q = q;
+    }
+
+    // Getters and Setters
+    public String getQ() {
+        return q;
+    }
+
+    public void setQ(String q) {
+        this.q = q;
+    }
+
+    public ContactStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ContactStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public void setCreatedFrom(LocalDateTime createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+
+    public LocalDateTime getCreatedTo() {
+        return createdTo;
+    }
+
+    public void setCreatedTo(LocalDateTime createdTo) {
+        this.createdTo = createdTo;
+    }
+}
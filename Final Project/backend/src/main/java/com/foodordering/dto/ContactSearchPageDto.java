@@ -0,0 +1,61 @@
+package com.foodordering.dto;
+
+import java.util.List;
+
+/**
+ * One page of contact inbox search results, best matches first (newest
+ * first without a query).
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class ContactSearchPageDto {
+
+    private List<ContactDto> contacts;
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    // Constructors
+    public ContactSearchPageDto() {}
+
+    public ContactSearchPageDto(List<ContactDto> contacts, int page, int size, boolean hasNext) {
+        this.contacts = contacts;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+
+    // Getters and Setters
+    public List<ContactDto> getContacts() {
+        return contacts;
+    }
+
+    public void setContacts(List<ContactDto> contacts) {
+        this.contacts = contacts;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
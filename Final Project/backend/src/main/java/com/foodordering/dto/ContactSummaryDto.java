@@ -0,0 +1,115 @@
+package com.foodordering.dto;
+
+import com.foodordering.entity.ContactStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Contact form submission as shown in the admin inbox list.
+ *
+ * Carries only the start of the message; the full message is on the
+ * contact detail. Built directly by a JPQL constructor expression.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class ContactSummaryDto {
+
+    /**
+     * Characters of the message shown in the list.
+     */
+    public static final int PREVIEW_LENGTH = 120;
+
+    private Long id;
+    private String name;
+    private String email;
+    private String subject;
+    private String messagePreview;
+    private boolean messageTruncated;
+    private ContactStatus status;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public ContactSummaryDto() {}
+
+    /**
+     * @param messageStart the first {@code PREVIEW_LENGTH + 1} characters of
+     *                     the message, so a longer message can be recognised
+     */
+    public ContactSummaryDto(Long id, String name, String email, String subject, String messageStart,
+                             ContactStatus status, LocalDateTime createdAt) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.subject = subject;
+        this.messageTruncated = messageStart != null && messageStart.length() > PREVIEW_LENGTH;
+        this.messagePreview = messageTruncated ? messageStart.substring(0, PREVIEW_LENGTH) : messageStart;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public String getMessagePreview() {
+        return messagePreview;
+    }
+
+    public void setMessagePreview(String messagePreview) {
+        this.messagePreview = messagePreview;
+    }
+
+    public boolean isMessageTruncated() {
+        return messageTruncated;
+    }
+
+    public void setMessageTruncated(boolean messageTruncated) {
+        this.messageTruncated = messageTruncated;
+    }
+
+    public ContactStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ContactStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,42 @@
+package com.foodordering.dto;
+
+import com.foodordering.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the current status of an order.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class OrderStatusDto {
+
+    private Long orderId;
+    private OrderStatus status;
+    private LocalDateTime estimatedDeliveryTime;
+    private LocalDateTime actualDeliveryTime;
+    private LocalDateTime updatedAt;
+
+    public OrderStatusDto() {}
+
+    public OrderStatusDto(Long orderId, OrderStatus status, LocalDateTime estimatedDeliveryTime,
+                          LocalDateTime actualDeliveryTime, LocalDateTime updatedAt) {
+        this.orderId = orderId;
+        this.status = status;
+        this.estimatedDeliveryTime = estimatedDeliveryTime;
+        this.actualDeliveryTime = actualDeliveryTime;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getOrderId() { return orderId; }
+    public void setOrderId(Long orderId) { this.orderId = orderId; }
+    public OrderStatus getStatus() { return status; }
+    public void setStatus(OrderStatus status) { this.status = status; }
+    public LocalDateTime getEstimatedDeliveryTime() { return estimatedDeliveryTime; }
+    public void setEstimatedDeliveryTime(LocalDateTime estimatedDeliveryTime) { this.estimatedDeliveryTime = estimatedDeliveryTime; }
+    public LocalDateTime getActualDeliveryTime() { return actualDeliveryTime; }
+    public void setActualDeliveryTime(LocalDateTime actualDeliveryTime) { this.actualDeliveryTime = actualDeliveryTime; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,95 @@
+package com.foodordering.dto;
+
+import com.foodordering.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Order as shown in the admin order list, without items or notes; those
+ * are on the order detail. Built directly by a JPQL constructor expression.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class OrderSummaryDto {
+
+    private Long id;
+    private Long userId;
+    private BigDecimal totalAmount;
+    private OrderStatus status;
+    private LocalDateTime orderDate;
+    private String deliveryAddress;
+    private LocalDateTime estimatedDeliveryTime;
+
+    // Constructors
+    public OrderSummaryDto() {}
+
+    public OrderSummaryDto(Long id, Long userId, BigDecimal totalAmount, OrderStatus status,
+                           LocalDateTime orderDate, String deliveryAddress, LocalDateTime estimatedDeliveryTime) {
+        this.id = id;
+        this.userId = userId;
+        this.totalAmount = totalAmount;
+        this.status = status;
+        this.orderDate = orderDate;
+        this.deliveryAddress = deliveryAddress;
+        this.estimatedDeliveryTime = estimatedDeliveryTime;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getOrderDate() {
+        return orderDate;
+    }
+
+    public void setOrderDate(LocalDateTime orderDate) {
+        this.orderDate = orderDate;
+    }
+
+    public String getDeliveryAddress() {
+        return deliveryAddress;
+    }
+
+    public void setDeliveryAddress(String deliveryAddress) {
+        this.deliveryAddress = deliveryAddress;
+    }
+
+    public LocalDateTime getEstimatedDeliveryTime() {
+        return estimatedDeliveryTime;
+    }
+
+    public void setEstimatedDeliveryTime(LocalDateTime estimatedDeliveryTime) {
+        this.estimatedDeliveryTime = estimatedDeliveryTime;
+    }
+}
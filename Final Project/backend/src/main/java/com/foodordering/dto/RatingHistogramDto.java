@@ -0,0 +1,60 @@
+package com.foodordering.dto;
+
+import java.util.Map;
+
+/**
+ * Number of reviews of a product per star rating.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class RatingHistogramDto {
+
+    private Long productId;
+    private Map<Integer, Long> counts;
+    private long totalReviews;
+    private Double averageRating;
+
+    // Constructors
+    public RatingHistogramDto() {}
+
+    public RatingHistogramDto(Long productId, Map<Integer, Long> counts, long totalReviews, Double averageRating) {
+        this.productId = productId;
+        this.counts = counts;
+        this.totalReviews = totalReviews;
+        this.averageRating = averageRating;
+    }
+
+    // Getters and Setters
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Map<Integer, Long> getCounts() {
+        return counts;
+    }
+
+    public void setCounts(Map<Integer, Long> counts) {
+        this.counts = counts;
+    }
+
+    public long getTotalReviews() {
+        return totalReviews;
+    }
+
+    public void setTotalReviews(long totalReviews) {
+        this.totalReviews = totalReviews;
+    }
+
+    public Double getAverageRating() {
+        return averageRating;
+    }
+
+    public void setAverageRating(Double averageRating) {
+        this.averageRating = averageRating;
+    }
+}
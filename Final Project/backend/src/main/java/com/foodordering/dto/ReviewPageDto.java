@@ -0,0 +1,43 @@
+package com.foodordering.dto;
+
+import java.util.List;
+
+/**
+ * One page of a review feed.
+ *
+ * Pass {@code nextCursor} as the {@code after} parameter, with the same
+ * sort, to get the next page; it is null on the last page.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class ReviewPageDto {
+
+    private List<ReviewDto> reviews;
+    private String nextCursor;
+
+    // Constructors
+    public ReviewPageDto() {}
+
+    public ReviewPageDto(List<ReviewDto> reviews, String nextCursor) {
+        this.reviews = reviews;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<ReviewDto> getReviews() {
+        return reviews;
+    }
+
+    public void setReviews(List<ReviewDto> reviews) {
+        this.reviews = reviews;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
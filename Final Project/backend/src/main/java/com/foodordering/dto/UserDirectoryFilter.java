@@ -0,0 +1,75 @@
+package com.foodordering.dto;
+
+import com.foodordering.entity.UserRole;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters for the admin user directory. Every filter is optional.
+ *
+ * {@code search} matches the username or email case-insensitively: terms of
+ * three or more characters anywhere in the value, shorter terms as a prefix.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class UserDirectoryFilter {
+
+    /** Terms shorter than this are matched as a prefix; trigram indexes need three characters. */
+    public static final int MIN_SUBSTRING_LENGTH = 3;
+
+    private String search;
+    private UserRole role;
+    private Boolean active;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    // Constructors
+    public UserDirectoryFilter() {}
+
+    // Getters and Setters
+    public String getSearch() {
+        return search;
+    }
+
+    public void setSearch(String search) {
+        this.search = search;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    public void setRole(UserRole role) {
+        this.role = role;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public void setCreatedFrom(LocalDateTime createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+
+    public LocalDateTime getCreatedTo() {
+        return createdTo;
+    }
+
+    public void setCreatedTo(LocalDateTime createdTo) {
+        this.createdTo = createdTo;
+    }
+}
@@ -0,0 +1,43 @@
+package com.foodordering.dto;
+
+import java.util.List;
+
+/**
+ * One page of the admin user directory, newest accounts first.
+ *
+ * Pass {@code nextAfter} as the {@code after} parameter to get the next
+ * page; it is null on the last page.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class UserDirectoryPageDto {
+
+    private List<UserDto> users;
+    private Long nextAfter;
+
+    // Constructors
+    public UserDirectoryPageDto() {}
+
+    public UserDirectoryPageDto(List<UserDto> users, Long nextAfter) {
+        this.users = users;
+        this.nextAfter = nextAfter;
+    }
+
+    // Getters and Setters
+    public List<UserDto> getUsers() {
+        return users;
+    }
+
+    public void setUsers(List<UserDto> users) {
+        this.users = users;
+    }
+
+    public Long getNextAfter() {
+        return nextAfter;
+    }
+
+    public void setNextAfter(Long nextAfter) {
+        this.nextAfter = nextAfter;
+    }
+}
@@ -2,6 +2,11 @@ package com.foodordering.entity;
 
 import jakarta.persistence.*;
 
+/**
+ * A delivery address of a user. Not in the second-level cache: reads go
+ * through {@link com.foodordering.address.AddressBookCache}, and the bulk
+ * updates that switch the default address would evict the whole region.
+ */
 @Entity
 @Table(name = "addresses")
 public class Address {
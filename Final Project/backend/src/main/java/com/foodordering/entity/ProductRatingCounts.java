@@ -0,0 +1,58 @@
+package com.foodordering.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Number of reviews of a product per star rating, updated together with
+ * the reviews so the rating distribution is read from one row.
+ */
+@Entity
+@Table(name = "product_rating_counts")
+public class ProductRatingCounts {
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "stars_1", nullable = false)
+    private long stars1;
+
+    @Column(name = "stars_2", nullable = false)
+    private long stars2;
+
+    @Column(name = "stars_3", nullable = false)
+    private long stars3;
+
+    @Column(name = "stars_4", nullable = false)
+    private long stars4;
+
+    @Column(name = "stars_5", nullable = false)
+    private long stars5;
+
+    /**
+     * Number of reviews with the given rating, from 1 to 5.
+     */
+    public long getCount(int rating) {
+        return switch (rating) {
+            case 1 -> stars1;
+            case 2 -> stars2;
+            case 3 -> stars3;
+            case 4 -> stars4;
+            case 5 -> stars5;
+            default -> throw new IllegalArgumentException("Rating must be between 1 and 5");
+        };
+    }
+
+    // Getters & Setters
+    public Long getProductId() { return productId; }
+    public void setProductId(Long productId) { this.productId = productId; }
+    public long getStars1() { return stars1; }
+    public void setStars1(long stars1) { this.stars1 = stars1; }
+    public long getStars2() { return stars2; }
+    public void setStars2(long stars2) { this.stars2 = stars2; }
+    public long getStars3() { return stars3; }
+    public void setStars3(long stars3) { this.stars3 = stars3; }
+    public long getStars4() { return stars4; }
+    public void setStars4(long stars4) { this.stars4 = stars4; }
+    public long getStars5() { return stars5; }
+    public void setStars5(long stars5) { this.stars5 = stars5; }
+}
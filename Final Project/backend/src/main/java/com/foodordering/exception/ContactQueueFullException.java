@@ -0,0 +1,15 @@
+package com.foodordering.exception;
+
+/**
+ * Exception thrown when the contact ingestion queue cannot take another
+ * submission.
+ * 
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class ContactQueueFullException extends RuntimeException {
+
+    public ContactQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.foodordering.exception;
+
+/**
+ * Exception thrown when a user's default address changed concurrently and
+ * the database rejected a second default.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class DefaultAddressConflictException extends RuntimeException {
+
+    public DefaultAddressConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
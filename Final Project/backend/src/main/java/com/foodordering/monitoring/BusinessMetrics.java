@@ -0,0 +1,71 @@
+package com.foodordering.monitoring;
+
+import com.foodordering.entity.OrderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Business-level counters.
+ *
+ * <ul>
+ *   <li>{@code orders.created}: orders placed</li>
+ *   <li>{@code orders.status.transitions}: status changes, tagged {@code from} and {@code to}</li>
+ *   <li>{@code auth.login.failures}: failed logins, tagged with the failure {@code reason}</li>
+ * </ul>
+ *
+ * Order counters are incremented once the current transaction commits, so
+ * an order that is rolled back is not counted.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+public class BusinessMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter ordersCreated;
+
+    public BusinessMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.ordersCreated = Counter.builder("orders.created")
+                .description("Orders placed")
+                .register(meterRegistry);
+    }
+
+    public void orderCreated() {
+        afterCommit(ordersCreated::increment);
+    }
+
+    public void orderStatusChanged(OrderStatus from, OrderStatus to) {
+        Counter transitions = Counter.builder("orders.status.transitions")
+                .description("Order status changes")
+                .tag("from", from != null ? from.name() : "NONE")
+                .tag("to", to.name())
+                .register(meterRegistry);
+        afterCommit(transitions::increment);
+    }
+
+    public void loginFailed(String reason) {
+        Counter.builder("auth.login.failures")
+                .description("Failed login attempts")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
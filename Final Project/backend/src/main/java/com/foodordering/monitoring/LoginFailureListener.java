@@ -0,0 +1,27 @@
+package com.foodordering.monitoring;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts failed logins from the authentication events Spring Security
+ * publishes, so the login flow itself needs no metrics code.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+public class LoginFailureListener {
+
+    private final BusinessMetrics businessMetrics;
+
+    public LoginFailureListener(BusinessMetrics businessMetrics) {
+        this.businessMetrics = businessMetrics;
+    }
+
+    @EventListener
+    public void onFailure(AbstractAuthenticationFailureEvent event) {
+        businessMetrics.loginFailed(event.getException().getClass().getSimpleName());
+    }
+}
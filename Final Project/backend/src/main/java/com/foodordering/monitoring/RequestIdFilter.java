@@ -0,0 +1,67 @@
+package com.foodordering.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Tags every log line written while serving a request with a request id.
+ *
+ * The id is taken from the {@value #HEADER} request header when the caller
+ * (or a proxy) sent a well-formed one, otherwise generated. It is put in the
+ * {@value #MDC_KEY} MDC entry for the whole filter chain, including the
+ * security filters and the services they call, and echoed in the response
+ * header. Async dispatches reuse the id of the original request.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    private static final String ATTRIBUTE = RequestIdFilter.class.getName() + ".ID";
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String requestId = (String) request.getAttribute(ATTRIBUTE);
+        if (requestId == null) {
+            requestId = resolve(request.getHeader(HEADER));
+            request.setAttribute(ATTRIBUTE, requestId);
+            response.setHeader(HEADER, requestId);
+        }
+        MDC.put(MDC_KEY, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    private static String resolve(String header) {
+        if (header != null && VALID_ID.matcher(header).matches()) {
+            return header;
+        }
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,42 @@
+package com.foodordering.monitoring;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logback filter that lets through a random fraction of the events it sees.
+ *
+ * Used in logback-spring.xml in front of the slow query log, so a burst of
+ * slow statements under load yields a representative sample instead of a
+ * log line per statement. Aggregate query timings remain available in
+ * the Hibernate metrics.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class SamplingLogFilter extends Filter<ILoggingEvent> {
+
+    private double sampleRate = 1.0;
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Fraction of events to keep, from 0 (none) to 1 (all).
+     */
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
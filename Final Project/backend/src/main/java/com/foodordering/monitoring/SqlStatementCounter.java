@@ -0,0 +1,53 @@
+package com.foodordering.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector that counts the SQL statements prepared on
+ * the current thread.
+ *
+ * Counting only happens between {@link #start()} and {@link #stop()}, which
+ * {@link SqlStatementCountingFilter} calls around every HTTP request. Work on
+ * other threads (scheduled jobs, async tasks) is not counted.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Start counting on the current thread, discarding any previous count.
+     */
+    public static void start() {
+        CURRENT.set(new int[1]);
+    }
+
+    /**
+     * Stop counting on the current thread and return the number of statements
+     * seen since {@link #start()}.
+     */
+    public static int stop() {
+        int[] count = CURRENT.get();
+        CURRENT.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    /**
+     * Number of statements seen so far on the current thread.
+     */
+    public static int current() {
+        int[] count = CURRENT.get();
+        return count != null ? count[0] : 0;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = CURRENT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
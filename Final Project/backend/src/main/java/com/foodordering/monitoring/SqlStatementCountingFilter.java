@@ -0,0 +1,84 @@
+package com.foodordering.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements each HTTP request issues.
+ *
+ * Runs ahead of the security filters so statements issued during
+ * authentication are included. The count is recorded in the
+ * {@code http.server.requests.sql.statements} distribution summary, tagged
+ * with the method and the matched endpoint pattern, logged at DEBUG (WARN
+ * above the configured threshold), and stored in the
+ * {@link #STATEMENT_COUNT_ATTRIBUTE} request attribute for tests.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatementCountingFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_ATTRIBUTE = SqlStatementCountingFilter.class.getName() + ".COUNT";
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementCountingFilter.class);
+
+    private final SqlStatementProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementCountingFilter(SqlStatementProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = SqlStatementCounter.stop();
+            request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, statements);
+            record(request, statements);
+        }
+    }
+
+    private void record(HttpServletRequest request, int statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements issued per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", endpoint)
+                .register(meterRegistry)
+                .record(statements);
+
+        if (statements > properties.getWarnThreshold()) {
+            logger.warn("{} {} issued {} SQL statements (threshold {})",
+                    request.getMethod(), endpoint, statements, properties.getWarnThreshold());
+        } else if (logger.isDebugEnabled()) {
+            logger.debug("{} {} issued {} SQL statements", request.getMethod(), endpoint, statements);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.foodordering.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for per-request SQL statement counting.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "sql-statements")
+public class SqlStatementProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Requests issuing more statements than this are logged at WARN.
+     */
+    private int warnThreshold = 20;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getWarnThreshold() {
+        return warnThreshold;
+    }
+
+    public void setWarnThreshold(int warnThreshold) {
+        this.warnThreshold = warnThreshold;
+    }
+}
@@ -3,6 +3,9 @@ package com.foodordering.repository;
 import com.foodordering.entity.Address;
 import com.foodordering.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +15,21 @@ public interface AddressRepository extends JpaRepository<Address, Long> {
     List<Address> findByUser(User user);
     List<Address> findByUserId(Long userId);
     Address findByUserIdAndIsDefaultTrue(Long userId);
-} 
\ No newline at end of file
+
+    /**
+     * Unset the user's default address unless it is {@code keepId}; touches
+     * at most the one default row.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Address a SET a.isDefault = false WHERE a.user.id = :userId AND a.isDefault = true "
+            + "AND (:keepId IS NULL OR a.id <> :keepId)")
+    int clearDefault(@Param("userId") Long userId, @Param("keepId") Long keepId);
+
+    /**
+     * Make one of the user's addresses the default. Returns 0 when the user
+     * has no such address.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Address a SET a.isDefault = true WHERE a.id = :id AND a.user.id = :userId")
+    int markDefault(@Param("userId") Long userId, @Param("id") Long id);
+}
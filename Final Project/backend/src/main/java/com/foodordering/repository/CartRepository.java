@@ -3,10 +3,13 @@ package com.foodordering.repository;
 import com.foodordering.entity.Cart;
 import com.foodordering.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -55,4 +58,24 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
      */
     @Query("SELECT c FROM Cart c LEFT JOIN FETCH c.items ci LEFT JOIN FETCH ci.product WHERE c.user.id = :userId")
     Optional<Cart> findByUserIdWithItems(@Param("userId") Long userId);
-} 
\ No newline at end of file
+
+    /**
+     * Find the carts of several users with their items.
+     */
+    @Query("SELECT DISTINCT c FROM Cart c LEFT JOIN FETCH c.items WHERE c.user.id IN :userIds")
+    List<Cart> findAllByUserIdInWithItems(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Delete the items in a user's cart.
+     */
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.id IN (SELECT c.id FROM Cart c WHERE c.user.id = :userId)")
+    int deleteItemsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Delete the cart items of a product.
+     */
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.product.id = :productId")
+    int deleteItemsByProductId(@Param("productId") Long productId);
+}
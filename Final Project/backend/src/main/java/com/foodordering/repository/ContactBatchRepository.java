@@ -0,0 +1,20 @@
+package com.foodordering.repository;
+
+import com.foodordering.entity.Contact;
+
+import java.util.List;
+
+/**
+ * Bulk insert of contact submissions, combined into {@link ContactRepository}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public interface ContactBatchRepository {
+
+    /**
+     * Insert the contacts with a single multi-row statement. Ids are not
+     * read back.
+     */
+    void insertAll(List<Contact> contacts);
+}
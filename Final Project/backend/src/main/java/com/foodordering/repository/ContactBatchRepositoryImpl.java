@@ -0,0 +1,61 @@
+package com.foodordering.repository;
+
+import com.foodordering.entity.Contact;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Writes a batch of contacts as one {@code INSERT ... VALUES (...), (...)}.
+ * The identity ids of {@link Contact} keep Hibernate from batching inserts
+ * itself, so the statement is issued over the session's JDBC connection,
+ * inside the current transaction.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class ContactBatchRepositoryImpl implements ContactBatchRepository {
+
+    private static final String INSERT =
+            "INSERT INTO contacts (name, email, subject, message, phone_number, status, created_at, updated_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertAll(List<Contact> contacts) {
+        if (contacts.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder(INSERT);
+        for (int i = 0; i < contacts.size(); i++) {
+            sql.append(i == 0 ? ROW : ", " + ROW);
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+                int index = 1;
+                for (Contact contact : contacts) {
+                    statement.setString(index++, contact.getName());
+                    statement.setString(index++, contact.getEmail());
+                    statement.setString(index++, contact.getSubject());
+                    statement.setString(index++, contact.getMessage());
+                    if (contact.getPhoneNumber() != null) {
+                        statement.setString(index++, contact.getPhoneNumber());
+                    } else {
+                        statement.setNull(index++, Types.VARCHAR);
+                    }
+                    statement.setString(index++, contact.getStatus().name());
+                    statement.setTimestamp(index++, Timestamp.valueOf(contact.getCreatedAt()));
+                    statement.setTimestamp(index++, Timestamp.valueOf(contact.getUpdatedAt()));
+                }
+                statement.executeUpdate();
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.foodordering.repository;
 
+import com.foodordering.dto.ContactSummaryDto;
 import com.foodordering.entity.Contact;
 import com.foodordering.entity.ContactStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,20 +12,41 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface ContactRepository extends JpaRepository<Contact, Long> {
+public interface ContactRepository extends JpaRepository<Contact, Long>, ContactBatchRepository,
+        ContactSearchRepository {
     
     List<Contact> findByStatus(ContactStatus status);
     
+    /**
+     * Summaries of all contacts, newest first, with the message cut to a preview.
+     */
+    @Query("SELECT new com.foodordering.dto.ContactSummaryDto(c.id, c.name, c.email, c.subject, "
+            + "SUBSTRING(c.message, 1, " + (ContactSummaryDto.PREVIEW_LENGTH + 1) + "), c.status, c.createdAt) "
+            + "FROM Contact c ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContactSummaryDto> findAllSummaries();
+    
+    /**
+     * Summaries of the contacts with a status, newest first.
+     */
+    @Query("SELECT new com.foodordering.dto.ContactSummaryDto(c.id, c.name, c.email, c.subject, "
+            + "SUBSTRING(c.message, 1, " + (ContactSummaryDto.PREVIEW_LENGTH + 1) + "), c.status, c.createdAt) "
+            + "FROM Contact c WHERE c.status = :status ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContactSummaryDto> findSummariesByStatus(@Param("status") ContactStatus status);
+    
     List<Contact> findByEmail(String email);
     
     List<Contact> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
     
-    @Query("SELECT c FROM Contact c WHERE c.subject LIKE %:keyword% OR c.message LIKE %:keyword% OR c.name LIKE %:keyword%")
-    List<Contact> findByKeyword(@Param("keyword") String keyword);
-    
     @Query("SELECT COUNT(c) FROM Contact c WHERE c.status = :status")
     long countByStatus(@Param("status") ContactStatus status);
     
     @Query("SELECT COUNT(c) FROM Contact c WHERE c.createdAt >= :date")
     long countByCreatedAtAfter(@Param("date") LocalDateTime date);
+    
+    /**
+     * Contacts per status and day of creation: rows of (status, date, count).
+     */
+    @Query("SELECT c.status, CAST(c.createdAt AS LocalDate), COUNT(c) FROM Contact c "
+            + "GROUP BY c.status, CAST(c.createdAt AS LocalDate)")
+    List<Object[]> countByStatusAndDay();
 } 
\ No newline at end of file
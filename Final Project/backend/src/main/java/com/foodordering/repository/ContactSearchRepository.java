@@ -0,0 +1,22 @@
+package com.foodordering.repository;
+
+import com.foodordering.dto.ContactSearchFilter;
+import com.foodordering.entity.Contact;
+
+import java.util.List;
+
+/**
+ * Full-text search over contact submissions, combined into {@link ContactRepository}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public interface ContactSearchRepository {
+
+    /**
+     * Find up to {@code limit} contacts matching the filter, skipping the
+     * first {@code offset}: best matches first, newest first when there is
+     * no query.
+     */
+    List<Contact> searchContacts(ContactSearchFilter filter, int offset, int limit);
+}
@@ -0,0 +1,90 @@
+package com.foodordering.repository;
+
+import com.foodordering.dto.ContactSearchFilter;
+import com.foodordering.entity.Contact;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Searches the {@code search_vector} column added by the V5 migration: a
+ * weighted {@code tsvector} of subject, name and message that PostgreSQL
+ * keeps current on every write and that the {@code idx_contacts_search}
+ * GIN index serves. Matches are ordered by {@code ts_rank_cd}. Only the
+ * filters that are set become part of the query, so status and date
+ * filters without a query use their own indexes.
+ *
+ * Databases without PostgreSQL full-text search, such as the H2 test
+ * database, get a plain case-insensitive match of every word, newest first.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class ContactSearchRepositoryImpl implements ContactSearchRepository {
+
+    private static final String COLUMNS =
+            "c.id, c.name, c.email, c.subject, c.message, c.phone_number, c.status, c.created_at, c.updated_at";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Contact> searchContacts(ContactSearchFilter filter, int offset, int limit) {
+        String text = filter.getQ() != null ? filter.getQ().trim() : "";
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if (filter.getStatus() != null) {
+            where.append(" AND c.status = :status");
+            parameters.put("status", filter.getStatus().name());
+        }
+        if (filter.getCreatedFrom() != null) {
+            where.append(" AND c.created_at >= :createdFrom");
+            parameters.put("createdFrom", filter.getCreatedFrom());
+        }
+        if (filter.getCreatedTo() != null) {
+            where.append(" AND c.created_at < :createdTo");
+            parameters.put("createdTo", filter.getCreatedTo());
+        }
+
+        String sql;
+        if (text.isEmpty()) {
+            sql = "SELECT " + COLUMNS + " FROM contacts c" + where + " ORDER BY c.created_at DESC, c.id DESC";
+        } else if (Dialects.isPostgres(entityManager)) {
+            sql = "SELECT " + COLUMNS + " FROM contacts c, websearch_to_tsquery('simple', :q) tsq" + where
+                    + " AND c.search_vector @@ tsq"
+                    + " ORDER BY ts_rank_cd(c.search_vector, tsq) DESC, c.id DESC";
+            parameters.put("q", text);
+        } else {
+            List<String> words = words(text);
+            for (int i = 0; i < words.size(); i++) {
+                where.append(" AND (LOWER(c.subject) LIKE :w").append(i).append(" ESCAPE '!'")
+                        .append(" OR LOWER(c.name) LIKE :w").append(i).append(" ESCAPE '!'")
+                        .append(" OR LOWER(c.message) LIKE :w").append(i).append(" ESCAPE '!')");
+                parameters.put("w" + i, "%" + words.get(i) + "%");
+            }
+            sql = "SELECT " + COLUMNS + " FROM contacts c" + where + " ORDER BY c.created_at DESC, c.id DESC";
+        }
+
+        Query query = entityManager.createNativeQuery(sql, Contact.class);
+        parameters.forEach(query::setParameter);
+        @SuppressWarnings("unchecked")
+        List<Contact> contacts = query.setFirstResult(offset).setMaxResults(limit).getResultList();
+        return contacts;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word.replace("!", "!!").replace("%", "!%").replace("_", "!_"));
+            }
+        }
+        return words;
+    }
+}
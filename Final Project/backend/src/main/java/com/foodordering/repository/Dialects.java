@@ -0,0 +1,26 @@
+package com.foodordering.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Tells the native queries in this package which database they run on.
+ *
+ * The answer comes from the configured Hibernate dialect, so no connection
+ * is borrowed to find out and a profile that skips JDBC metadata at startup
+ * still gets the right SQL.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+final class Dialects {
+
+    private Dialects() {
+    }
+
+    static boolean isPostgres(EntityManager entityManager) {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+}
@@ -1,10 +1,14 @@
 package com.foodordering.repository;
 
+import com.foodordering.dto.OrderSummaryDto;
 import com.foodordering.entity.Order;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Order entity.
@@ -20,10 +24,21 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     /**
      * Find all orders by user ID, ordered by creation date descending.
      */
+    @EntityGraph(attributePaths = {"items", "items.product"})
     List<Order> findByUserIdOrderByCreatedAtDesc(Long userId);
 
     /**
-     * Find all orders ordered by creation date descending.
+     * Summaries of all orders, newest first. Selects only the listed
+     * columns; items are not loaded.
      */
-    List<Order> findAllByOrderByCreatedAtDesc();
+    @Query("SELECT new com.foodordering.dto.OrderSummaryDto(o.id, o.user.id, o.totalAmount, o.status, "
+            + "o.createdAt, o.deliveryAddress, o.estimatedDeliveryTime) "
+            + "FROM Order o ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderSummaryDto> findAllSummaries();
+
+    /**
+     * Find an order together with its items and their products.
+     */
+    @EntityGraph(attributePaths = {"items", "items.product"})
+    Optional<Order> findWithItemsById(Long id);
 } 
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.foodordering.repository;
+
+import com.foodordering.entity.ProductRatingCounts;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProductRatingCountsRepository extends JpaRepository<ProductRatingCounts, Long>,
+        ProductRatingTallyRepository {
+}
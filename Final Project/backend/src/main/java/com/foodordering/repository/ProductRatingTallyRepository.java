@@ -0,0 +1,17 @@
+package com.foodordering.repository;
+
+/**
+ * Atomic updates of the per-rating review counts, combined into
+ * {@link ProductRatingCountsRepository}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public interface ProductRatingTallyRepository {
+
+    /**
+     * Add {@code delta} to the product's count for {@code rating}, creating
+     * the product's row if it has none yet.
+     */
+    void adjust(Long productId, int rating, int delta);
+}
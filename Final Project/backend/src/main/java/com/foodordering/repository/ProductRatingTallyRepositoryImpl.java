@@ -0,0 +1,53 @@
+package com.foodordering.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+/**
+ * Adds to a rating count with one upsert, so concurrent reviews of the same
+ * product neither lose updates nor race to create its row: {@code INSERT ...
+ * ON CONFLICT} on PostgreSQL, {@code MERGE} elsewhere, such as the H2 test
+ * database. A count never drops below zero, so removing a review that
+ * was never counted cannot make a histogram negative.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class ProductRatingTallyRepositoryImpl implements ProductRatingTallyRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void adjust(Long productId, int rating, int delta) {
+        if (rating < 1 || rating > 5) {
+            throw new IllegalArgumentException("Rating must be between 1 and 5");
+        }
+        String column = "stars_" + rating;
+        StringBuilder initial = new StringBuilder();
+        for (int stars = 1; stars <= 5; stars++) {
+            initial.append(", ").append(stars == rating ? "GREATEST(:delta, 0)" : "0");
+        }
+        String sql;
+        if (Dialects.isPostgres(entityManager)) {
+            sql = "INSERT INTO product_rating_counts (product_id, stars_1, stars_2, stars_3, stars_4, stars_5) "
+                    + "VALUES (:productId" + initial + ") "
+                    + "ON CONFLICT (product_id) DO UPDATE SET "
+                    + column + " = GREATEST(product_rating_counts." + column + " + :delta, 0)";
+        } else {
+            sql = "MERGE INTO product_rating_counts t USING (VALUES (CAST(:productId AS BIGINT))) s (product_id) "
+                    + "ON t.product_id = s.product_id "
+                    + "WHEN MATCHED THEN UPDATE SET " + column + " = GREATEST(t." + column + " + :delta, 0) "
+                    + "WHEN NOT MATCHED THEN INSERT (product_id, stars_1, stars_2, stars_3, stars_4, stars_5) "
+                    + "VALUES (s.product_id" + initial + ")";
+        }
+        // Naming the table keeps Hibernate from dropping the whole second-level cache
+        entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("product_rating_counts")
+                .setParameter("productId", productId)
+                .setParameter("delta", delta)
+                .executeUpdate();
+    }
+}
@@ -2,14 +2,18 @@ package com.foodordering.repository;
 
 import com.foodordering.entity.Product;
 import com.foodordering.entity.ProductCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -29,15 +33,23 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findByCategory(ProductCategory category);
 
     /**
-     * Find available products.
+     * Find available products. Cached: this is the default menu listing.
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Product> findByAvailableTrue();
 
     /**
      * Find products by category and availability.
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Product> findByCategoryAndAvailable(ProductCategory category, boolean available);
 
+    /**
+     * The ids among {@code ids} that belong to a product.
+     */
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     /**
      * Find products by name containing (case-insensitive).
      */
@@ -0,0 +1,145 @@
+package com.foodordering.repository;
+
+import com.foodordering.dto.OrderStatusDto;
+import com.foodordering.dto.ProductDto;
+import com.foodordering.dto.ReviewDto;
+import com.foodordering.entity.OrderStatus;
+import com.foodordering.entity.ProductCategory;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Non-blocking reads for the catalog, reviews and order status over R2DBC.
+ *
+ * Queries the tables JPA maps, by column name, and maps rows straight to
+ * the DTOs the blocking endpoints return. Read-only: all writes stay on the
+ * JPA services.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Repository
+public class ReactiveCatalogRepository {
+
+    private static final String PRODUCT_COLUMNS =
+            "SELECT p.id, p.name, p.description, p.price, p.category, p.image_url, p.is_available, "
+            + "p.stock_quantity, p.created_at, p.updated_at, r.average_rating "
+            + "FROM products p LEFT JOIN ("
+            + "SELECT product_id, AVG(CAST(rating AS DOUBLE PRECISION)) AS average_rating "
+            + "FROM reviews GROUP BY product_id) r ON r.product_id = p.id ";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveCatalogRepository(DatabaseClient reactiveDatabaseClient) {
+        this.databaseClient = reactiveDatabaseClient;
+    }
+
+    /**
+     * Stream available products, optionally filtered by category or search term.
+     */
+    public Flux<ProductDto> findAvailableProducts(ProductCategory category, String search) {
+        StringBuilder sql = new StringBuilder(PRODUCT_COLUMNS).append("WHERE p.is_available = TRUE");
+        if (category != null) {
+            sql.append(" AND p.category = :category");
+        } else if (search != null) {
+            sql.append(" AND (LOWER(p.name) LIKE :search OR LOWER(p.description) LIKE :search)");
+        }
+        sql.append(" ORDER BY p.id");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        if (category != null) {
+            spec = spec.bind("category", category.name());
+        } else if (search != null) {
+            spec = spec.bind("search", "%" + search.toLowerCase(Locale.ROOT) + "%");
+        }
+        return spec.map(ReactiveCatalogRepository::toProductDto).all();
+    }
+
+    /**
+     * Find a product by ID.
+     */
+    public Mono<ProductDto> findProductById(Long id) {
+        return databaseClient.sql(PRODUCT_COLUMNS + "WHERE p.id = :id")
+                .bind("id", id)
+                .map(ReactiveCatalogRepository::toProductDto)
+                .one();
+    }
+
+    /**
+     * Check if a product exists.
+     */
+    public Mono<Boolean> existsProductById(Long id) {
+        return databaseClient.sql("SELECT 1 FROM products WHERE id = :id")
+                .bind("id", id)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    /**
+     * Stream the reviews of a product, newest first.
+     */
+    public Flux<ReviewDto> findReviewsByProductId(Long productId) {
+        return databaseClient.sql("SELECT r.id, r.rating, r.comment, u.username, r.created_at "
+                        + "FROM reviews r JOIN users u ON u.id = r.user_id "
+                        + "WHERE r.product_id = :productId ORDER BY r.created_at DESC, r.id DESC")
+                .bind("productId", productId)
+                .map(row -> new ReviewDto(
+                        row.get("id", Long.class),
+                        row.get("rating", Integer.class),
+                        row.get("comment", String.class),
+                        row.get("username", String.class),
+                        row.get("created_at", LocalDateTime.class)))
+                .all();
+    }
+
+    /**
+     * Find the status of an order, with the username of its owner.
+     */
+    public Mono<OwnedOrderStatus> findOrderStatus(Long orderId) {
+        return databaseClient.sql("SELECT o.id, o.status, o.estimated_delivery_time, o.actual_delivery_time, "
+                        + "o.updated_at, u.username FROM orders o JOIN users u ON u.id = o.user_id WHERE o.id = :id")
+                .bind("id", orderId)
+                .map(row -> new OwnedOrderStatus(
+                        row.get("username", String.class),
+                        new OrderStatusDto(
+                                row.get("id", Long.class),
+                                OrderStatus.valueOf(row.get("status", String.class)),
+                                row.get("estimated_delivery_time", LocalDateTime.class),
+                                row.get("actual_delivery_time", LocalDateTime.class),
+                                row.get("updated_at", LocalDateTime.class))))
+                .one();
+    }
+
+    private static ProductDto toProductDto(Readable row) {
+        ProductDto dto = new ProductDto(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("price", BigDecimal.class),
+                ProductCategory.valueOf(row.get("category", String.class)),
+                row.get("image_url", String.class),
+                Boolean.TRUE.equals(row.get("is_available", Boolean.class)),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class)
+        );
+        dto.setStockQuantity(row.get("stock_quantity", Integer.class));
+        // Drivers differ in the numeric type AVG returns
+        Object averageRating = row.get("average_rating");
+        dto.setAverageRating(averageRating != null ? ((Number) averageRating).doubleValue() : null);
+        return dto;
+    }
+
+    /**
+     * An order status together with the username of the customer who placed it.
+     */
+    public record OwnedOrderStatus(String username, OrderStatusDto status) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.foodordering.repository;
+
+import com.foodordering.dto.ReviewDto;
+
+import java.util.List;
+
+/**
+ * Keyset-paginated review feeds, combined into {@link ReviewRepository}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public interface ReviewFeedRepository {
+
+    /**
+     * Order of a review feed.
+     */
+    enum Sort {
+        /** Newest first. */
+        RECENT,
+        /** Highest rating first, newest first within a rating. */
+        RATING
+    }
+
+    /**
+     * Up to {@code limit} reviews following the review at
+     * ({@code afterRating}, {@code afterId}) in feed order, or the first
+     * page when {@code afterId} is null. {@code afterRating} is only used
+     * with {@link Sort#RATING}. Reviews of all products, with their product,
+     * when {@code productId} is null. Only the reviewer's username is read
+     * from the user.
+     */
+    List<ReviewDto> findFeedPage(Long productId, Sort sort, Integer afterRating, Long afterId, int limit);
+}
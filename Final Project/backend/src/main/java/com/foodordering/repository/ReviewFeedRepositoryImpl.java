@@ -0,0 +1,67 @@
+package com.foodordering.repository;
+
+import com.foodordering.dto.ReviewDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Selects feed pages straight into {@link ReviewDto}, walking
+ * {@code idx_reviews_product} (product, id) for the newest reviews and
+ * {@code idx_reviews_product_rating} (product, rating, id) for the best
+ * rated, so a page costs the same however deep it is. The feed of all
+ * products walks the primary key.
+ *
+ * A best-rated page that starts after a cursor is read as the rest of the
+ * cursor's rating followed by the lower ratings: two range scans, where a
+ * single {@code OR} condition would rescan the cursor's rating from its start.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class ReviewFeedRepositoryImpl implements ReviewFeedRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ReviewDto> findFeedPage(Long productId, Sort sort, Integer afterRating, Long afterId, int limit) {
+        if (sort != Sort.RATING || afterId == null) {
+            return query(productId, sort, afterId == null ? "" : " AND r.id < :afterId",
+                    afterId == null ? Map.of() : Map.of("afterId", afterId), limit);
+        }
+        List<ReviewDto> reviews = new ArrayList<>(query(productId, sort,
+                " AND r.rating = :afterRating AND r.id < :afterId",
+                Map.of("afterRating", afterRating, "afterId", afterId), limit));
+        if (reviews.size() < limit) {
+            reviews.addAll(query(productId, sort, " AND r.rating < :afterRating",
+                    Map.of("afterRating", afterRating), limit - reviews.size()));
+        }
+        return reviews;
+    }
+
+    private List<ReviewDto> query(Long productId, Sort sort, String keyset, Map<String, Object> keysetParameters,
+                                  int limit) {
+        StringBuilder jpql = new StringBuilder();
+        Map<String, Object> parameters = new HashMap<>(keysetParameters);
+        if (productId != null) {
+            jpql.append("SELECT new com.foodordering.dto.ReviewDto(r.id, r.rating, r.comment, u.username, r.createdAt) ")
+                    .append("FROM Review r JOIN r.user u WHERE r.product.id = :productId");
+            parameters.put("productId", productId);
+        } else {
+            jpql.append("SELECT new com.foodordering.dto.ReviewDto(r.id, r.rating, r.comment, u.username, r.createdAt, ")
+                    .append("p.id, p.name) FROM Review r JOIN r.user u JOIN r.product p WHERE 1 = 1");
+        }
+        jpql.append(keyset);
+        jpql.append(sort == Sort.RATING ? " ORDER BY r.rating DESC, r.id DESC" : " ORDER BY r.id DESC");
+
+        TypedQuery<ReviewDto> query = entityManager.createQuery(jpql.toString(), ReviewDto.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
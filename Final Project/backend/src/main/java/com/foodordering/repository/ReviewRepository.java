@@ -7,14 +7,24 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, Long> {
+public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewFeedRepository {
     List<Review> findByProduct(Product product);
     List<Review> findByProductId(Long productId);
-    @Query("SELECT r FROM Review r JOIN FETCH r.user WHERE r.product = :product")
-    List<Review> findByProductWithUser(@Param("product") Product product);
-    @Query("SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.product")
-    List<Review> findAllWithUserAndProduct();
+    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.product.id = :productId")
+    Double findAverageRatingByProductId(@Param("productId") Long productId);
+    @Query("SELECT r.product.id AS productId, AVG(r.rating) AS averageRating FROM Review r " +
+           "WHERE r.product.id IN :productIds GROUP BY r.product.id")
+    List<ProductRating> findAverageRatingsByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * Average rating of one product.
+     */
+    interface ProductRating {
+        Long getProductId();
+        Double getAverageRating();
+    }
 } 
\ No newline at end of file
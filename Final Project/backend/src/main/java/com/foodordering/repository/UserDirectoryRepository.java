@@ -0,0 +1,21 @@
+package com.foodordering.repository;
+
+import com.foodordering.dto.UserDirectoryFilter;
+import com.foodordering.entity.User;
+
+import java.util.List;
+
+/**
+ * Keyset-paginated search over users, combined into {@link UserRepository}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public interface UserDirectoryRepository {
+
+    /**
+     * Find up to {@code limit} users matching the filter with an id below
+     * {@code afterId} (all when null), highest id first.
+     */
+    List<User> findDirectoryPage(UserDirectoryFilter filter, Long afterId, int limit);
+}
@@ -0,0 +1,67 @@
+package com.foodordering.repository;
+
+import com.foodordering.dto.UserDirectoryFilter;
+import com.foodordering.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Builds the directory query from the filters that are set, so each
+ * combination gets a plan that can use its index: the trigram indexes for
+ * substring search, the {@code text_pattern_ops} indexes for prefixes,
+ * {@code (role, is_active, id)} for role and status, and the primary key for
+ * the keyset itself. A page costs the same however deep it is.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class UserDirectoryRepositoryImpl implements UserDirectoryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<User> findDirectoryPage(UserDirectoryFilter filter, Long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT u FROM User u WHERE 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+
+        String search = filter.getSearch() != null ? filter.getSearch().trim().toLowerCase(Locale.ROOT) : "";
+        if (!search.isEmpty()) {
+            jpql.append(" AND (LOWER(u.username) LIKE :search ESCAPE '!' OR LOWER(u.email) LIKE :search ESCAPE '!')");
+            String escaped = search.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+            parameters.put("search", search.length() >= UserDirectoryFilter.MIN_SUBSTRING_LENGTH
+                    ? "%" + escaped + "%" : escaped + "%");
+        }
+        if (filter.getRole() != null) {
+            jpql.append(" AND u.role = :role");
+            parameters.put("role", filter.getRole());
+        }
+        if (filter.getActive() != null) {
+            jpql.append(" AND u.active = :active");
+            parameters.put("active", filter.getActive());
+        }
+        if (filter.getCreatedFrom() != null) {
+            jpql.append(" AND u.createdAt >= :createdFrom");
+            parameters.put("createdFrom", filter.getCreatedFrom());
+        }
+        if (filter.getCreatedTo() != null) {
+            jpql.append(" AND u.createdAt < :createdTo");
+            parameters.put("createdTo", filter.getCreatedTo());
+        }
+        if (afterId != null) {
+            jpql.append(" AND u.id < :afterId");
+            parameters.put("afterId", afterId);
+        }
+        jpql.append(" ORDER BY u.id DESC");
+
+        TypedQuery<User> query = entityManager.createQuery(jpql.toString(), User.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -2,13 +2,18 @@ package com.foodordering.repository;
 
 import com.foodordering.entity.User;
 import com.foodordering.entity.UserRole;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for User entity.
@@ -19,11 +24,12 @@ import java.util.Optional;
  * @version 1.0.0
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserDirectoryRepository {
 
     /**
-     * Find user by username.
+     * Find user by username. Cached, since it runs on every authenticated request.
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
 
     /**
@@ -41,6 +47,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByEmail(String email);
 
+    /**
+     * The ids among {@code ids} that belong to a user.
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Stream the username and email of every user, for the availability filters.
+     */
+    @Query("SELECT u.username, u.email FROM User u")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamUsernamesAndEmails();
+
     /**
      * Find users by role.
      */
@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -20,13 +21,17 @@ import java.io.IOException;
  * JWT Authentication Filter for processing JWT tokens in requests.
  * 
  * Intercepts HTTP requests to extract and validate JWT tokens,
- * setting up authentication context for valid tokens.
+ * setting up authentication context for valid tokens. The authenticated
+ * username is added to the logging MDC as {@value #MDC_KEY} for the rest of
+ * the request.
  * 
  * @author Food Ordering Team
  * @version 1.0.0
  */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    public static final String MDC_KEY = "user";
+
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     private final JwtTokenProvider tokenProvider;
@@ -53,12 +58,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                MDC.put(MDC_KEY, username);
             }
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
         }
 
-        filterChain.doFilter(request, response);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
     }
 
     private String getJwtFromRequest(HttpServletRequest request) {
@@ -0,0 +1,219 @@
+package com.foodordering.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Rate Limiting Filter for public endpoints.
+ *
+ * Applies per-IP token buckets, and per-user buckets for authenticated
+ * callers, to the routes configured in {@link RateLimitProperties}. The
+ * filter sits after {@link JwtAuthenticationFilter} so user buckets are keyed
+ * on the verified username rather than on whatever the Authorization header
+ * carries. Buckets live in concurrent maps and are
+ * updated with a single CAS, so the request path never takes a lock. Idle
+ * buckets are evicted periodically.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final RateLimitProperties properties;
+    private final List<CompiledRule> rules;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rules = properties.getRules().stream()
+                .map(rule -> new CompiledRule(rule, meterRegistry))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || rules.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+        CompiledRule rule = findRule(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long now = System.nanoTime();
+        TokenBucket ipBucket = rule.bucket(rule.ipBuckets, request.getRemoteAddr(), rule.limit, now);
+        long remaining = ipBucket.tryAcquire(now);
+        if (remaining < 0) {
+            rule.ipRejections.increment();
+            reject(response, rule.limit, ipBucket, remaining, now);
+            return;
+        }
+        long limit = rule.limit;
+        TokenBucket tightest = ipBucket;
+
+        // This filter runs after JwtAuthenticationFilter, so the user bucket is keyed on the
+        // verified principal: forged or random bearer tokens never get a bucket of their own.
+        String username = authenticatedUsername();
+        if (username != null && rule.userLimit > 0) {
+            TokenBucket userBucket = rule.bucket(rule.userBuckets, username, rule.userLimit, now);
+            long userRemaining = userBucket.tryAcquire(now);
+            if (userRemaining < 0) {
+                rule.userRejections.increment();
+                reject(response, rule.userLimit, userBucket, userRemaining, now);
+                return;
+            }
+            if (userRemaining < remaining) {
+                remaining = userRemaining;
+                limit = rule.userLimit;
+                tightest = userBucket;
+            }
+        }
+
+        setLimitHeaders(response, limit, remaining, tightest, now);
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Drop buckets that have been full for longer than the idle timeout.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        int before = 0;
+        int after = 0;
+        for (CompiledRule rule : rules) {
+            before += rule.ipBuckets.size() + rule.userBuckets.size();
+            rule.ipBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+            rule.userBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+            after += rule.ipBuckets.size() + rule.userBuckets.size();
+        }
+        if (before != after) {
+            logger.debug("Evicted {} idle rate limit buckets, {} remaining", before - after, after);
+        }
+    }
+
+    private CompiledRule findRule(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        for (CompiledRule rule : rules) {
+            if ((rule.methods.isEmpty() || rule.methods.contains(method))
+                    && pathMatcher.match(rule.pattern, path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, long limit, TokenBucket bucket,
+                        long result, long now) throws IOException {
+        long retryAfterSeconds = Math.max(1L, ceilSeconds(-result - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        setLimitHeaders(response, limit, 0L, bucket, now);
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too many requests\",\"retryAfterSeconds\":" + retryAfterSeconds + "}");
+    }
+
+    /**
+     * X-RateLimit-Reset is the number of seconds until the reported bucket is full again.
+     */
+    private void setLimitHeaders(HttpServletResponse response, long limit, long remaining,
+                                 TokenBucket bucket, long now) {
+        response.setHeader("X-RateLimit-Limit", String.valueOf(limit));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(remaining));
+        response.setHeader("X-RateLimit-Reset", String.valueOf(ceilSeconds(bucket.nanosUntilFull(now))));
+    }
+
+    private static long ceilSeconds(long nanos) {
+        return TimeUnit.NANOSECONDS.toSeconds(nanos + 999_999_999L);
+    }
+
+    private String authenticatedUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * A configured rule with its bucket maps and rejection counters.
+     */
+    private static final class CompiledRule {
+
+        private final String pattern;
+        private final Set<String> methods;
+        private final long limit;
+        private final long userLimit;
+        private final long periodNanos;
+        private final ConcurrentMap<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+        private final Counter ipRejections;
+        private final Counter userRejections;
+
+        private CompiledRule(RateLimitProperties.Rule rule, MeterRegistry meterRegistry) {
+            this.pattern = rule.getPattern();
+            this.methods = rule.getMethods().stream()
+                    .map(method -> method.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            this.limit = rule.getLimit();
+            this.userLimit = rule.getUserLimit();
+            this.periodNanos = rule.getPeriod().toNanos();
+            this.ipRejections = rejectionCounter(meterRegistry, "ip");
+            this.userRejections = rejectionCounter(meterRegistry, "user");
+        }
+
+        private Counter rejectionCounter(MeterRegistry meterRegistry, String scope) {
+            return Counter.builder("ratelimit.rejections")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("route", pattern)
+                    .tag("scope", scope)
+                    .register(meterRegistry);
+        }
+
+        private TokenBucket bucket(ConcurrentMap<String, TokenBucket> buckets, String key,
+                                   long capacity, long now) {
+            TokenBucket bucket = buckets.get(key);
+            if (bucket == null) {
+                TokenBucket created = new TokenBucket(capacity, periodNanos, now);
+                bucket = buckets.putIfAbsent(key, created);
+                if (bucket == null) {
+                    bucket = created;
+                }
+            }
+            return bucket;
+        }
+    }
+}
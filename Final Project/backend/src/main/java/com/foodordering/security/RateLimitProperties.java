@@ -0,0 +1,112 @@
+package com.foodordering.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for the public endpoint rate limiter.
+ *
+ * Rules are evaluated in declaration order and the first rule whose pattern
+ * and method match the request applies. Each rule grants {@code limit}
+ * requests per {@code period} to every client IP and, when {@code userLimit}
+ * is set, {@code userLimit} requests per {@code period} to every
+ * authenticated user regardless of the address they call from.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private List<Rule> rules = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * A single route rule.
+     */
+    public static class Rule {
+
+        private String pattern;
+
+        private List<String> methods = new ArrayList<>();
+
+        private long limit;
+
+        /** Per-user budget for authenticated callers; 0 disables the user bucket. */
+        private long userLimit;
+
+        private Duration period = Duration.ofMinutes(1);
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        public long getLimit() {
+            return limit;
+        }
+
+        public void setLimit(long limit) {
+            this.limit = limit;
+        }
+
+        public long getUserLimit() {
+            return userLimit;
+        }
+
+        public void setUserLimit(long userLimit) {
+            this.userLimit = userLimit;
+        }
+
+        public Duration getPeriod() {
+            return period;
+        }
+
+        public void setPeriod(Duration period) {
+            this.period = period;
+        }
+    }
+}
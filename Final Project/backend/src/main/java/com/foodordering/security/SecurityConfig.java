@@ -1,5 +1,7 @@
 package com.foodordering.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -39,15 +41,24 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
+    public RateLimitFilter rateLimitFilter(RateLimitProperties rateLimitProperties, MeterRegistry meterRegistry) {
+        return new RateLimitFilter(rateLimitProperties, meterRegistry);
+    }
+
+    @Bean
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter,
+                                           RateLimitFilter rateLimitFilter) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
+                // Streamed and reactive responses are written on an async dispatch of an already authorized request
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // Public endpoints
-                .requestMatchers("/auth/signup", "/auth/login", "/auth/refresh", "/auth/admin/reset-password").permitAll()
+                .requestMatchers("/auth/signup", "/auth/login", "/auth/refresh", "/auth/availability", "/auth/admin/reset-password").permitAll()
                 .requestMatchers("/products/**").permitAll()
+                .requestMatchers(org.springframework.http.HttpMethod.GET, "/reactive/products/**").permitAll()
                 .requestMatchers("/contacts").permitAll() // Allow contact form submission
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/api-docs/**", "/swagger-ui.html", "/swagger-resources/**", "/webjars/**").permitAll()
                 .requestMatchers("/api/swagger-ui/**", "/api/v3/api-docs/**", "/api/api-docs/**", "/api/swagger-ui.html", "/api/swagger-resources/**", "/api/webjars/**").permitAll()
@@ -56,6 +67,7 @@ public class SecurityConfig {
                 // Protected endpoints
                 .requestMatchers("/contacts/**").hasRole("ADMIN") // Admin only for contact management
                 .requestMatchers("/cart/**").hasRole("USER")
+                .requestMatchers("/reactive/orders/**").hasAnyRole("USER", "ADMIN")
                 // Allow only ADMIN to GET all orders
                 .requestMatchers(org.springframework.http.HttpMethod.GET, "/orders").hasRole("ADMIN")
                 .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/orders").hasRole("ADMIN")
@@ -70,7 +82,8 @@ public class SecurityConfig {
                 .requestMatchers("/auth/**").authenticated()
                 .anyRequest().authenticated()
             )
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,68 @@
+package com.foodordering.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket used by the rate limiting filter.
+ *
+ * The bucket is stored as a single "theoretical arrival time" (the GCRA form
+ * of a token bucket): every accepted request pushes it forward by one
+ * emission interval, and a request is rejected when doing so would move it
+ * further than the burst capacity ahead of the current time. Because the
+ * whole state is one long, each acquisition is a single CAS loop.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    TokenBucket(long capacity, long periodNanos, long nowNanos) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Bucket capacity must be at least 1");
+        }
+        this.emissionIntervalNanos = Math.max(1L, periodNanos / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Try to take one token.
+     *
+     * @return the remaining token count when granted, or the negated number of
+     *         nanoseconds until a token becomes available (minus one) when rejected
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrivalNanos.get();
+            long base = Math.max(current, nowNanos);
+            long next = base + emissionIntervalNanos;
+            long ahead = next - nowNanos;
+            if (ahead > burstToleranceNanos) {
+                return -(ahead - burstToleranceNanos) - 1;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(current, next)) {
+                return (burstToleranceNanos - ahead) / emissionIntervalNanos;
+            }
+        }
+    }
+
+    /**
+     * Nanoseconds until the bucket has refilled to its full capacity, which is
+     * what the {@code X-RateLimit-Reset} header reports.
+     */
+    long nanosUntilFull(long nowNanos) {
+        return Math.max(0L, theoreticalArrivalNanos.get() - nowNanos);
+    }
+
+    /**
+     * A bucket that has been full for longer than the idle timeout carries no
+     * state a freshly created bucket would not have, so it can be evicted.
+     */
+    boolean isIdle(long nowNanos, long idleTimeoutNanos) {
+        return nowNanos - theoreticalArrivalNanos.get() > idleTimeoutNanos;
+    }
+}
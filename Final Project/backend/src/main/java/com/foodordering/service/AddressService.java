@@ -1,16 +1,23 @@
 package com.foodordering.service;
 
+import com.foodordering.address.AddressBookCache;
 import com.foodordering.dto.AddressDto;
 import com.foodordering.entity.Address;
 import com.foodordering.entity.User;
+import com.foodordering.exception.DefaultAddressConflictException;
 import com.foodordering.exception.ResourceNotFoundException;
 import com.foodordering.repository.AddressRepository;
 import com.foodordering.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,11 +27,35 @@ public class AddressService {
     private AddressRepository addressRepository;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private AddressBookCache addressBookCache;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public AddressService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
+    /**
+     * The user's addresses, from the address book cache. Runs outside a
+     * transaction so a cache hit needs no connection; a miss loads from the
+     * primary, as a replica may not have the change that caused it yet.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<AddressDto> getAddressesByUserId(Long userId) {
-        return addressRepository.findByUserId(userId).stream().map(this::toDto).collect(Collectors.toList());
+        return addressBookCache.get(userId, id -> transactionTemplate.execute(status ->
+                addressRepository.findByUserId(id).stream().map(this::toDto).collect(Collectors.toList())));
     }
 
+    /**
+     * The user's default address, or {@code null} if none is set.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AddressDto getDefaultAddress(Long userId) {
+        return getAddressesByUserId(userId).stream().filter(AddressDto::isDefault).findFirst().orElse(null);
+    }
+
+    @Transactional(readOnly = true)
     public AddressDto getAddress(Long id) {
         return toDto(addressRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Address not found")));
     }
@@ -38,38 +69,70 @@ public class AddressService {
         address.setPostalCode(dto.getPostalCode());
         address.setPhone(dto.getPhone());
         address.setDefault(dto.isDefault());
-        if (dto.isDefault()) {
-            setDefaultAddress(userId, null); // unset previous default
-        }
-        return toDto(addressRepository.save(address));
+        Address saved = switchingDefault(() -> {
+            if (dto.isDefault()) {
+                addressRepository.clearDefault(userId, null); // unset previous default
+            }
+            return addressRepository.saveAndFlush(address);
+        });
+        addressBookCache.invalidate(userId);
+        return toDto(saved);
     }
 
     public AddressDto updateAddress(Long id, AddressDto dto) {
         Address address = addressRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Address not found"));
+        Long userId = address.getUser().getId();
         address.setLabel(dto.getLabel());
         address.setAddress(dto.getAddress());
         address.setPostalCode(dto.getPostalCode());
         address.setPhone(dto.getPhone());
-        if (dto.isDefault()) {
-            setDefaultAddress(address.getUser().getId(), id);
-            address.setDefault(true);
-        }
-        return toDto(addressRepository.save(address));
+        Address saved = switchingDefault(() -> {
+            if (dto.isDefault()) {
+                addressRepository.clearDefault(userId, id);
+                address.setDefault(true);
+            }
+            return addressRepository.saveAndFlush(address);
+        });
+        addressBookCache.invalidate(userId);
+        return toDto(saved);
     }
 
     public void deleteAddress(Long id) {
-        addressRepository.deleteById(id);
+        addressRepository.findById(id).ifPresent(address -> {
+            addressBookCache.invalidate(address.getUser().getId());
+            addressRepository.delete(address);
+        });
     }
 
+    /**
+     * Make {@code addressId} the user's default address, or unset the default
+     * when it is {@code null}. Two updates, clearing the old default first:
+     * the unique index on the default address rejects a second one, also
+     * when two switches for the same user race; the loser gets
+     * {@link DefaultAddressConflictException}.
+     */
     public void setDefaultAddress(Long userId, Long addressId) {
-        List<Address> addresses = addressRepository.findByUserId(userId);
-        for (Address addr : addresses) {
-            if (addressId != null && addr.getId().equals(addressId)) {
-                addr.setDefault(true);
-            } else {
-                addr.setDefault(false);
-            }
-            addressRepository.save(addr);
+        int marked = switchingDefault(() -> {
+            addressRepository.clearDefault(userId, addressId);
+            return addressId != null ? addressRepository.markDefault(userId, addressId) : 1;
+        });
+        if (marked == 0) {
+            throw new ResourceNotFoundException("Address not found");
+        }
+        addressBookCache.invalidate(userId);
+    }
+
+    /**
+     * Run writes that may set a default address, translating a violation of
+     * the one-default-per-user index into {@link DefaultAddressConflictException}.
+     * The writes must reach the database inside {@code writes}.
+     */
+    private static <T> T switchingDefault(Supplier<T> writes) {
+        try {
+            return writes.get();
+        } catch (DataIntegrityViolationException ex) {
+            throw new DefaultAddressConflictException(
+                    "The default address was changed at the same time, please try again", ex);
         }
     }
 
@@ -0,0 +1,177 @@
+package com.foodordering.service;
+
+import com.foodordering.cart.ActiveCart;
+import com.foodordering.cart.CartPersister;
+import com.foodordering.cart.CartProperties;
+import com.foodordering.cart.CartStore;
+import com.foodordering.dto.CartDto;
+import com.foodordering.dto.CartItemDto;
+import com.foodordering.dto.OrderDto;
+import com.foodordering.dto.OrderItemDto;
+import com.foodordering.entity.Product;
+import com.foodordering.exception.ResourceNotFoundException;
+import com.foodordering.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Service class for the server-side cart.
+ *
+ * Carts are changed in memory through the {@link CartStore} and written to
+ * the database behind the request, so editing a cart never waits for a
+ * write. The cart enforces its own size limits, and the products of a cart
+ * are loaded together when it is shown.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@Service
+public class CartService {
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private CartPersister cartPersister;
+
+    @Autowired
+    private CartProperties cartProperties;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Get the user's cart.
+     */
+    public CartDto getCart(Long userId) {
+        return convertToDto(cartStore.get(userId).snapshot());
+    }
+
+    /**
+     * Add a quantity of a product to the cart.
+     */
+    public CartDto addItem(Long userId, Long productId, Integer quantity) {
+        validateQuantity(quantity, 1);
+        requireAvailableProduct(productId);
+        ActiveCart cart = modify(userId, c -> c.add(productId, quantity));
+        return convertToDto(cart.snapshot());
+    }
+
+    /**
+     * Set the quantity of a product in the cart; zero removes it.
+     */
+    public CartDto updateItem(Long userId, Long productId, Integer quantity) {
+        validateQuantity(quantity, 0);
+        if (quantity > 0) {
+            requireAvailableProduct(productId);
+        }
+        ActiveCart cart = modify(userId, c -> c.set(productId, quantity));
+        return convertToDto(cart.snapshot());
+    }
+
+    /**
+     * Remove a product from the cart.
+     */
+    public CartDto removeItem(Long userId, Long productId) {
+        return convertToDto(modify(userId, c -> c.set(productId, 0)).snapshot());
+    }
+
+    /**
+     * Empty the cart.
+     */
+    public void clearCart(Long userId) {
+        modify(userId, ActiveCart::clear);
+    }
+
+    /**
+     * Place an order for the cart contents and empty the cart, in one transaction.
+     */
+    public OrderDto checkout(Long userId, OrderDto orderDetails) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        return cartStore.checkout(userId, snapshot -> transaction.execute(status -> {
+            List<OrderItemDto> items = new ArrayList<>();
+            snapshot.quantities().forEach((productId, quantity) -> {
+                OrderItemDto item = new OrderItemDto();
+                item.setProductId(productId);
+                item.setQuantity(quantity);
+                items.add(item);
+            });
+            orderDetails.setUserId(userId);
+            orderDetails.setItems(items);
+            OrderDto order = orderService.createOrder(orderDetails);
+            cartPersister.deleteItems(userId);
+            return order;
+        }));
+    }
+
+    /**
+     * Apply a change, loading the cart again if it was evicted meanwhile.
+     */
+    private ActiveCart modify(Long userId, Predicate<ActiveCart> change) {
+        while (true) {
+            ActiveCart cart = cartStore.get(userId);
+            if (change.test(cart)) {
+                cartStore.changed(cart);
+                return cart;
+            }
+        }
+    }
+
+    private void validateQuantity(Integer quantity, int min) {
+        if (quantity == null || quantity < min || quantity > cartProperties.getMaxQuantity()) {
+            throw new IllegalArgumentException("Quantity must be between " + min + " and "
+                    + cartProperties.getMaxQuantity());
+        }
+    }
+
+    private void requireAvailableProduct(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + productId));
+        if (!product.isAvailable()) {
+            throw new IllegalArgumentException("Product is not available: " + productId);
+        }
+    }
+
+    /**
+     * Convert cart contents to CartDto, skipping products that no longer exist.
+     * The products are loaded with one query in a read-only transaction.
+     */
+    private CartDto convertToDto(ActiveCart.Snapshot snapshot) {
+        Map<Long, Product> products = new HashMap<>();
+        if (!snapshot.isEmpty()) {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.executeWithoutResult(status -> productRepository.findAllById(snapshot.quantities().keySet())
+                    .forEach(product -> products.put(product.getId(), product)));
+        }
+
+        List<CartItemDto> items = new ArrayList<>();
+        BigDecimal total = BigDecimal.ZERO;
+        int count = 0;
+        for (Map.Entry<Long, Integer> entry : snapshot.quantities().entrySet()) {
+            Product p = products.get(entry.getKey());
+            if (p == null) {
+                continue;
+            }
+            items.add(new CartItemDto(p.getId(), p.getName(), p.getImageUrl(), p.getPrice(), entry.getValue()));
+            total = total.add(p.getPrice().multiply(BigDecimal.valueOf(entry.getValue())));
+            count += entry.getValue();
+        }
+        return new CartDto(snapshot.userId(), items, total, count);
+    }
+}
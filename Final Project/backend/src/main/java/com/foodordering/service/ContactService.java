@@ -1,6 +1,11 @@
 package com.foodordering.service;
 
+import com.foodordering.contact.ContactCounters;
+import com.foodordering.contact.ContactIngestionBuffer;
 import com.foodordering.dto.ContactDto;
+import com.foodordering.dto.ContactSearchFilter;
+import com.foodordering.dto.ContactSearchPageDto;
+import com.foodordering.dto.ContactSummaryDto;
 import com.foodordering.entity.Contact;
 import com.foodordering.entity.ContactStatus;
 import com.foodordering.exception.ResourceNotFoundException;
@@ -9,7 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,8 +25,15 @@ public class ContactService {
     @Autowired
     private ContactRepository contactRepository;
     
+    @Autowired
+    private ContactCounters contactCounters;
+    
+    @Autowired
+    private ContactIngestionBuffer contactIngestionBuffer;
+    
     /**
-     * Submit a new contact form.
+     * Submit a new contact form. With buffered ingestion the submission is
+     * only queued and the returned contact has no id yet.
      */
     public ContactDto submitContact(ContactDto contactDto) {
         Contact contact = new Contact(
@@ -32,22 +44,28 @@ public class ContactService {
             contactDto.getPhoneNumber()
         );
         
+        if (contactIngestionBuffer.isEnabled()) {
+            return convertToDto(contactIngestionBuffer.submit(contact));
+        }
+        
         Contact savedContact = contactRepository.save(contact);
+        contactCounters.contactCreated(savedContact);
         return convertToDto(savedContact);
     }
     
     /**
-     * Get all contact submissions (admin only).
+     * Get summaries of all contact submissions (admin only). The full
+     * message is only loaded by {@link #getContactById}.
      */
-    public List<ContactDto> getAllContacts() {
-        return contactRepository.findAll().stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<ContactSummaryDto> getAllContacts() {
+        return contactRepository.findAllSummaries();
     }
     
     /**
      * Get contact by ID.
      */
+    @Transactional(readOnly = true)
     public ContactDto getContactById(Long id) {
         Contact contact = contactRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Contact not found with id: " + id));
@@ -61,23 +79,24 @@ public class ContactService {
         Contact contact = contactRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Contact not found with id: " + id));
         
+        contactCounters.statusChanged(contact.getStatus(), status);
         contact.setStatus(status);
         Contact updatedContact = contactRepository.save(contact);
         return convertToDto(updatedContact);
     }
     
     /**
-     * Get contacts by status.
+     * Get summaries of the contacts with a status.
      */
-    public List<ContactDto> getContactsByStatus(ContactStatus status) {
-        return contactRepository.findByStatus(status).stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<ContactSummaryDto> getContactsByStatus(ContactStatus status) {
+        return contactRepository.findSummariesByStatus(status);
     }
     
     /**
      * Get contacts by email.
      */
+    @Transactional(readOnly = true)
     public List<ContactDto> getContactsByEmail(String email) {
         return contactRepository.findByEmail(email).stream()
             .map(this::convertToDto)
@@ -85,22 +104,38 @@ public class ContactService {
     }
     
     /**
-     * Search contacts by keyword.
+     * Search contacts by keyword, best matches first.
      */
-    public List<ContactDto> searchContacts(String keyword) {
-        return contactRepository.findByKeyword(keyword).stream()
+    @Transactional(readOnly = true)
+    public List<ContactDto> searchContacts(String keyword, int limit) {
+        return contactRepository.searchContacts(new ContactSearchFilter(keyword), 0, limit).stream()
             .map(this::convertToDto)
             .collect(Collectors.toList());
     }
     
     /**
-     * Get contact statistics.
+     * Get one page of the contact inbox search.
      */
+    @Transactional(readOnly = true)
+    public ContactSearchPageDto searchInbox(ContactSearchFilter filter, int page, int size) {
+        List<Contact> contacts = contactRepository.searchContacts(filter, page * size, size + 1);
+        boolean hasNext = contacts.size() > size;
+        List<ContactDto> results = contacts.stream()
+            .limit(size)
+            .map(this::convertToDto)
+            .collect(Collectors.toList());
+        return new ContactSearchPageDto(results, page, size, hasNext);
+    }
+    
+    /**
+     * Get contact statistics, from the live counters.
+     */
+    @Transactional(readOnly = true)
     public ContactStatistics getContactStatistics() {
-        long totalContacts = contactRepository.count();
-        long pendingContacts = contactRepository.countByStatus(ContactStatus.PENDING);
-        long resolvedContacts = contactRepository.countByStatus(ContactStatus.RESOLVED);
-        long todayContacts = contactRepository.countByCreatedAtAfter(LocalDateTime.now().withHour(0).withMinute(0).withSecond(0));
+        long totalContacts = contactCounters.getTotal();
+        long pendingContacts = contactCounters.getCount(ContactStatus.PENDING);
+        long resolvedContacts = contactCounters.getCount(ContactStatus.RESOLVED);
+        long todayContacts = contactCounters.getCountOn(LocalDate.now());
         
         return new ContactStatistics(totalContacts, pendingContacts, resolvedContacts, todayContacts);
     }
@@ -109,10 +144,10 @@ public class ContactService {
      * Delete contact.
      */
     public void deleteContact(Long id) {
-        if (!contactRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Contact not found with id: " + id);
-        }
-        contactRepository.deleteById(id);
+        Contact contact = contactRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Contact not found with id: " + id));
+        contactRepository.delete(contact);
+        contactCounters.contactDeleted(contact);
     }
     
     /**
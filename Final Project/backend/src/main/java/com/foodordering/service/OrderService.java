@@ -2,12 +2,14 @@ package com.foodordering.service;
 
 import com.foodordering.dto.OrderDto;
 import com.foodordering.dto.OrderItemDto;
+import com.foodordering.dto.OrderSummaryDto;
 import com.foodordering.entity.Order;
 import com.foodordering.entity.OrderItem;
 import com.foodordering.entity.OrderStatus;
 import com.foodordering.entity.Product;
 import com.foodordering.entity.User;
 import com.foodordering.exception.ResourceNotFoundException;
+import com.foodordering.monitoring.BusinessMetrics;
 import com.foodordering.repository.OrderItemRepository;
 import com.foodordering.repository.OrderRepository;
 import com.foodordering.repository.ProductRepository;
@@ -45,6 +47,9 @@ public class OrderService {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private BusinessMetrics businessMetrics;
+
     /**
      * Create a new order.
      */
@@ -53,18 +58,14 @@ public class OrderService {
         User user = userRepository.findById(orderDto.getUserId())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + orderDto.getUserId()));
 
+        // Load every product in one query; the findById calls below are then
+        // answered from the persistence context
+        productRepository.findAllById(orderDto.getItems().stream()
+                .map(OrderItemDto::getProductId)
+                .collect(Collectors.toSet()));
+
         // Calculate total amount from items
-        BigDecimal totalAmount = orderDto.getItems().stream()
-                .map(itemDto -> {
-                    if (itemDto.getPrice() != null) {
-                        return itemDto.getPrice().multiply(BigDecimal.valueOf(itemDto.getQuantity()));
-                    } else {
-                        Product product = productRepository.findById(itemDto.getProductId())
-                                .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + itemDto.getProductId()));
-                        return product.getPrice().multiply(BigDecimal.valueOf(itemDto.getQuantity()));
-                    }
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalAmount = calculateTotalAmount(orderDto.getItems());
 
         // Create order
         Order order = new Order();
@@ -76,6 +77,7 @@ public class OrderService {
         order.setEstimatedDeliveryTime(LocalDateTime.now().plusMinutes(45)); // 45 minutes delivery time
 
         Order savedOrder = orderRepository.save(order);
+        businessMetrics.orderCreated();
 
         // Create order items
         List<OrderItem> orderItems = orderDto.getItems().stream()
@@ -100,6 +102,7 @@ public class OrderService {
     /**
      * Get all orders for a specific user.
      */
+    @Transactional(readOnly = true)
     public List<OrderDto> getOrdersByUserId(Long userId) {
         List<Order> orders = orderRepository.findByUserIdOrderByCreatedAtDesc(userId);
         return orders.stream()
@@ -108,20 +111,20 @@ public class OrderService {
     }
 
     /**
-     * Get all orders (admin only).
+     * Get summaries of all orders (admin only). Items are only loaded by
+     * {@link #getOrderById}.
      */
-    public List<OrderDto> getAllOrders() {
-        List<Order> orders = orderRepository.findAllByOrderByCreatedAtDesc();
-        return orders.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<OrderSummaryDto> getAllOrders() {
+        return orderRepository.findAllSummaries();
     }
 
     /**
      * Get order by ID.
      */
+    @Transactional(readOnly = true)
     public OrderDto getOrderById(Long orderId) {
-        Order order = orderRepository.findById(orderId)
+        Order order = orderRepository.findWithItemsById(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + orderId));
         return convertToDto(order);
     }
@@ -134,6 +137,7 @@ public class OrderService {
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + orderId));
 
         OrderStatus orderStatus = OrderStatus.valueOf(status.toUpperCase());
+        OrderStatus previousStatus = order.getStatus();
         order.setStatus(orderStatus);
 
         // Set actual delivery time if status is DELIVERED
@@ -142,13 +146,33 @@ public class OrderService {
         }
 
         Order updatedOrder = orderRepository.save(order);
+        if (previousStatus != orderStatus) {
+            businessMetrics.orderStatusChanged(previousStatus, orderStatus);
+        }
         return convertToDto(updatedOrder);
     }
 
+    /**
+     * Calculate the order total, falling back to the catalog price for items without one.
+     */
+    BigDecimal calculateTotalAmount(List<OrderItemDto> items) {
+        return items.stream()
+                .map(itemDto -> {
+                    if (itemDto.getPrice() != null) {
+                        return itemDto.getPrice().multiply(BigDecimal.valueOf(itemDto.getQuantity()));
+                    } else {
+                        Product product = productRepository.findById(itemDto.getProductId())
+                                .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + itemDto.getProductId()));
+                        return product.getPrice().multiply(BigDecimal.valueOf(itemDto.getQuantity()));
+                    }
+                })
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
     /**
      * Convert Order entity to OrderDto.
      */
-    private OrderDto convertToDto(Order order) {
+    OrderDto convertToDto(Order order) {
         List<OrderItemDto> itemDtos = order.getItems().stream()
                 .map(this::convertItemToDto)
                 .collect(Collectors.toList());
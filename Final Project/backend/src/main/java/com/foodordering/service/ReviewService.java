@@ -1,18 +1,30 @@
 package com.foodordering.service;
 
+import com.foodordering.concurrency.SingleFlight;
+import com.foodordering.dto.RatingHistogramDto;
+import com.foodordering.dto.ReviewDto;
+import com.foodordering.dto.ReviewPageDto;
+import com.foodordering.entity.ProductRatingCounts;
 import com.foodordering.entity.Review;
 import com.foodordering.entity.Product;
 import com.foodordering.entity.User;
 import com.foodordering.exception.ResourceNotFoundException;
+import com.foodordering.repository.ProductRatingCountsRepository;
+import com.foodordering.repository.ReviewFeedRepository;
 import com.foodordering.repository.ReviewRepository;
 import com.foodordering.repository.ProductRepository;
 import com.foodordering.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @Transactional
@@ -27,10 +39,91 @@ public class ReviewService {
     @Autowired
     private UserRepository userRepository;
 
-    public List<Review> getReviewsByProduct(Long productId) {
-        Product product = productRepository.findById(productId)
+    @Autowired
+    private ProductRatingCountsRepository ratingCountsRepository;
+
+    @Autowired
+    private SingleFlight<FeedKey, ReviewPageDto> reviewFeedLookups;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ReviewService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * One page of a product's reviews, or of all reviews when
+     * {@code productId} is null. {@code after} is the {@code nextCursor} of
+     * the previous page. Concurrent requests for the same page share one
+     * load, which runs in its own read-only transaction so waiting holds no
+     * connection.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReviewPageDto getReviewFeed(Long productId, ReviewFeedRepository.Sort sort, String after, int size) {
+        Integer afterRating = null;
+        Long afterId = null;
+        if (after != null && !after.isBlank()) {
+            try {
+                if (sort == ReviewFeedRepository.Sort.RATING) {
+                    String[] parts = after.split(":", 2);
+                    afterRating = Integer.valueOf(parts[0]);
+                    afterId = Long.valueOf(parts[1]);
+                } else {
+                    afterId = Long.valueOf(after);
+                }
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException ex) {
+                throw new IllegalArgumentException("Invalid cursor: " + after);
+            }
+        }
+
+        FeedKey key = new FeedKey(productId, sort, afterRating, afterId, size);
+        ReviewPageDto page = reviewFeedLookups.get(key, () -> readOnlyTransaction.execute(status -> loadFeedPage(key)));
+        if (page == null) {
+            throw new ResourceNotFoundException("Product not found with id: " + productId);
+        }
+        return page;
+    }
+
+    /**
+     * Load one feed page, or {@code null} if the product does not exist.
+     */
+    private ReviewPageDto loadFeedPage(FeedKey key) {
+        if (key.productId() != null && productRepository.findById(key.productId()).isEmpty()) {
+            return null;
+        }
+        int size = key.size();
+        List<ReviewDto> reviews = reviewRepository.findFeedPage(key.productId(), key.sort(), key.afterRating(),
+                key.afterId(), size + 1);
+        String nextCursor = null;
+        if (reviews.size() > size) {
+            reviews = new ArrayList<>(reviews.subList(0, size));
+            ReviewDto last = reviews.get(size - 1);
+            nextCursor = key.sort() == ReviewFeedRepository.Sort.RATING
+                    ? last.getRating() + ":" + last.getId()
+                    : String.valueOf(last.getId());
+        }
+        return new ReviewPageDto(List.copyOf(reviews), nextCursor);
+    }
+
+    /**
+     * Number of reviews of a product per star rating, read from its counts row.
+     */
+    @Transactional(readOnly = true)
+    public RatingHistogramDto getRatingHistogram(Long productId) {
+        productRepository.findById(productId)
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + productId));
-        return reviewRepository.findByProductWithUser(product);
+        ProductRatingCounts ratingCounts = ratingCountsRepository.findById(productId).orElseGet(ProductRatingCounts::new);
+        Map<Integer, Long> counts = new LinkedHashMap<>();
+        long total = 0;
+        long sum = 0;
+        for (int rating = 1; rating <= 5; rating++) {
+            long count = ratingCounts.getCount(rating);
+            counts.put(rating, count);
+            total += count;
+            sum += rating * count;
+        }
+        return new RatingHistogramDto(productId, counts, total, total > 0 ? (double) sum / total : null);
     }
 
     public Review createReview(Long productId, Long userId, int rating, String comment) {
@@ -40,13 +133,19 @@ public class ReviewService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
+        if (rating < 1 || rating > 5) {
+            throw new IllegalArgumentException("Rating must be between 1 and 5");
+        }
+
         Review review = new Review();
         review.setProduct(product);
         review.setUser(user);
         review.setRating(rating);
         review.setComment(comment);
 
-        return reviewRepository.save(review);
+        Review savedReview = reviewRepository.save(review);
+        ratingCountsRepository.adjust(productId, rating, 1);
+        return savedReview;
     }
 
     public void deleteReview(Long reviewId, Long userId) {
@@ -58,9 +157,12 @@ public class ReviewService {
         }
         
         reviewRepository.delete(review);
+        ratingCountsRepository.adjust(review.getProduct().getId(), review.getRating(), -1);
     }
 
-    public List<Review> getAllReviewsWithUserAndProduct() {
-        return reviewRepository.findAllWithUserAndProduct();
+    /**
+     * Identifies one page of a review feed.
+     */
+    public record FeedKey(Long productId, ReviewFeedRepository.Sort sort, Integer afterRating, Long afterId, int size) {
     }
-} 
\ No newline at end of file
+}
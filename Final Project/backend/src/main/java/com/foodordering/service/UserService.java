@@ -1,23 +1,33 @@
 package com.foodordering.service;
 
+import com.foodordering.availability.UserAvailabilityIndex;
+import com.foodordering.cart.CartStore;
+import com.foodordering.concurrency.SingleFlight;
 import com.foodordering.dto.AdminUserDto;
 import com.foodordering.dto.PasswordResetRequest;
+import com.foodordering.dto.UserDirectoryFilter;
+import com.foodordering.dto.UserDirectoryPageDto;
 import com.foodordering.dto.UserDto;
 import com.foodordering.entity.User;
 import com.foodordering.entity.UserRole;
 import com.foodordering.exception.InvalidSecretKeyException;
 import com.foodordering.exception.ResourceNotFoundException;
 import com.foodordering.exception.UserAlreadyExistsException;
+import com.foodordering.repository.CartRepository;
 import com.foodordering.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 /**
@@ -39,34 +49,42 @@ public class UserService implements UserDetailsService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private UserAvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private SingleFlight<String, UserDetails> userDetailsLookups;
+
+    @Autowired
+    private SingleFlight<String, UserDto> userLookups;
+
+    /**
+     * Load a user for authentication. Concurrent requests of the same user
+     * share one lookup, which runs outside a transaction so waiting holds no
+     * connection. Each caller gets its own copy, since authentication erases
+     * the password of the one it returns.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
-
-        return org.springframework.security.core.userdetails.User
-                .withUsername(user.getUsername())
-                .password(user.getPassword())
-                .roles(user.getRole().name())
-                .disabled(!user.isActive())
-                .accountExpired(false)
-                .credentialsExpired(false)
-                .accountLocked(false)
-                .build();
+        UserDetails userDetails = userDetailsLookups.get(username,
+                () -> userRepository.findByUsername(username).map(this::convertToUserDetails).orElse(null));
+        if (userDetails == null) {
+            throw new UsernameNotFoundException("User not found with username: " + username);
+        }
+        return org.springframework.security.core.userdetails.User.withUserDetails(userDetails).build();
     }
 
     /**
      * Register a new user.
      */
     public UserDto registerUser(String username, String email, String password) {
-        if (userRepository.existsByUsername(username)) {
-            throw new UserAlreadyExistsException("Username already exists: " + username);
-        }
-
-        if (userRepository.existsByEmail(email)) {
-            throw new UserAlreadyExistsException("Email already exists: " + email);
-        }
-
         User user = new User();
         user.setUsername(username);
         user.setEmail(email);
@@ -74,17 +92,11 @@ public class UserService implements UserDetailsService {
         user.setRole(UserRole.USER);
         user.setActive(true);
 
-        User savedUser = userRepository.save(user);
+        User savedUser = saveUser(user);
         return convertToDto(savedUser);
     }
 
     public UserDto adminCreateUser(AdminUserDto dto) {
-        if (userRepository.existsByUsername(dto.getUsername())) {
-            throw new UserAlreadyExistsException("Username already exists: " + dto.getUsername());
-        }
-        if (userRepository.existsByEmail(dto.getEmail())) {
-            throw new UserAlreadyExistsException("Email already exists: " + dto.getEmail());
-        }
         User user = new User();
         user.setUsername(dto.getUsername());
         user.setEmail(dto.getEmail());
@@ -99,7 +111,7 @@ public class UserService implements UserDetailsService {
             user.setRole(UserRole.USER);
         }
         user.setActive(dto.isActive());
-        User savedUser = userRepository.save(user);
+        User savedUser = saveUser(user);
         return convertToDto(savedUser);
     }
 
@@ -107,13 +119,13 @@ public class UserService implements UserDetailsService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
         if (dto.getUsername() != null && !dto.getUsername().equals(user.getUsername())) {
-            if (userRepository.existsByUsername(dto.getUsername())) {
+            if (existsByUsername(dto.getUsername())) {
                 throw new UserAlreadyExistsException("Username already exists: " + dto.getUsername());
             }
             user.setUsername(dto.getUsername());
         }
         if (dto.getEmail() != null && !dto.getEmail().equals(user.getEmail())) {
-            if (userRepository.existsByEmail(dto.getEmail())) {
+            if (existsByEmail(dto.getEmail())) {
                 throw new UserAlreadyExistsException("Email already exists: " + dto.getEmail());
             }
             user.setEmail(dto.getEmail());
@@ -125,13 +137,14 @@ public class UserService implements UserDetailsService {
             user.setRole(UserRole.valueOf(dto.getRole()));
         }
         user.setActive(dto.isActive());
-        User updatedUser = userRepository.save(user);
+        User updatedUser = saveUser(user);
         return convertToDto(updatedUser);
     }
 
     /**
      * Find user by ID.
      */
+    @Transactional(readOnly = true)
     public UserDto findById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
@@ -139,17 +152,23 @@ public class UserService implements UserDetailsService {
     }
 
     /**
-     * Find user by username.
+     * Find user by username. Concurrent requests of the same user share one
+     * lookup.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDto findByUsername(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
-        return convertToDto(user);
+        UserDto user = userLookups.get(username,
+                () -> userRepository.findByUsername(username).map(this::convertToDto).orElse(null));
+        if (user == null) {
+            throw new ResourceNotFoundException("User not found with username: " + username);
+        }
+        return user;
     }
 
     /**
      * Find user by email.
      */
+    @Transactional(readOnly = true)
     public UserDto findByEmail(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
@@ -159,15 +178,32 @@ public class UserService implements UserDetailsService {
     /**
      * Get all users.
      */
+    @Transactional(readOnly = true)
     public List<UserDto> findAllUsers() {
         return userRepository.findAll().stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get one page of the admin user directory, newest accounts first.
+     */
+    @Transactional(readOnly = true)
+    public UserDirectoryPageDto searchUserDirectory(UserDirectoryFilter filter, Long after, int size) {
+        List<User> users = userRepository.findDirectoryPage(filter, after, size + 1);
+        boolean hasMore = users.size() > size;
+        List<UserDto> page = users.stream()
+                .limit(size)
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+        Long nextAfter = hasMore ? page.get(page.size() - 1).getId() : null;
+        return new UserDirectoryPageDto(page, nextAfter);
+    }
+
     /**
      * Get users by role.
      */
+    @Transactional(readOnly = true)
     public List<UserDto> findUsersByRole(UserRole role) {
         return userRepository.findByRole(role).stream()
                 .map(this::convertToDto)
@@ -177,6 +213,7 @@ public class UserService implements UserDetailsService {
     /**
      * Get active users.
      */
+    @Transactional(readOnly = true)
     public List<UserDto> findActiveUsers() {
         return userRepository.findByActiveTrue().stream()
                 .map(this::convertToDto)
@@ -191,14 +228,14 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
 
         if (userDto.getUsername() != null && !userDto.getUsername().equals(user.getUsername())) {
-            if (userRepository.existsByUsername(userDto.getUsername())) {
+            if (existsByUsername(userDto.getUsername())) {
                 throw new UserAlreadyExistsException("Username already exists: " + userDto.getUsername());
             }
             user.setUsername(userDto.getUsername());
         }
 
         if (userDto.getEmail() != null && !userDto.getEmail().equals(user.getEmail())) {
-            if (userRepository.existsByEmail(userDto.getEmail())) {
+            if (existsByEmail(userDto.getEmail())) {
                 throw new UserAlreadyExistsException("Email already exists: " + userDto.getEmail());
             }
             user.setEmail(userDto.getEmail());
@@ -215,7 +252,7 @@ public class UserService implements UserDetailsService {
 
         user.setActive(userDto.isActive());
 
-        User updatedUser = userRepository.save(user);
+        User updatedUser = saveUser(user);
         return convertToDto(updatedUser);
     }
 
@@ -271,26 +308,33 @@ public class UserService implements UserDetailsService {
         if (!userRepository.existsById(id)) {
             throw new ResourceNotFoundException("User not found with id: " + id);
         }
+        cartStore.removeUser(id);
+        cartRepository.deleteByUserId(id);
         userRepository.deleteById(id);
     }
 
     /**
-     * Check if user exists by username.
+     * Check if user exists by username. Names the availability filter has
+     * never seen are answered without a query.
      */
+    @Transactional(readOnly = true)
     public boolean existsByUsername(String username) {
-        return userRepository.existsByUsername(username);
+        return availabilityIndex.mightContainUsername(username) && userRepository.existsByUsername(username);
     }
 
     /**
-     * Check if user exists by email.
+     * Check if user exists by email. Emails the availability filter has
+     * never seen are answered without a query.
      */
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        return availabilityIndex.mightContainEmail(email) && userRepository.existsByEmail(email);
     }
 
     /**
      * Get user count by role.
      */
+    @Transactional(readOnly = true)
     public long countByRole(UserRole role) {
         return userRepository.countByRole(role);
     }
@@ -298,10 +342,68 @@ public class UserService implements UserDetailsService {
     /**
      * Get active user count.
      */
+    @Transactional(readOnly = true)
     public long countActiveUsers() {
         return userRepository.countByActiveTrue();
     }
 
+    /**
+     * Insert a new user or write a changed one in a single statement. A taken
+     * username or email is rejected by the unique constraints, which also
+     * holds when two signups or renames to the same name race or the
+     * availability filter missed a name.
+     */
+    private User saveUser(User user) {
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            throw duplicateUser(user, ex);
+        }
+        availabilityIndex.record(savedUser.getUsername(), savedUser.getEmail());
+        forgetUsername(savedUser.getUsername());
+        return savedUser;
+    }
+
+    /**
+     * Translate a unique constraint violation on save into {@link UserAlreadyExistsException}.
+     */
+    private static RuntimeException duplicateUser(User user, DataIntegrityViolationException ex) {
+        if (!(ex.getCause() instanceof ConstraintViolationException violation)) {
+            return ex;
+        }
+        // Not every driver's error is parsed for the name; its message still contains it
+        String constraint = String.valueOf(violation.getConstraintName() != null
+                ? violation.getConstraintName() : violation.getSQLException().getMessage()).toLowerCase(Locale.ROOT);
+        if (constraint.contains(User.USERNAME_CONSTRAINT)) {
+            return new UserAlreadyExistsException("Username already exists: " + user.getUsername(), ex);
+        }
+        if (constraint.contains(User.EMAIL_CONSTRAINT)) {
+            return new UserAlreadyExistsException("Email already exists: " + user.getEmail(), ex);
+        }
+        return ex;
+    }
+
+    /**
+     * Drop a username remembered as not found, once the transaction commits.
+     */
+    private void forgetUsername(String username) {
+        userDetailsLookups.forget(username);
+        userLookups.forget(username);
+    }
+
+    private UserDetails convertToUserDetails(User user) {
+        return org.springframework.security.core.userdetails.User
+                .withUsername(user.getUsername())
+                .password(user.getPassword())
+                .roles(user.getRole().name())
+                .disabled(!user.isActive())
+                .accountExpired(false)
+                .credentialsExpired(false)
+                .accountLocked(false)
+                .build();
+    }
+
     /**
      * Convert User entity to UserDto.
      */
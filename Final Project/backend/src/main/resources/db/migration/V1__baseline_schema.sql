@@ -0,0 +1,104 @@
+-- ================================
+-- Baseline schema, matching the JPA entities
+-- (Hibernate validates it on startup)
+-- ================================
+
+CREATE TABLE users (
+    id BIGSERIAL PRIMARY KEY,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(255) NOT NULL CHECK (role IN ('USER', 'ADMIN')),
+    is_active BOOLEAN,
+    phone VARCHAR(255),
+    address VARCHAR(255),
+    postal_code VARCHAR(255),
+    avatar_url VARCHAR(255),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE products (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    price NUMERIC(10, 2) NOT NULL,
+    category VARCHAR(255) NOT NULL
+        CHECK (category IN ('PIZZA', 'BURGER', 'SALAD', 'APPETIZER', 'SIDE', 'DESSERT', 'BEVERAGE')),
+    image_url VARCHAR(255),
+    is_available BOOLEAN,
+    stock_quantity INTEGER,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE addresses (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users,
+    label VARCHAR(255),
+    address VARCHAR(255),
+    postal_code VARCHAR(255),
+    phone VARCHAR(255),
+    is_default BOOLEAN NOT NULL
+);
+
+CREATE TABLE carts (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL UNIQUE REFERENCES users,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE cart_items (
+    id BIGSERIAL PRIMARY KEY,
+    cart_id BIGINT NOT NULL REFERENCES carts,
+    product_id BIGINT NOT NULL REFERENCES products,
+    quantity INTEGER NOT NULL CHECK (quantity >= 1),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE orders (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users,
+    total_amount NUMERIC(10, 2) NOT NULL,
+    status VARCHAR(255) NOT NULL
+        CHECK (status IN ('PENDING', 'CONFIRMED', 'PREPARING', 'READY', 'OUT_FOR_DELIVERY', 'DELIVERED', 'CANCELLED')),
+    delivery_address VARCHAR(500) NOT NULL,
+    delivery_notes VARCHAR(1000),
+    estimated_delivery_time TIMESTAMP(6),
+    actual_delivery_time TIMESTAMP(6),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE order_items (
+    id BIGSERIAL PRIMARY KEY,
+    order_id BIGINT NOT NULL REFERENCES orders,
+    product_id BIGINT NOT NULL REFERENCES products,
+    quantity INTEGER NOT NULL CHECK (quantity >= 1),
+    price NUMERIC(10, 2) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE reviews (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users,
+    product_id BIGINT NOT NULL REFERENCES products,
+    rating INTEGER NOT NULL,
+    comment VARCHAR(1000),
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE contacts (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    message TEXT NOT NULL,
+    phone_number VARCHAR(255),
+    status VARCHAR(255) NOT NULL CHECK (status IN ('PENDING', 'IN_PROGRESS', 'RESOLVED', 'CLOSED')),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
@@ -0,0 +1,24 @@
+-- ================================
+-- Indexes for the hot queries
+-- ================================
+
+-- A user's orders, newest first (OrderRepository.findByUserIdOrderByCreatedAtDesc)
+CREATE INDEX idx_orders_user_created ON orders (user_id, created_at DESC);
+
+-- Reviews of a product (ReviewRepository.findByProductId, average rating)
+CREATE INDEX idx_reviews_product ON reviews (product_id);
+
+-- Menu listing by category and availability
+CREATE INDEX idx_products_category_available ON products (category, is_available);
+
+-- Admin contact list filtered by status, newest first
+CREATE INDEX idx_contacts_status_created ON contacts (status, created_at DESC);
+
+-- A user's addresses, and the default one without scanning the rest
+CREATE INDEX idx_addresses_user ON addresses (user_id);
+CREATE INDEX idx_addresses_user_default ON addresses (user_id) WHERE is_default;
+
+-- Case-insensitive substring search (LOWER(column) LIKE '%term%')
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_products_name_trgm ON products USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX idx_products_description_trgm ON products USING gin (lower(description) gin_trgm_ops);
@@ -2,24 +2,6 @@
 -- Sample data for Food Ordering Platform
 -- ================================
 
--- Reset sequences
-ALTER SEQUENCE IF EXISTS users_id_seq RESTART WITH 1;
-ALTER SEQUENCE IF EXISTS products_id_seq RESTART WITH 1;
-ALTER SEQUENCE IF EXISTS carts_id_seq RESTART WITH 1;
-ALTER SEQUENCE IF EXISTS cart_items_id_seq RESTART WITH 1;
-ALTER SEQUENCE IF EXISTS orders_id_seq RESTART WITH 1;
-ALTER SEQUENCE IF EXISTS order_items_id_seq RESTART WITH 1;
-ALTER SEQUENCE IF EXISTS contacts_id_seq RESTART WITH 1;
-
--- Clear existing data
-DELETE FROM order_items;
-DELETE FROM orders;
-DELETE FROM cart_items;
-DELETE FROM carts;
-DELETE FROM products;
-DELETE FROM users;
-DELETE FROM contacts;
-
 -- Insert users (κωδικός: password123 για όλους)
 INSERT INTO users (id, username, email, password, role, is_active, created_at, updated_at) VALUES
 (1, 'admin', 'admin@foodordering.com', '$2a$10$X6KMIGDJQuyfi8MsvkmXX./2X3a76ALOKbF5H42nyTslpTyqEytMi', 'ADMIN', true, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
@@ -60,8 +42,4 @@ INSERT INTO contacts (name, email, subject, message, phone_number, status, creat
 -- Update sequences
 SELECT setval('users_id_seq', (SELECT MAX(id) FROM users));
 SELECT setval('products_id_seq', (SELECT MAX(id) FROM products));
-SELECT setval('carts_id_seq', (SELECT MAX(id) FROM carts));
-SELECT setval('cart_items_id_seq', (SELECT MAX(id) FROM cart_items));
-SELECT setval('orders_id_seq', (SELECT MAX(id) FROM orders));
-SELECT setval('order_items_id_seq', (SELECT MAX(id) FROM order_items));
-SELECT setval('contacts_id_seq', (SELECT MAX(id) FROM contacts));
\ No newline at end of file
+SELECT setval('contacts_id_seq', (SELECT MAX(id) FROM contacts));
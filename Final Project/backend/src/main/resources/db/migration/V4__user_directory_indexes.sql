@@ -0,0 +1,17 @@
+-- ================================
+-- Indexes for the admin user directory (UserRepository.findDirectoryPage)
+-- ================================
+
+-- Substring search on username and email (LOWER(column) LIKE '%term%', terms of 3+ characters)
+CREATE INDEX idx_users_username_trgm ON users USING gin (lower(username) gin_trgm_ops);
+CREATE INDEX idx_users_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
+
+-- Prefix search for shorter terms (LOWER(column) LIKE 'te%')
+CREATE INDEX idx_users_username_prefix ON users (lower(username) text_pattern_ops);
+CREATE INDEX idx_users_email_prefix ON users (lower(email) text_pattern_ops);
+
+-- Role and status filters, walked in keyset order
+CREATE INDEX idx_users_role_active_id ON users (role, is_active, id DESC);
+
+-- Registration date range
+CREATE INDEX idx_users_created ON users (created_at);
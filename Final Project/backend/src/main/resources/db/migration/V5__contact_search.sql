@@ -0,0 +1,18 @@
+-- ================================
+-- Full-text search over the contact inbox (ContactRepository.searchContacts)
+-- ================================
+
+-- Kept up to date by PostgreSQL on every insert and update. Subject words
+-- rank above the sender's name, which ranks above the message body. The
+-- 'simple' configuration does not stem, so Greek and English text are
+-- matched alike.
+ALTER TABLE contacts ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(subject, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(name, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(message, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_contacts_search ON contacts USING gin (search_vector);
+
+-- Listing and date filters without a search term, newest first
+CREATE INDEX idx_contacts_created ON contacts (created_at DESC);
@@ -0,0 +1,12 @@
+-- ================================
+-- At most one default address per user (AddressService.setDefaultAddress)
+-- ================================
+
+-- Keep only the newest default where earlier code left several
+UPDATE addresses a SET is_default = false
+WHERE a.is_default
+  AND EXISTS (SELECT 1 FROM addresses b WHERE b.user_id = a.user_id AND b.is_default AND b.id > a.id);
+
+-- Same lookup as before, now also rejecting a second default
+DROP INDEX idx_addresses_user_default;
+CREATE UNIQUE INDEX idx_addresses_user_default ON addresses (user_id) WHERE is_default;
@@ -0,0 +1,30 @@
+-- ================================
+-- Keyset review feeds and rating histograms (ReviewFeedRepository, ProductRatingCounts)
+-- ================================
+
+-- A product's reviews, newest first
+DROP INDEX idx_reviews_product;
+CREATE INDEX idx_reviews_product ON reviews (product_id, id DESC);
+
+-- A product's reviews, best rated first
+CREATE INDEX idx_reviews_product_rating ON reviews (product_id, rating DESC, id DESC);
+
+-- Reviews per star rating, kept current by ReviewService in the same transaction as the review
+CREATE TABLE product_rating_counts (
+    product_id BIGINT PRIMARY KEY REFERENCES products ON DELETE CASCADE,
+    stars_1 BIGINT NOT NULL DEFAULT 0,
+    stars_2 BIGINT NOT NULL DEFAULT 0,
+    stars_3 BIGINT NOT NULL DEFAULT 0,
+    stars_4 BIGINT NOT NULL DEFAULT 0,
+    stars_5 BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO product_rating_counts (product_id, stars_1, stars_2, stars_3, stars_4, stars_5)
+SELECT product_id,
+       COUNT(*) FILTER (WHERE rating = 1),
+       COUNT(*) FILTER (WHERE rating = 2),
+       COUNT(*) FILTER (WHERE rating = 3),
+       COUNT(*) FILTER (WHERE rating = 4),
+       COUNT(*) FILTER (WHERE rating = 5)
+FROM reviews
+GROUP BY product_id;
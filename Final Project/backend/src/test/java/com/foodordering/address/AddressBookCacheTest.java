@@ -0,0 +1,93 @@
+package com.foodordering.address;
+
+import com.foodordering.dto.AddressDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for {@link AddressBookCache}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+class AddressBookCacheTest {
+
+    private final AddressBookCache cache = new AddressBookCache(new AddressBookProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void testGet_SameUserInvalidatedDuringLoad_ResultNotCached() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            cache.invalidate(1L);
+            return List.of(address(id, "Old"));
+        });
+        List<AddressDto> reloaded = cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return List.of(address(id, "New"));
+        });
+
+        // Then
+        assertEquals(2, loads.get());
+        assertEquals("New", reloaded.get(0).getLabel());
+    }
+
+    @Test
+    void testGet_OtherUserInvalidatedDuringLoad_ResultCached() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            cache.invalidate(2L);
+            return List.of(address(id, "Home"));
+        });
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return List.of(address(id, "Home"));
+        });
+
+        // Then
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testGet_OverCapacity_DropsLeastRecentlyRead() {
+        // Given
+        AddressBookProperties properties = new AddressBookProperties();
+        properties.setMaxUsers(10);
+        AddressBookCache small = new AddressBookCache(properties, new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        for (long userId = 1; userId <= 10; userId++) {
+            small.get(userId, id -> load(loads, id));
+        }
+        small.get(1L, id -> load(loads, id));
+
+        // When
+        small.get(11L, id -> load(loads, id));
+
+        // Then: users 2 and 3 were read least recently and dropped; user 1 is still cached
+        small.get(1L, id -> load(loads, id));
+        assertEquals(11, loads.get());
+        small.get(2L, id -> load(loads, id));
+        assertEquals(12, loads.get());
+    }
+
+    private static List<AddressDto> load(AtomicInteger loads, Long userId) {
+        loads.incrementAndGet();
+        return List.of(address(userId, "Home"));
+    }
+
+    private static AddressDto address(Long userId, String label) {
+        return new AddressDto(null, userId, label, "Stadiou 10", "10564", null, true);
+    }
+}
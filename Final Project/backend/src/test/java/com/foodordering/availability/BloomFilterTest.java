@@ -0,0 +1,64 @@
+package com.foodordering.availability;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link BloomFilter}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+class BloomFilterTest {
+
+    @Test
+    void testMightContain_AddedValues_AlwaysTrue() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        // When / Then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"));
+        }
+    }
+
+    @Test
+    void testMightContain_OtherValues_StaysNearFalsePositiveRate() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(falsePositives < 2_000, "False positives: " + falsePositives);
+    }
+
+    @Test
+    void testMightContain_EmptyFilter_False() {
+        // Given
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        // When / Then
+        assertFalse(filter.mightContain("admin"));
+    }
+
+    @Test
+    void testConstructor_InvalidRate_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1.0));
+    }
+}
@@ -0,0 +1,101 @@
+package com.foodordering.cart;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link ActiveCart}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+class ActiveCartTest {
+
+    @Test
+    void testAdd_ConcurrentAddsOfOneProduct_NeverExceedMaxQuantity() throws Exception {
+        // Given
+        ActiveCart cart = new ActiveCart(1L, Map.of(), 50, 10);
+
+        // When
+        int accepted = race(16, i -> cart.add(7L, 3));
+
+        // Then
+        assertEquals(3, accepted);
+        assertEquals(9, cart.snapshot().quantities().get(7L));
+    }
+
+    @Test
+    void testAdd_ConcurrentAddsOfNewProducts_NeverExceedMaxItems() throws Exception {
+        // Given
+        ActiveCart cart = new ActiveCart(1L, Map.of(), 5, 99);
+
+        // When
+        int accepted = race(16, i -> cart.add((long) i, 1));
+
+        // Then
+        assertEquals(5, accepted);
+        assertEquals(5, cart.snapshot().quantities().size());
+    }
+
+    @Test
+    void testSet_ExistingProductInFullCart_Allowed() {
+        // Given
+        ActiveCart cart = new ActiveCart(1L, Map.of(1L, 1, 2L, 1), 2, 99);
+
+        // When
+        cart.set(1L, 4);
+
+        // Then
+        assertEquals(4, cart.snapshot().quantities().get(1L));
+        assertThrows(IllegalArgumentException.class, () -> cart.set(3L, 1));
+        assertThrows(IllegalArgumentException.class, () -> cart.set(1L, 100));
+    }
+
+    /**
+     * Start {@code threads} changes at once and count those the cart accepted.
+     */
+    private static int race(int threads, Change change) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int index = i;
+                results.add(executor.submit(() -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    try {
+                        return change.apply(index);
+                    } catch (IllegalArgumentException ex) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int accepted = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(5, TimeUnit.SECONDS)) {
+                    accepted++;
+                }
+            }
+            return accepted;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Change {
+        boolean apply(int index);
+    }
+}
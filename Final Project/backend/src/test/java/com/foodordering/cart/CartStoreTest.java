@@ -0,0 +1,66 @@
+package com.foodordering.cart;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link CartStore}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+class CartStoreTest {
+
+    @Test
+    void testFlush_SharedSchedulerBusyWithSlowJob_StillWritesChanges() throws Exception {
+        // Given: a single-thread scheduler, like Spring's default, stuck in a slow job
+        ThreadPoolTaskScheduler sharedScheduler = new ThreadPoolTaskScheduler();
+        sharedScheduler.setPoolSize(1);
+        sharedScheduler.initialize();
+        CountDownLatch slowJob = new CountDownLatch(1);
+        sharedScheduler.schedule(() -> await(slowJob), Instant.now());
+
+        CartPersister persister = mock(CartPersister.class);
+        when(persister.load(1L)).thenReturn(Map.of());
+        CartProperties properties = new CartProperties();
+        properties.setFlushIntervalMs(50);
+        CartStore store = new CartStore(persister, properties, new SimpleMeterRegistry());
+        store.start();
+
+        try {
+            // When
+            ActiveCart cart = store.get(1L);
+            cart.add(1L, 2);
+            store.changed(cart);
+
+            // Then
+            verify(persister, timeout(5_000)).save(any());
+            assertFalse(store.isDirty(1L));
+        } finally {
+            slowJob.countDown();
+            store.flushOnShutdown();
+            sharedScheduler.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
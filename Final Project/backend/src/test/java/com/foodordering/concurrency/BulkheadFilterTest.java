@@ -0,0 +1,107 @@
+package com.foodordering.concurrency;
+
+import com.foodordering.config.BulkheadRoutingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link BulkheadFilter}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+class BulkheadFilterTest {
+
+    private BulkheadProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BulkheadProperties();
+        properties.setEnabled(true);
+        properties.getAdmin().setMaxConcurrentRequests(1);
+        properties.getAdmin().setMaxWait(Duration.ZERO);
+        properties.getCustomer().setMaxConcurrentRequests(10);
+        BulkheadProperties.Route users = new BulkheadProperties.Route();
+        users.setPattern("/users/**");
+        BulkheadProperties.Route orders = new BulkheadProperties.Route();
+        orders.setPattern("/orders");
+        orders.setMethods(List.of("GET"));
+        properties.setAdminRoutes(List.of(users, orders));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testDoFilter_AdminBulkheadFull_RejectsAdminButServesCustomers() throws Exception {
+        // Given
+        BulkheadFilter filter = new BulkheadFilter(properties, meterRegistry);
+        MockHttpServletResponse admin = new MockHttpServletResponse();
+        MockHttpServletResponse customer = new MockHttpServletResponse();
+        AtomicReference<Double> saturation = new AtomicReference<>();
+
+        // When: a second admin request and a checkout arrive while an admin report runs
+        filter.doFilter(new MockHttpServletRequest("GET", "/orders"), new MockHttpServletResponse(),
+                (outerRequest, outerResponse) -> {
+                    saturation.set(meterRegistry.get("bulkhead.saturation").tag("bulkhead", "admin").gauge().value());
+                    filter.doFilter(new MockHttpServletRequest("GET", "/users"), admin, (request, response) -> { });
+                    filter.doFilter(new MockHttpServletRequest("POST", "/orders"), customer, (request, response) -> { });
+                });
+
+        // Then
+        assertEquals(1.0, saturation.get());
+        assertEquals(503, admin.getStatus());
+        assertEquals("1", admin.getHeader("Retry-After"));
+        assertEquals(200, customer.getStatus());
+        assertEquals(1.0, meterRegistry.get("bulkhead.requests.rejected").tag("bulkhead", "admin").counter().count());
+        assertEquals(0.0, meterRegistry.get("bulkhead.requests.active").tag("bulkhead", "admin").gauge().value());
+    }
+
+    @Test
+    void testDoFilter_AdminRequest_UsesAdminConnectionPool() throws Exception {
+        // Given
+        BulkheadFilter filter = new BulkheadFilter(properties, meterRegistry);
+        Connection customerConnection = mock(Connection.class);
+        Connection adminConnection = mock(Connection.class);
+        DataSource customerPool = mock(DataSource.class);
+        DataSource adminPool = mock(DataSource.class);
+        when(customerPool.getConnection()).thenReturn(customerConnection);
+        when(adminPool.getConnection()).thenReturn(adminConnection);
+        DataSource dataSource = new BulkheadRoutingDataSource(customerPool, adminPool);
+        AtomicReference<Connection> adminUsed = new AtomicReference<>();
+        AtomicReference<Connection> customerUsed = new AtomicReference<>();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/users/2"), new MockHttpServletResponse(),
+                (request, response) -> adminUsed.set(getConnection(dataSource)));
+        filter.doFilter(new MockHttpServletRequest("GET", "/orders/user/2"), new MockHttpServletResponse(),
+                (request, response) -> customerUsed.set(getConnection(dataSource)));
+
+        // Then
+        assertSame(adminConnection, adminUsed.get());
+        assertSame(customerConnection, customerUsed.get());
+        assertSame(customerConnection, dataSource.getConnection());
+        assertEquals(Bulkhead.CUSTOMER, BulkheadContext.current());
+    }
+
+    private static Connection getConnection(DataSource dataSource) {
+        try {
+            return dataSource.getConnection();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.foodordering.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link ConcurrencyLimitFilter}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+class ConcurrencyLimitFilterTest {
+
+    private ConcurrencyLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConcurrencyLimitProperties();
+        properties.setEnabled(true);
+        properties.setMaxWait(Duration.ofMillis(50));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testLimit_DefaultsToPoolSizeTimesPermitsPerConnection() {
+        // Given
+        properties.setPermitsPerConnection(3);
+
+        // When
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties, new DriverManagerDataSource(), meterRegistry);
+
+        // Then
+        assertEquals(30, filter.getLimit());
+    }
+
+    @Test
+    void testDoFilter_BeyondLimit_RejectsWith503() throws Exception {
+        // Given
+        properties.setMaxConcurrentRequests(1);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties, new DriverManagerDataSource(), meterRegistry);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blockingChain = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        Thread holder = new Thread(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/products"), new MockHttpServletResponse(), blockingChain);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        holder.start();
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // When
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/products"), rejected, (request, response) -> { });
+        release.countDown();
+        holder.join();
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/products"), accepted, (request, response) -> { });
+
+        // Then
+        assertEquals(503, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertEquals(200, accepted.getStatus());
+        assertEquals(1.0, meterRegistry.get("http.server.requests.rejected").counter().count());
+    }
+
+    @Test
+    void testDoFilter_ActuatorIsNeverLimited() throws Exception {
+        // Given
+        properties.setMaxConcurrentRequests(1);
+        properties.setMaxWait(Duration.ZERO);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties, new DriverManagerDataSource(), meterRegistry);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/products"), new MockHttpServletResponse(),
+                (outerRequest, outerResponse) -> filter.doFilter(
+                        new MockHttpServletRequest("GET", "/actuator/health"), response, (request, inner) -> { }));
+
+        // Then
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void testDoFilter_NearLimit_ShedsLowPriorityFirst() throws Exception {
+        // Given
+        properties.setMaxConcurrentRequests(4);
+        properties.setMaxWait(Duration.ZERO);
+        properties.setPriorities(List.of(
+                rule("/orders", "POST", RequestPriority.CRITICAL),
+                rule("/contacts/**", "GET", RequestPriority.LOW)));
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties, new DriverManagerDataSource(), meterRegistry);
+        MockHttpServletResponse low = new MockHttpServletResponse();
+        MockHttpServletResponse normal = new MockHttpServletResponse();
+        MockHttpServletResponse critical = new MockHttpServletResponse();
+
+        // When: three requests in progress, against allowances of 2 (low), 3 (normal) and 4 (critical)
+        holdAndThen(filter, 3, () -> {
+            filter.doFilter(new MockHttpServletRequest("GET", "/contacts/search"), low, (request, response) -> { });
+            filter.doFilter(new MockHttpServletRequest("GET", "/products"), normal, (request, response) -> { });
+            filter.doFilter(new MockHttpServletRequest("POST", "/orders"), critical, (request, response) -> { });
+        });
+
+        // Then
+        assertEquals(503, low.getStatus());
+        assertEquals(503, normal.getStatus());
+        assertEquals(200, critical.getStatus());
+        assertEquals(1.0, meterRegistry.get("http.server.requests.rejected").tag("priority", "low").counter().count());
+    }
+
+    @Test
+    void testLimitGauge_FollowsAdaptiveLimit() throws Exception {
+        // Given
+        properties.setMaxConcurrentRequests(4);
+        properties.setNormalPriorityShare(1.0);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties, new DriverManagerDataSource(), meterRegistry);
+
+        // When: the limit is well used and latency stays flat
+        for (int i = 0; i < 50; i++) {
+            holdAndThen(filter, 4, () -> { });
+        }
+
+        // Then
+        assertTrue(filter.getLimit() > 4);
+        assertEquals(filter.getLimit(), meterRegistry.get("http.server.requests.concurrency.limit").gauge().value());
+    }
+
+    private static ConcurrencyLimitProperties.Rule rule(String pattern, String method, RequestPriority priority) {
+        ConcurrencyLimitProperties.Rule rule = new ConcurrencyLimitProperties.Rule();
+        rule.setPattern(pattern);
+        rule.setMethods(List.of(method));
+        rule.setPriority(priority);
+        return rule;
+    }
+
+    /**
+     * Run {@code action} while {@code count} normal priority requests are in progress.
+     */
+    private static void holdAndThen(ConcurrencyLimitFilter filter, int count, FilterAction action) throws Exception {
+        if (count == 0) {
+            action.run();
+            return;
+        }
+        filter.doFilter(new MockHttpServletRequest("GET", "/products"), new MockHttpServletResponse(),
+                (request, response) -> {
+                    try {
+                        holdAndThen(filter, count - 1, action);
+                    } catch (Exception ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface FilterAction {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,114 @@
+package com.foodordering.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link GradientLimit}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+class GradientLimitTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void testOnSample_FlatLatencyAtFullUse_IncreasesLimit() {
+        // Given
+        GradientLimit limit = new GradientLimit(20, 4, 200, 1.5, 0.2);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(10 * MILLIS, limit.getLimit());
+        }
+
+        // Then
+        assertTrue(limit.getLimit() > 20);
+    }
+
+    @Test
+    void testOnSample_RisingLatency_DecreasesLimit() {
+        // Given
+        GradientLimit limit = new GradientLimit(50, 4, 200, 1.5, 0.2);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(10 * MILLIS, 50);
+        }
+        int before = limit.getLimit();
+
+        // When
+        for (int i = 0; i < 30; i++) {
+            limit.onSample(100 * MILLIS, limit.getLimit());
+        }
+
+        // Then
+        assertTrue(limit.getLimit() < before, "limit " + limit.getLimit() + " not below " + before);
+    }
+
+    @Test
+    void testOnSample_LowUtilization_KeepsLimit() {
+        // Given
+        GradientLimit limit = new GradientLimit(20, 4, 200, 1.5, 0.2);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(i * MILLIS, 2);
+        }
+
+        // Then
+        assertEquals(20, limit.getLimit());
+    }
+
+    @Test
+    void testOnSample_SustainedOverload_StopsAtMinLimit() {
+        // Given
+        GradientLimit limit = new GradientLimit(20, 4, 200, 1.5, 0.2);
+        limit.onSample(MILLIS, 20);
+
+        // When
+        long rtt = MILLIS;
+        for (int i = 0; i < 200; i++) {
+            rtt = rtt * 11 / 10;
+            limit.onSample(rtt, limit.getLimit());
+        }
+
+        // Then
+        assertEquals(4, limit.getLimit());
+    }
+
+    @Test
+    void testOnSample_ConcurrentSamplesAtFullUse_ReachMaxLimit() throws Exception {
+        // Given
+        GradientLimit limit = new GradientLimit(20, 4, 200, 1.5, 0.2);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<?>> samplers = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < 8; thread++) {
+                samplers.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        limit.onSample(10 * MILLIS, limit.getLimit());
+                    }
+                }));
+            }
+            for (Future<?> sampler : samplers) {
+                sampler.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertEquals(200, limit.getLimit());
+    }
+}
@@ -0,0 +1,195 @@
+package com.foodordering.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link SingleFlight}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testGet_ConcurrentCallers_ShareOneLoad() throws Exception {
+        // Given
+        SingleFlight<Long, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), 100, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> flight.get(1L, () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "pizza";
+                })));
+            }
+            while (coalescing("loaded") + coalescing("coalesced") < 8) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("pizza", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(1, coalescing("loaded"));
+        assertEquals(7, coalescing("coalesced"));
+    }
+
+    @Test
+    void testGet_LoaderFails_FollowersGetSameExceptionAndNothingIsCached() throws Exception {
+        // Given
+        SingleFlight<Long, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), 100, meterRegistry);
+        IllegalStateException failure = new IllegalStateException("database down");
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        try {
+            Future<String> leader = executor.submit(() -> flight.get(1L, () -> {
+                await(release);
+                throw failure;
+            }));
+            while (coalescing("loaded") < 1) {
+                Thread.sleep(5);
+            }
+            Future<String> follower = executor.submit(() -> flight.get(1L, () -> "unused"));
+            while (coalescing("coalesced") < 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            // Then
+            ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+            ExecutionException followerFailure = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertSame(failure, leaderFailure.getCause());
+            assertSame(failure, followerFailure.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals("pizza", flight.get(1L, () -> "pizza"));
+    }
+
+    @Test
+    void testGet_NotFound_RememberedUntilForgotten() {
+        // Given
+        SingleFlight<Long, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), 100, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        assertNull(flight.get(1L, () -> { loads.incrementAndGet(); return null; }));
+        assertNull(flight.get(1L, () -> { loads.incrementAndGet(); return "pizza"; }));
+        flight.forget(1L);
+        String found = flight.get(1L, () -> { loads.incrementAndGet(); return "pizza"; });
+
+        // Then
+        assertEquals("pizza", found);
+        assertEquals(2, loads.get());
+        assertEquals(1, coalescing("negative"));
+    }
+
+    @Test
+    void testGet_ForgetLandsWhileNotFoundIsRecorded_EntryDropped() {
+        // Given - the key runs the forget the moment the not-found entry is being stored,
+        // i.e. after the loader returned and the forget counter was already checked
+        SingleFlight<HookedKey, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), 100, meterRegistry);
+        HookedKey key = new HookedKey();
+
+        // When
+        flight.get(key, () -> {
+            key.onNextHash = () -> flight.forget(key);
+            return null;
+        });
+        String found = flight.get(key, () -> "pizza");
+
+        // Then
+        assertEquals("pizza", found);
+        assertEquals(0, coalescing("negative"));
+    }
+
+    @Test
+    void testGet_NotFoundExpired_LoadsAgain() throws InterruptedException {
+        // Given
+        SingleFlight<Long, String> flight = new SingleFlight<>("test", Duration.ofMillis(20), 100, meterRegistry);
+        flight.get(1L, () -> null);
+
+        // When
+        Thread.sleep(40);
+        String found = flight.get(1L, () -> "pizza");
+
+        // Then
+        assertEquals("pizza", found);
+        assertEquals(0, coalescing("negative"));
+    }
+
+    @Test
+    void testGet_FoundValue_NotCached() {
+        // Given
+        SingleFlight<Long, String> flight = new SingleFlight<>("test", Duration.ofSeconds(5), 100, meterRegistry);
+        flight.get(1L, () -> "pizza");
+
+        // When
+        String found = flight.get(1L, () -> "pasta");
+
+        // Then
+        assertEquals("pasta", found);
+    }
+
+    private double coalescing(String result) {
+        return meterRegistry.get("lookup.coalescing").tag("lookup", "test").tag("result", result).counter().count();
+    }
+
+    /**
+     * A key that runs a hook the next time it is hashed.
+     */
+    private static final class HookedKey {
+
+        private Runnable onNextHash;
+
+        @Override
+        public int hashCode() {
+            Runnable hook = onNextHash;
+            onNextHash = null;
+            if (hook != null) {
+                hook.run();
+            }
+            return 1;
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
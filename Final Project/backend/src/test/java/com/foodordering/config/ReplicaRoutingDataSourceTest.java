@@ -0,0 +1,135 @@
+package com.foodordering.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for read/write routing against two H2 databases, each
+ * recording which node it is.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate routed;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaryDataSource = h2("routing_primary");
+        DataSource replicaDataSource = h2("routing_replica");
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        for (JdbcTemplate node : new JdbcTemplate[] {primary, replica}) {
+            node.execute("DROP TABLE IF EXISTS node");
+            node.execute("CREATE TABLE node (name VARCHAR(20), lag_seconds DOUBLE)");
+        }
+        primary.update("INSERT INTO node VALUES ('primary', 0)");
+        replica.update("INSERT INTO node VALUES ('replica', 0)");
+
+        ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties();
+        properties.setLagQuery("SELECT lag_seconds FROM node");
+        properties.setMaxLag(Duration.ofSeconds(5));
+        lagMonitor = new ReplicaLagMonitor(replicaDataSource, properties, new SimpleMeterRegistry());
+        lagMonitor.checkReplica();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, lagMonitor));
+        routed = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertTrue(lagMonitor.isReplicaAvailable());
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    @Test
+    void replicaNotCheckedUntilFirstScheduledCheck() {
+        // Given
+        DataSource unreachable = mock(DataSource.class);
+
+        // When
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(unreachable, new ReplicaDataSourceProperties(),
+                new SimpleMeterRegistry());
+
+        // Then
+        assertFalse(monitor.isReplicaAvailable());
+        verifyNoInteractions(unreachable);
+    }
+
+    @Test
+    void readWriteTransactionUsesPrimary() {
+        assertEquals("primary", readWrite.execute(status -> currentNode()));
+    }
+
+    @Test
+    void workOutsideTransactionUsesPrimary() {
+        assertEquals("primary", currentNode());
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimaryUntilCaughtUp() {
+        // Given
+        replica.update("UPDATE node SET lag_seconds = 30");
+
+        // When
+        lagMonitor.checkReplica();
+
+        // Then
+        assertFalse(lagMonitor.isReplicaAvailable());
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+
+        // When
+        replica.update("UPDATE node SET lag_seconds = 1");
+        lagMonitor.checkReplica();
+
+        // Then
+        assertEquals("replica", readOnly.execute(status -> currentNode()));
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimary() {
+        // Given
+        replica.execute("DROP TABLE node");
+
+        // When
+        lagMonitor.checkReplica();
+
+        // Then
+        assertFalse(lagMonitor.isReplicaAvailable());
+        assertEquals("primary", readOnly.execute(status -> currentNode()));
+    }
+
+    private String currentNode() {
+        return routed.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
@@ -0,0 +1,102 @@
+package com.foodordering.contact;
+
+import com.foodordering.dto.ContactDto;
+import com.foodordering.entity.ContactStatus;
+import com.foodordering.repository.ContactRepository;
+import com.foodordering.service.ContactService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Integration tests for the live contact counters behind the statistics.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ContactCountersTests {
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private ContactCounters contactCounters;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private ContactIngestionBuffer contactIngestionBuffer;
+
+    @AfterEach
+    void tearDown() {
+        contactRepository.deleteAll();
+        contactCounters.reconcile();
+    }
+
+    @Test
+    void testCounters_FollowSubmitStatusChangeAndDelete() {
+        // Given
+        contactCounters.reconcile();
+        long total = contactCounters.getTotal();
+        long pending = contactCounters.getCount(ContactStatus.PENDING);
+        long resolved = contactCounters.getCount(ContactStatus.RESOLVED);
+        long today = contactCounters.getCountOn(LocalDate.now());
+
+        // When
+        contactService.submitContact(contact("First"));
+        contactService.submitContact(contact("Second"));
+        contactIngestionBuffer.flush();
+        contactService.updateContactStatus(idOf("First"), ContactStatus.RESOLVED);
+        contactService.deleteContact(idOf("Second"));
+
+        // Then
+        ContactService.ContactStatistics statistics = contactService.getContactStatistics();
+        assertEquals(total + 1, statistics.getTotalContacts());
+        assertEquals(pending, statistics.getPendingContacts());
+        assertEquals(resolved + 1, statistics.getResolvedContacts());
+        assertEquals(today + 1, statistics.getTodayContacts());
+    }
+
+    @Test
+    void testReconcile_MatchesDatabase() {
+        // Given
+        contactService.submitContact(contact("Reconciled"));
+        contactIngestionBuffer.flush();
+        contactService.updateContactStatus(idOf("Reconciled"), ContactStatus.IN_PROGRESS);
+        long total = contactCounters.getTotal();
+        long inProgress = contactCounters.getCount(ContactStatus.IN_PROGRESS);
+
+        // When
+        contactCounters.reconcile();
+
+        // Then
+        assertEquals(contactRepository.count(), total);
+        assertEquals(total, contactCounters.getTotal());
+        assertEquals(contactRepository.countByStatus(ContactStatus.IN_PROGRESS), inProgress);
+        assertEquals(inProgress, contactCounters.getCount(ContactStatus.IN_PROGRESS));
+    }
+
+    private Long idOf(String subject) {
+        return contactRepository.findAll().stream()
+                .filter(contact -> contact.getSubject().equals(subject))
+                .findFirst().orElseThrow().getId();
+    }
+
+    private static ContactDto contact(String subject) {
+        ContactDto dto = new ContactDto();
+        dto.setName("Counter Test");
+        dto.setEmail("counter@example.com");
+        dto.setSubject(subject);
+        dto.setMessage("Testing the contact counters");
+        return dto;
+    }
+}
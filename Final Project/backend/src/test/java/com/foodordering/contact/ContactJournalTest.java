@@ -0,0 +1,105 @@
+package com.foodordering.contact;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link ContactJournal}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+class ContactJournalTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRecover_UnwrittenSubmissions_ReadBackAfterRestart() throws IOException {
+        // Given
+        ContactJournal journal = new ContactJournal(directory, objectMapper, 1024 * 1024);
+        long segment = journal.append(submission("First"));
+        journal.append(submission("Second"));
+        journal.close();
+        // A crash while appending leaves a partial last line
+        Files.writeString(directory.resolve("contacts-" + segment + ".journal"), "{\"name\":\"Cut",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // When
+        ContactJournal restarted = new ContactJournal(directory, objectMapper, 1024 * 1024);
+
+        // Then
+        assertEquals(List.of(segment), restarted.recoveredSegments());
+        List<ContactSubmission> recovered = restarted.read(segment);
+        assertEquals(List.of("First", "Second"), recovered.stream().map(ContactSubmission::subject).toList());
+        restarted.close();
+    }
+
+    @Test
+    void testWritten_FullyWrittenSegments_AreDeleted() throws IOException {
+        // Given: segments small enough that every submission starts a new one
+        ContactJournal journal = new ContactJournal(directory, objectMapper, 10);
+        long first = journal.append(submission("First"));
+        long second = journal.append(submission("Second"));
+
+        // When
+        journal.written(first, 1);
+        journal.written(second, 1);
+
+        // Then
+        assertFalse(Files.exists(directory.resolve("contacts-" + first + ".journal")));
+        assertTrue(Files.exists(directory.resolve("contacts-" + second + ".journal")));
+        journal.close();
+        assertFalse(Files.exists(directory.resolve("contacts-" + second + ".journal")));
+    }
+
+    @Test
+    void testDeadLetter_KeptButNotRecovered() throws IOException {
+        // Given
+        ContactJournal journal = new ContactJournal(directory, objectMapper, 1024 * 1024);
+        long segment = journal.append(submission("Poison"));
+        journal.deadLetter(submission("Poison"));
+        journal.written(segment, 1);
+        journal.close();
+
+        // When
+        ContactJournal restarted = new ContactJournal(directory, objectMapper, 1024 * 1024);
+
+        // Then
+        assertEquals(List.of(), restarted.recoveredSegments());
+        assertTrue(Files.readString(directory.resolve("dead-letters.journal")).contains("\"subject\":\"Poison\""));
+        restarted.close();
+    }
+
+    @Test
+    void testConstructor_DirectoryInUse_Throws() throws IOException {
+        // Given
+        ContactJournal journal = new ContactJournal(directory, objectMapper, 1024);
+
+        // When / Then
+        assertThrows(IOException.class, () -> new ContactJournal(directory, objectMapper, 1024));
+        journal.close();
+    }
+
+    private static ContactSubmission submission(String subject) {
+        return new ContactSubmission("Journal Test", "journal@example.com", subject, "Message", null,
+                LocalDateTime.now());
+    }
+}
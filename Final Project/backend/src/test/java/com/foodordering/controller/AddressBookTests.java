@@ -0,0 +1,206 @@
+package com.foodordering.controller;
+
+import com.foodordering.dto.AddressDto;
+import com.foodordering.entity.Address;
+import com.foodordering.entity.User;
+import com.foodordering.repository.AddressRepository;
+import com.foodordering.repository.UserRepository;
+import com.foodordering.security.JwtTokenProvider;
+import com.foodordering.service.AddressService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for default address switching and the address book cache.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AddressBookTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AddressService addressService;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User customer;
+    private Address home;
+    private Address work;
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.findByUsername("user1").orElseThrow();
+        home = createAddress("Home", true);
+        work = createAddress("Work", false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        addressRepository.findByUserId(customer.getId()).forEach(address -> addressService.deleteAddress(address.getId()));
+    }
+
+    @Test
+    void testSetDefault_SwitchesTheOnlyDefault() throws Exception {
+        // When
+        mockMvc.perform(patch("/user/addresses/{id}/default", work.getId()).header("Authorization", bearer()))
+                .andExpect(status().isOk());
+
+        // Then
+        mockMvc.perform(get("/user/addresses/default").header("Authorization", bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.label").value("Work"));
+        assertFalse(addressRepository.findById(home.getId()).orElseThrow().isDefault());
+    }
+
+    @Test
+    void testSetDefault_AddressOfAnotherUser_NotFoundAndUnchanged() throws Exception {
+        // Given
+        User other = userRepository.findByUsername("user2").orElseThrow();
+
+        // When / Then
+        mockMvc.perform(patch("/user/addresses/{id}/default", work.getId())
+                        .header("Authorization", "Bearer " + tokenProvider.generateAccessToken(other)))
+                .andExpect(status().isNotFound());
+        assertEquals("Home", addressService.getDefaultAddress(customer.getId()).getLabel());
+    }
+
+    @Test
+    void testSetDefault_RacingSwitch_LoserGetsConflict() throws Exception {
+        // Given: the one-default-per-user index of V6, which H2 can only express through a generated column
+        jdbcTemplate.execute("ALTER TABLE addresses ADD COLUMN default_owner BIGINT "
+                + "GENERATED ALWAYS AS (CASE WHEN is_default THEN user_id END)");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX idx_addresses_default_owner ON addresses (default_owner)");
+        Address cottage = createAddress("Cottage", false);
+        // No default yet, so the losing switch has no row to wait for before it sets its own
+        addressService.setDefaultAddress(customer.getId(), null);
+        CountDownLatch switched = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When: one switch has cleared and set the default but not yet committed
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            Future<?> winner = executor.submit(() -> transaction.executeWithoutResult(status -> {
+                addressService.setDefaultAddress(customer.getId(), work.getId());
+                switched.countDown();
+                await(commit);
+            }));
+            switched.await(5, TimeUnit.SECONDS);
+            // Commit once the losing switch waits for it on the unique index
+            executor.submit(() -> {
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (waitingDefaultSwitches() == 0 && System.nanoTime() < deadline) {
+                    Thread.sleep(10);
+                }
+                commit.countDown();
+                return null;
+            });
+
+            // Then
+            mockMvc.perform(patch("/user/addresses/{id}/default", cottage.getId()).header("Authorization", bearer()))
+                    .andExpect(status().isConflict());
+            winner.get(5, TimeUnit.SECONDS);
+            assertEquals("Work", addressService.getDefaultAddress(customer.getId()).getLabel());
+        } finally {
+            commit.countDown();
+            executor.shutdownNow();
+            jdbcTemplate.execute("DROP INDEX idx_addresses_default_owner");
+            jdbcTemplate.execute("ALTER TABLE addresses DROP COLUMN default_owner");
+        }
+    }
+
+    @Test
+    void testGetAddresses_ServedFromCacheUntilChanged() throws Exception {
+        // Given
+        addressService.getAddressesByUserId(customer.getId());
+        double hits = cacheLookups("hit");
+
+        // When
+        List<AddressDto> cached = addressService.getAddressesByUserId(customer.getId());
+        mockMvc.perform(post("/user/addresses").header("Authorization", bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"label\":\"Cottage\",\"address\":\"Ermou 1\",\"postalCode\":\"10563\",\"default\":true}"))
+                .andExpect(status().isOk());
+        List<AddressDto> reloaded = addressService.getAddressesByUserId(customer.getId());
+
+        // Then
+        assertEquals(hits + 1, cacheLookups("hit"));
+        assertEquals(2, cached.size());
+        assertEquals(3, reloaded.size());
+        assertEquals(List.of("Cottage"), reloaded.stream().filter(AddressDto::isDefault).map(AddressDto::getLabel).toList());
+    }
+
+    private int waitingDefaultSwitches() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.SESSIONS "
+                + "WHERE LOWER(EXECUTING_STATEMENT) LIKE 'update addresses set is_default=true%'", Integer.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double cacheLookups(String result) {
+        return meterRegistry.get("address.book.cache").tag("result", result).counter().count();
+    }
+
+    private String bearer() {
+        return "Bearer " + tokenProvider.generateAccessToken(customer);
+    }
+
+    private Address createAddress(String label, boolean isDefault) {
+        AddressDto dto = new AddressDto(null, customer.getId(), label, "Stadiou 10", "10564", null, isDefault);
+        return addressRepository.findById(addressService.createAddress(customer.getId(), dto).getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,237 @@
+package com.foodordering.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodordering.cart.CartStore;
+import com.foodordering.entity.Cart;
+import com.foodordering.entity.CartItem;
+import com.foodordering.entity.Product;
+import com.foodordering.entity.ProductCategory;
+import com.foodordering.entity.User;
+import com.foodordering.repository.CartRepository;
+import com.foodordering.repository.OrderRepository;
+import com.foodordering.repository.ProductRepository;
+import com.foodordering.repository.UserRepository;
+import com.foodordering.security.JwtTokenProvider;
+import com.foodordering.service.CartService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the cart API and its write-behind persistence.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CartControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User customer;
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.findByUsername("user1").orElseThrow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cartService.clearCart(customer.getId());
+        cartStore.flush();
+        orderRepository.deleteAll(orderRepository.findByUserIdOrderByCreatedAtDesc(customer.getId()));
+    }
+
+    @Test
+    void testEditCart_WritesCoalescedChangesOnFlush() throws Exception {
+        // When
+        addItem(1L, 2);
+        addItem(1L, 1);
+        mockMvc.perform(put("/cart/items/{productId}", 3L).header("Authorization", bearer())
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"quantity\":4}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.itemCount").value(7))
+                .andExpect(jsonPath("$.totalAmount").value(49.70));
+
+        // Then: nothing written until the flush, then one row per product
+        assertTrue(cartStore.isDirty(customer.getId()));
+        assertTrue(storedQuantities().isEmpty());
+        cartStore.flush();
+        assertFalse(cartStore.isDirty(customer.getId()));
+        assertEquals(Map.of(1L, 3, 3L, 4), storedQuantities());
+
+        mockMvc.perform(delete("/cart/items/{productId}", 1L).header("Authorization", bearer()))
+                .andExpect(status().isOk());
+        cartStore.flush();
+        assertEquals(Map.of(3L, 4), storedQuantities());
+    }
+
+    @Test
+    void testCheckout_PlacesOrderAndEmptiesCart() throws Exception {
+        // Given
+        addItem(5L, 2);
+        addItem(7L, 1);
+        cartStore.flush();
+
+        // When
+        String body = mockMvc.perform(post("/cart/checkout").header("Authorization", bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"deliveryAddress\":\"Ermou 1, Athens\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.totalAmount").value(24.50))
+                .andExpect(jsonPath("$.deliveryAddress").value("Ermou 1, Athens"))
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        JsonNode order = objectMapper.readTree(body);
+        assertEquals(2, orderRepository.findWithItemsById(order.get("id").asLong()).orElseThrow().getItems().size());
+        assertTrue(storedQuantities().isEmpty());
+        assertFalse(cartStore.isDirty(customer.getId()));
+        mockMvc.perform(get("/cart").header("Authorization", bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0));
+    }
+
+    @Test
+    void testCheckout_EmptyCart_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/cart/checkout").header("Authorization", bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"deliveryAddress\":\"Ermou 1, Athens\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testAddItem_UnknownProduct_ReturnsNotFound() throws Exception {
+        mockMvc.perform(post("/cart/items").header("Authorization", bearer())
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"productId\":999,\"quantity\":1}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testDeleteProduct_InDirtyCart_RemovedFromCartAndFlushSucceeds() throws Exception {
+        // Given
+        Product product = productRepository.save(new Product("Seasonal Pie", "Limited", new BigDecimal("9.90"),
+                ProductCategory.DESSERT));
+        addItem(1L, 2);
+        addItem(product.getId(), 1);
+        double failures = flushFailures();
+
+        // When
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        mockMvc.perform(delete("/products/{id}", product.getId())
+                        .header("Authorization", "Bearer " + tokenProvider.generateAccessToken(admin)))
+                .andExpect(status().isNoContent());
+        cartStore.flush();
+
+        // Then
+        assertFalse(cartStore.isDirty(customer.getId()));
+        assertEquals(failures, flushFailures());
+        assertEquals(Map.of(1L, 2), storedQuantities());
+        mockMvc.perform(get("/cart").header("Authorization", bearer()))
+                .andExpect(jsonPath("$.items.length()").value(1));
+    }
+
+    @Test
+    void testFlush_ProductDeletedBehindTheStore_SkipsItemAndWritesRest() throws Exception {
+        // Given
+        Product product = productRepository.save(new Product("Seasonal Tart", "Limited", new BigDecimal("8.90"),
+                ProductCategory.DESSERT));
+        addItem(product.getId(), 1);
+        addItem(3L, 1);
+        productRepository.deleteById(product.getId());
+        double failures = flushFailures();
+
+        // When
+        cartStore.flush();
+
+        // Then
+        assertFalse(cartStore.isDirty(customer.getId()));
+        assertEquals(failures, flushFailures());
+        assertEquals(Map.of(3L, 1), storedQuantities());
+    }
+
+    private double flushFailures() {
+        return meterRegistry.get("cart.flush.failures").counter().count();
+    }
+
+    private void addItem(Long productId, int quantity) throws Exception {
+        mockMvc.perform(post("/cart/items").header("Authorization", bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productId\":" + productId + ",\"quantity\":" + quantity + "}"))
+                .andExpect(status().isOk());
+    }
+
+    private Map<Long, Integer> storedQuantities() {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Map<Long, Integer> quantities = new HashMap<>();
+            cartRepository.findByUserIdWithItems(customer.getId()).map(Cart::getItems).ifPresent(items -> {
+                for (CartItem item : items) {
+                    quantities.put(item.getProduct().getId(), item.getQuantity());
+                }
+            });
+            return quantities;
+        });
+    }
+
+    private String bearer() {
+        return "Bearer " + tokenProvider.generateAccessToken(customer);
+    }
+}
@@ -0,0 +1,104 @@
+package com.foodordering.controller;
+
+import com.foodordering.contact.ContactIngestionBuffer;
+import com.foodordering.contact.ContactIngestionProperties;
+import com.foodordering.entity.Contact;
+import com.foodordering.entity.ContactStatus;
+import com.foodordering.repository.ContactRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for buffered contact form ingestion.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ContactIngestionTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private ContactIngestionBuffer contactIngestionBuffer;
+
+    @Autowired
+    private ContactIngestionProperties contactIngestionProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        contactRepository.deleteAll();
+    }
+
+    @Test
+    void testSubmitContact_AcceptedThenWrittenInBatch() throws Exception {
+        // When
+        mockMvc.perform(post("/contacts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Ingestion Test\",\"email\":\"ingest@example.com\","
+                                + "\"subject\":\"Buffered\",\"message\":\"Hello\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").doesNotExist())
+                .andExpect(jsonPath("$.status").value("PENDING"));
+        contactIngestionBuffer.flush();
+
+        // Then
+        List<Contact> contacts = contactRepository.findByEmail("ingest@example.com");
+        assertEquals(1, contacts.size());
+        assertEquals("Buffered", contacts.get(0).getSubject());
+        assertEquals(ContactStatus.PENDING, contacts.get(0).getStatus());
+    }
+
+    @Test
+    void testFlush_RowTheDatabaseRejects_DeadLetteredAndOthersWritten() throws Exception {
+        // Given: a submission without a name can never be inserted
+        double deadLettered = meterRegistry.get("contact.ingestion.dead.letters").counter().count();
+        contactIngestionBuffer.submit(new Contact(null, "poison@example.com", "Poison", "Hello", null));
+        contactIngestionBuffer.submit(new Contact("Ingestion Test", "after-poison@example.com", "Healthy", "Hello",
+                null));
+
+        // When: the batch fails until it is written row by row; the background
+        // writer may use up some of the attempts
+        for (int attempt = 0; attempt < contactIngestionProperties.getMaxBatchAttempts(); attempt++) {
+            try {
+                contactIngestionBuffer.flush();
+            } catch (RuntimeException expected) {
+                // the batch stays queued
+            }
+        }
+        contactIngestionBuffer.flush();
+
+        // Then
+        assertEquals(1, contactRepository.findByEmail("after-poison@example.com").size());
+        assertEquals(0, contactRepository.findByEmail("poison@example.com").size());
+        assertEquals(deadLettered + 1, meterRegistry.get("contact.ingestion.dead.letters").counter().count());
+        Path deadLetters = Path.of(contactIngestionProperties.getJournalDirectory(), "dead-letters.journal");
+        assertTrue(Files.readString(deadLetters).contains("poison@example.com"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.foodordering.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodordering.entity.Contact;
+import com.foodordering.entity.ContactStatus;
+import com.foodordering.entity.User;
+import com.foodordering.repository.ContactRepository;
+import com.foodordering.repository.UserRepository;
+import com.foodordering.security.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the contact inbox search.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ContactSearchTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        createContact("Late delivery", "My pizza order arrived cold", ContactStatus.PENDING);
+        createContact("Refund request", "Please refund my pizza order", ContactStatus.RESOLVED);
+        createContact("Order question", "Do you deliver on Sundays?", ContactStatus.PENDING);
+        createContact("Catering", "Pizza for forty people", ContactStatus.PENDING);
+    }
+
+    @AfterEach
+    void tearDown() {
+        contactRepository.deleteAll();
+    }
+
+    @Test
+    void testSearchInbox_AllWordsMustMatch() throws Exception {
+        // When
+        JsonNode page = fetch(get("/contacts/inbox").param("q", "pizza order"));
+
+        // Then
+        assertEquals(List.of("Refund request", "Late delivery"), subjects(page));
+    }
+
+    @Test
+    void testSearchInbox_CombinesQueryAndStatus() throws Exception {
+        // When
+        JsonNode page = fetch(get("/contacts/inbox").param("q", "pizza").param("status", "PENDING"));
+
+        // Then
+        assertEquals(List.of("Catering", "Late delivery"), subjects(page));
+    }
+
+    @Test
+    void testSearchInbox_PagesThroughResults() throws Exception {
+        // When
+        JsonNode first = fetch(get("/contacts/inbox").param("q", "pizza").param("size", "2"));
+        JsonNode second = fetch(get("/contacts/inbox").param("q", "pizza").param("size", "2").param("page", "1"));
+
+        // Then
+        assertTrue(first.get("hasNext").asBoolean());
+        assertFalse(second.get("hasNext").asBoolean());
+        List<String> all = new ArrayList<>(subjects(first));
+        all.addAll(subjects(second));
+        assertEquals(List.of("Catering", "Refund request", "Late delivery"), all);
+    }
+
+    @Test
+    void testSearchContacts_KeywordUsesSameSearch() throws Exception {
+        // When
+        JsonNode results = fetch(get("/contacts/search").param("keyword", "SUNDAYS"));
+
+        // Then
+        assertEquals(1, results.size());
+        assertEquals("Order question", results.get(0).get("subject").asText());
+    }
+
+    @Test
+    void testSearchInbox_AsCustomer_Forbidden() throws Exception {
+        User customer = userRepository.findByUsername("user1").orElseThrow();
+        mockMvc.perform(get("/contacts/inbox").param("q", "pizza")
+                        .header("Authorization", "Bearer " + tokenProvider.generateAccessToken(customer)))
+                .andExpect(status().isForbidden());
+    }
+
+    private JsonNode fetch(MockHttpServletRequestBuilder request) throws Exception {
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        String body = mockMvc.perform(request.header("Authorization", "Bearer " + tokenProvider.generateAccessToken(admin)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static List<String> subjects(JsonNode page) {
+        List<String> subjects = new ArrayList<>();
+        page.get("contacts").forEach(contact -> subjects.add(contact.get("subject").asText()));
+        return subjects;
+    }
+
+    private void createContact(String subject, String message, ContactStatus status) {
+        Contact contact = new Contact("Search Test", "search@example.com", subject, message, null);
+        contact.setStatus(status);
+        contactRepository.save(contact);
+    }
+}
@@ -0,0 +1,92 @@
+package com.foodordering.controller;
+
+import com.foodordering.repository.UserRepository;
+import com.foodordering.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Integration tests for logging in while the user lookup is shared.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LoginTests {
+
+    private static final int LOGINS = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userService.registerUser("login_test", "login_test@example.com", "secret1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByUsername("login_test").ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void testLogin_ConcurrentLoginsOfSameUser_AllSucceed() throws Exception {
+        // Given
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(LOGINS);
+
+        // When
+        List<Future<Integer>> statuses = new ArrayList<>();
+        try {
+            for (int i = 0; i < LOGINS; i++) {
+                // A client address per login, so the login rate limit does not apply
+                String clientAddress = "10.0.0." + (i + 1);
+                statuses.add(executor.submit(() -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    return mockMvc.perform(post("/auth/login")
+                                    .with(request -> {
+                                        request.setRemoteAddr(clientAddress);
+                                        return request;
+                                    })
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("{\"username\":\"login_test\",\"password\":\"secret1\"}"))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+
+            // Then
+            for (Future<Integer> status : statuses) {
+                assertEquals(200, status.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
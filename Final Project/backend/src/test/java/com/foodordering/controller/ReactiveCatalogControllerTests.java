@@ -0,0 +1,169 @@
+package com.foodordering.controller;
+
+import com.foodordering.entity.Order;
+import com.foodordering.entity.OrderStatus;
+import com.foodordering.entity.Product;
+import com.foodordering.entity.Review;
+import com.foodordering.entity.User;
+import com.foodordering.repository.OrderRepository;
+import com.foodordering.repository.ProductRepository;
+import com.foodordering.repository.ReviewRepository;
+import com.foodordering.repository.UserRepository;
+import com.foodordering.security.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the reactive read API against the H2 test database.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReactiveCatalogControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    private User customer;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.findByUsername("user1").orElseThrow();
+        Product product = productRepository.findById(1L).orElseThrow();
+        for (int rating = 4; rating <= 5; rating++) {
+            Review review = new Review();
+            review.setUser(customer);
+            review.setProduct(product);
+            review.setRating(rating);
+            review.setComment("Reactive test review");
+            reviewRepository.save(review);
+        }
+        Order newOrder = new Order(customer, new BigDecimal("12.50"), "Ermou 1, Athens");
+        newOrder.setStatus(OrderStatus.DELIVERED);
+        order = orderRepository.save(newOrder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        reviewRepository.deleteAll();
+    }
+
+    @Test
+    void testGetProducts_MatchesBlockingEndpoint() throws Exception {
+        // Given
+        int available = productRepository.findByAvailableTrue().size();
+
+        // When / Then
+        mockMvc.perform(asyncDispatch(start(get("/reactive/products"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(available)))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].averageRating").value(4.5));
+    }
+
+    @Test
+    void testGetProducts_StreamsNdjson() throws Exception {
+        // Given
+        int available = productRepository.findByAvailableTrue().size();
+
+        // When
+        MvcResult result = mockMvc.perform(asyncDispatch(
+                        start(get("/reactive/products").accept(MediaType.APPLICATION_NDJSON))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        assertEquals(available, result.getResponse().getContentAsString().trim().split("\n").length);
+    }
+
+    @Test
+    void testGetReviews_ReturnsProductReviews() throws Exception {
+        mockMvc.perform(asyncDispatch(start(get("/reactive/products/{id}/reviews", 1))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].username").value("user1"));
+    }
+
+    @Test
+    void testGetReviews_UnknownProduct_Returns404() throws Exception {
+        mockMvc.perform(asyncDispatch(start(get("/reactive/products/{id}/reviews", 999_999))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetOrderStatus_Owner_ReturnsStatus() throws Exception {
+        mockMvc.perform(asyncDispatch(start(get("/reactive/orders/{id}/status", order.getId())
+                        .header("Authorization", bearer(customer)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderId").value(order.getId()))
+                .andExpect(jsonPath("$.status").value("DELIVERED"));
+    }
+
+    @Test
+    void testGetOrderStatus_OtherCustomer_Returns404() throws Exception {
+        User other = userRepository.findByUsername("user2").orElseThrow();
+        mockMvc.perform(asyncDispatch(start(get("/reactive/orders/{id}/status", order.getId())
+                        .header("Authorization", bearer(other)))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testStreamOrderStatus_EndsAtTerminalStatus() throws Exception {
+        mockMvc.perform(asyncDispatch(start(get("/reactive/orders/{id}/status/stream", order.getId())
+                        .header("Authorization", bearer(customer)))))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"status\":\"DELIVERED\"")));
+    }
+
+    private MvcResult start(org.springframework.test.web.servlet.RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5_000);
+        return result;
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + tokenProvider.generateAccessToken(user);
+    }
+}
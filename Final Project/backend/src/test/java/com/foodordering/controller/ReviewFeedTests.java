@@ -0,0 +1,164 @@
+package com.foodordering.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodordering.entity.Review;
+import com.foodordering.entity.User;
+import com.foodordering.repository.ProductRatingCountsRepository;
+import com.foodordering.repository.UserRepository;
+import com.foodordering.service.ReviewService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the paginated review feeds and rating histograms.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReviewFeedTests {
+
+    private static final long PRODUCT_ID = 1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRatingCountsRepository ratingCountsRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User customer;
+    private final List<Review> created = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.findByUsername("user1").orElseThrow();
+        for (int rating : new int[] {4, 2, 5, 4, 1}) {
+            created.add(reviewService.createReview(PRODUCT_ID, customer.getId(), rating, "Rated " + rating));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        created.forEach(review -> reviewService.deleteReview(review.getId(), customer.getId()));
+    }
+
+    @Test
+    void testGetReviewFeed_RecentPagesThroughAllNewestFirst() throws Exception {
+        // When
+        List<Long> ids = collect("RECENT");
+
+        // Then
+        List<Long> expected = created.stream().map(Review::getId).sorted(Comparator.reverseOrder()).toList();
+        assertEquals(expected, ids);
+    }
+
+    @Test
+    void testGetReviewFeed_RatingPagesThroughBestRatedFirst() throws Exception {
+        // When
+        List<Long> ids = collect("RATING");
+
+        // Then
+        List<Long> expected = created.stream()
+                .sorted(Comparator.comparing(Review::getRating).thenComparing(Review::getId).reversed())
+                .map(Review::getId)
+                .toList();
+        assertEquals(expected, ids);
+    }
+
+    @Test
+    void testGetRatingHistogram_FollowsCreateAndDelete() throws Exception {
+        // When
+        reviewService.deleteReview(created.remove(0).getId(), customer.getId());
+
+        // Then
+        mockMvc.perform(get("/products/{id}/reviews/histogram", PRODUCT_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.counts.1").value(1))
+                .andExpect(jsonPath("$.counts.2").value(1))
+                .andExpect(jsonPath("$.counts.3").value(0))
+                .andExpect(jsonPath("$.counts.4").value(1))
+                .andExpect(jsonPath("$.counts.5").value(1))
+                .andExpect(jsonPath("$.totalReviews").value(4))
+                .andExpect(jsonPath("$.averageRating").value(3.0));
+    }
+
+    @Test
+    void testAdjust_RemovingUncountedReview_CountStaysAtZero() throws Exception {
+        // Given
+        long productId = 2L;
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // When
+        transaction.executeWithoutResult(status -> ratingCountsRepository.adjust(productId, 3, -1));
+        transaction.executeWithoutResult(status -> ratingCountsRepository.adjust(productId, 3, -1));
+
+        // Then
+        try {
+            mockMvc.perform(get("/products/{id}/reviews/histogram", productId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.counts.3").value(0))
+                    .andExpect(jsonPath("$.totalReviews").value(0));
+        } finally {
+            ratingCountsRepository.deleteById(productId);
+        }
+    }
+
+    @Test
+    void testGetReviewFeed_InvalidCursor_BadRequest() throws Exception {
+        mockMvc.perform(get("/products/{id}/reviews/feed", PRODUCT_ID).param("sort", "RATING").param("after", "12"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<Long> collect(String sort) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String after = null;
+        do {
+            MockHttpServletRequestBuilder request = get("/products/{id}/reviews/feed", PRODUCT_ID)
+                    .param("sort", sort)
+                    .param("size", "2");
+            if (after != null) {
+                request.param("after", after);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode page = objectMapper.readTree(body);
+            page.get("reviews").forEach(review -> ids.add(review.get("id").asLong()));
+            after = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (after != null);
+        return ids;
+    }
+}
@@ -0,0 +1,81 @@
+package com.foodordering.controller;
+
+import com.foodordering.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for signup and the username/email availability check.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SignupTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByUsername("signup_new").ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void testCheckAvailability_TakenAndFreeValues() throws Exception {
+        mockMvc.perform(get("/auth/availability").param("username", "user1").param("email", "nobody@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usernameAvailable").value(false))
+                .andExpect(jsonPath("$.emailAvailable").value(true));
+    }
+
+    @Test
+    void testCheckAvailability_WithoutValues_BadRequest() throws Exception {
+        mockMvc.perform(get("/auth/availability"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testRegisterUser_TakenUsernameOrEmail_Conflict() throws Exception {
+        mockMvc.perform(signup("user1", "someone@example.com"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Username already exists: user1"));
+        mockMvc.perform(signup("someone", "user2@example.com"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Email already exists: user2@example.com"));
+    }
+
+    @Test
+    void testRegisterUser_NewUser_NoLongerAvailable() throws Exception {
+        mockMvc.perform(signup("signup_new", "signup_new@example.com"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/auth/availability").param("username", "signup_new").param("email", "signup_new@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.usernameAvailable").value(false))
+                .andExpect(jsonPath("$.emailAvailable").value(false));
+    }
+
+    private static RequestBuilder signup(String username, String email) {
+        return post("/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "\",\"email\":\"" + email + "\",\"password\":\"secret1\"}");
+    }
+}
@@ -0,0 +1,140 @@
+package com.foodordering.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodordering.entity.User;
+import com.foodordering.entity.UserRole;
+import com.foodordering.repository.UserRepository;
+import com.foodordering.security.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the paginated admin user directory.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserDirectoryTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<User> created = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        created.add(createUser("dir_alice", "alice@directory.test", UserRole.USER, true));
+        created.add(createUser("dir_bob", "bob@directory.test", UserRole.USER, false));
+        created.add(createUser("dir_carol", "carol@directory.test", UserRole.ADMIN, true));
+        created.add(createUser("dir_100%", "percent@directory.test", UserRole.USER, true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll(created);
+    }
+
+    @Test
+    void testGetUserDirectory_PagesThroughAllUsersNewestFirst() throws Exception {
+        // When
+        List<Long> ids = new ArrayList<>();
+        Long after = null;
+        do {
+            MockHttpServletRequestBuilder request = get("/users/directory").param("size", "2");
+            if (after != null) {
+                request.param("after", after.toString());
+            }
+            JsonNode page = fetch(request);
+            page.get("users").forEach(user -> ids.add(user.get("id").asLong()));
+            after = page.get("nextAfter").isNull() ? null : page.get("nextAfter").asLong();
+        } while (after != null);
+
+        // Then
+        assertEquals(userRepository.count(), ids.size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1) > ids.get(i), "ids not strictly descending: " + ids);
+        }
+    }
+
+    @Test
+    void testGetUserDirectory_CombinesFilters() throws Exception {
+        // When
+        JsonNode page = fetch(get("/users/directory")
+                .param("search", "DIRECTORY.test")
+                .param("role", "USER")
+                .param("active", "true"));
+
+        // Then
+        assertEquals(List.of("dir_100%", "dir_alice"), usernames(page));
+    }
+
+    @Test
+    void testGetUserDirectory_ShortTermMatchesPrefixOnly() throws Exception {
+        // "us" is inside every "user" but only starts user1 and user2
+        assertEquals(List.of("user2", "user1"), usernames(fetch(get("/users/directory").param("search", "us"))));
+    }
+
+    @Test
+    void testGetUserDirectory_WildcardsAreLiteral() throws Exception {
+        assertEquals(List.of("dir_100%"), usernames(fetch(get("/users/directory").param("search", "00%"))));
+    }
+
+    @Test
+    void testGetUserDirectory_AsCustomer_Forbidden() throws Exception {
+        User customer = userRepository.findByUsername("user1").orElseThrow();
+        mockMvc.perform(get("/users/directory").header("Authorization", "Bearer " + tokenProvider.generateAccessToken(customer)))
+                .andExpect(status().isForbidden());
+    }
+
+    private JsonNode fetch(MockHttpServletRequestBuilder request) throws Exception {
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        String body = mockMvc.perform(request.header("Authorization", "Bearer " + tokenProvider.generateAccessToken(admin)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static List<String> usernames(JsonNode page) {
+        List<String> usernames = new ArrayList<>();
+        page.get("users").forEach(user -> usernames.add(user.get("username").asText()));
+        return usernames;
+    }
+
+    private User createUser(String username, String email, UserRole role, boolean active) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword("not-used");
+        user.setRole(role);
+        user.setActive(active);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,57 @@
+package com.foodordering.datagen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes rows with JDBC batched inserts. Used for databases without a bulk
+ * load protocol (H2).
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class BatchInsertTableWriter implements TableWriter {
+
+    private final PreparedStatement statement;
+    private final int columnCount;
+    private int pending;
+    private long rowCount;
+
+    public BatchInsertTableWriter(Connection connection, String table, List<String> columns) throws SQLException {
+        this.statement = connection.prepareStatement("INSERT INTO " + table + " (" + String.join(", ", columns)
+                + ") VALUES (" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")");
+        this.columnCount = columns.size();
+    }
+
+    @Override
+    public void write(Object... values) throws SQLException {
+        if (values.length != columnCount) {
+            throw new IllegalArgumentException("Expected " + columnCount + " values but got " + values.length);
+        }
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            statement.setObject(i + 1, value instanceof LocalDateTime time ? Timestamp.valueOf(time) : value);
+        }
+        statement.addBatch();
+        rowCount++;
+        pending++;
+    }
+
+    @Override
+    public void flush() throws SQLException {
+        if (pending > 0) {
+            statement.executeBatch();
+            pending = 0;
+        }
+    }
+
+    @Override
+    public long getRowCount() {
+        return rowCount;
+    }
+}
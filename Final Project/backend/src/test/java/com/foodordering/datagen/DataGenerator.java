@@ -0,0 +1,459 @@
+package com.foodordering.datagen;
+
+import com.foodordering.entity.ContactStatus;
+import com.foodordering.entity.OrderStatus;
+import com.foodordering.entity.ProductCategory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Fills a PostgreSQL or H2 database with a large, realistic dataset for
+ * benchmarks and query plan checks.
+ *
+ * Rows are written with {@code COPY} on PostgreSQL and with batched inserts
+ * elsewhere, using explicit ids appended after the current maximum, and the
+ * identity sequences are moved past them at the end. The same seed and sizes
+ * always produce the same rows.
+ *
+ * Distributions: order owners and reviewers follow a heavy-tailed (Zipf
+ * 0.7) distribution over users, and products are picked with Zipf 1.07, so
+ * a few products dominate order lines and reviews. Popular ids are scattered
+ * over the id range rather than clustered at the start. Recent days get more
+ * orders than old ones, with lunch and dinner peaks.
+ *
+ * Run with {@code mvn -Pdatagen verify -DskipTests -Ddatagen.args="..."};
+ * see {@link DataGeneratorOptions#usage()}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class DataGenerator {
+
+    private static final double USER_SKEW = 0.7;
+    private static final double PRODUCT_SKEW = 1.07;
+
+    private static final String[] FIRST_NAMES = {
+        "Maria", "Giorgos", "Eleni", "Nikos", "Katerina", "Dimitris", "Sofia", "Kostas", "Anna", "Yannis"
+    };
+    private static final String[] LAST_NAMES = {
+        "Papadopoulos", "Georgiou", "Nikolaou", "Ioannou", "Vasileiou", "Christou", "Konstantinou", "Pappas"
+    };
+    private static final String[] STREETS = {
+        "Ermou", "Stadiou", "Panepistimiou", "Akadimias", "Patision", "Solonos", "Kifisias", "Syngrou"
+    };
+    private static final String[] ADJECTIVES = {
+        "Classic", "Spicy", "Crispy", "Smoky", "Fresh", "Double", "Garden", "Truffle", "Honey", "Greek"
+    };
+    private static final String[] DISHES = {
+        "Margherita", "Burger", "Salad", "Wings", "Fries", "Brownie", "Lemonade", "Souvlaki", "Pasta", "Gyro"
+    };
+    private static final String[] REVIEW_COMMENTS = {
+        "Arrived hot and on time.", "Portion could be bigger.", "Best in town, will order again.",
+        "A bit too salty for me.", "Delivery was late but the food was great.", "Exactly as described.",
+        null
+    };
+    private static final String[] CONTACT_SUBJECTS = {
+        "Late delivery", "Missing item in my order", "Refund request", "Allergy information",
+        "Catering for an event", "Problem with payment", "Feedback about the app"
+    };
+    private static final String[] CONTACT_SENTENCES = {
+        "My order arrived almost an hour after the estimated delivery time.",
+        "The drinks were missing from the bag.",
+        "I was charged twice for the same order.",
+        "Could you tell me whether the burger buns contain sesame?",
+        "We are planning an office party for forty people next month.",
+        "The courier could not find the entrance to our building.",
+        "The pizza was cold when it arrived.",
+        "I would like to change the delivery address of a pending order.",
+        "Thank you for the quick support last week.",
+        "The app logged me out while I was paying."
+    };
+    // Relative weights of ratings 1..5
+    private static final int[] RATING_WEIGHTS = {5, 7, 15, 33, 40};
+    // Relative order volume per hour of day, peaking at lunch and dinner
+    private static final int[] HOUR_WEIGHTS = {
+        2, 1, 1, 0, 0, 0, 1, 2, 3, 4, 6, 10, 16, 14, 8, 5, 5, 7, 11, 16, 18, 14, 8, 4
+    };
+    private static final List<String> TABLES = List.of(
+            "users", "addresses", "products", "orders", "order_items", "reviews", "contacts");
+
+    private final DataGeneratorOptions options;
+    private final Connection connection;
+    private final boolean postgres;
+    private final SplittableRandom random;
+
+    public DataGenerator(DataGeneratorOptions options, Connection connection) throws SQLException {
+        this.options = options;
+        this.connection = connection;
+        this.postgres = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT)
+                .contains("postgres");
+        this.random = new SplittableRandom(options.getSeed());
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("--help")) {
+            System.out.println(DataGeneratorOptions.usage());
+            return;
+        }
+        DataGeneratorOptions options = DataGeneratorOptions.parse(args);
+        if (options.isCreateSchema()) {
+            SchemaCreator.createSchema(options);
+        }
+        try (Connection connection = DriverManager.getConnection(
+                options.getUrl(), options.getUsername(), options.getPassword())) {
+            connection.setAutoCommit(false);
+            new DataGenerator(options, connection).generate();
+        }
+    }
+
+    /**
+     * Generate every table in foreign key order.
+     */
+    public void generate() throws SQLException {
+        if (options.isTruncate()) {
+            truncate();
+        }
+        long userBase = maxId("users");
+        long productBase = maxId("products");
+
+        // Each table draws from its own stream so table sizes do not shift each other's rows
+        SplittableRandom userRandom = random.split();
+        SplittableRandom addressRandom = random.split();
+        SplittableRandom productRandom = random.split();
+        SplittableRandom orderRandom = random.split();
+        SplittableRandom reviewRandom = random.split();
+        SplittableRandom contactRandom = random.split();
+
+        generateUsers(userRandom, userBase);
+        generateAddresses(addressRandom, userBase);
+        long[] priceCents = generateProducts(productRandom, productBase);
+        generateOrders(orderRandom, userBase, productBase, priceCents);
+        generateReviews(reviewRandom, userBase, productBase);
+        rebuildRatingCounts();
+        generateContacts(contactRandom);
+
+        resetIdentities();
+        if (postgres) {
+            execute("ANALYZE");
+        }
+        connection.commit();
+    }
+
+    private void generateUsers(SplittableRandom random, long base) throws SQLException {
+        long start = System.nanoTime();
+        String passwordHash = new BCryptPasswordEncoder().encode("password123");
+        TableWriter users = writer("users", "id", "username", "email", "password", "role", "is_active",
+                "created_at", "updated_at", "phone", "address", "postal_code", "avatar_url");
+        for (int i = 1; i <= options.getUsers(); i++) {
+            long id = base + i;
+            LocalDateTime createdAt = pastTime(random);
+            users.write(id, "customer" + id, "customer" + id + "@example.test", passwordHash, "USER",
+                    random.nextInt(100) < 98, createdAt, createdAt,
+                    random.nextInt(100) < 70 ? phone(random) : null,
+                    random.nextInt(100) < 50 ? street(random) : null,
+                    random.nextInt(100) < 50 ? postalCode(random) : null,
+                    null);
+            flushEvery(i, users);
+        }
+        finish("users", start, users);
+    }
+
+    private void generateAddresses(SplittableRandom random, long userBase) throws SQLException {
+        long start = System.nanoTime();
+        long id = maxId("addresses");
+        // Geometric count with the requested mean: p / (1 - p) = mean
+        double continueProbability = options.getAddressesPerUser() / (1.0 + options.getAddressesPerUser());
+        String[] labels = {"Home", "Work", "Parents", "Gym", "Other"};
+        TableWriter addresses = writer("addresses", "id", "user_id", "label", "address", "postal_code",
+                "phone", "is_default");
+        for (int i = 1; i <= options.getUsers(); i++) {
+            int count = Distributions.geometric(random, 0, labels.length, continueProbability);
+            for (int n = 0; n < count; n++) {
+                addresses.write(++id, userBase + i, labels[n], street(random), postalCode(random),
+                        phone(random), n == 0);
+            }
+            flushEvery(i, addresses);
+        }
+        finish("addresses", start, addresses);
+    }
+
+    private long[] generateProducts(SplittableRandom random, long base) throws SQLException {
+        long start = System.nanoTime();
+        ProductCategory[] categories = ProductCategory.values();
+        long[] priceCents = new long[options.getProducts()];
+        TableWriter products = writer("products", "id", "name", "description", "price", "category", "image_url",
+                "is_available", "stock_quantity", "created_at", "updated_at");
+        for (int i = 1; i <= options.getProducts(); i++) {
+            String dish = pick(random, DISHES);
+            priceCents[i - 1] = 300 + random.nextInt(2_200);
+            LocalDateTime createdAt = pastTime(random);
+            products.write(base + i, pick(random, ADJECTIVES) + " " + dish + " " + i,
+                    "Freshly made " + dish.toLowerCase(Locale.ROOT) + " with seasonal ingredients.",
+                    BigDecimal.valueOf(priceCents[i - 1], 2), categories[random.nextInt(categories.length)].name(),
+                    "/images/" + dish.toLowerCase(Locale.ROOT) + ".png", random.nextInt(100) < 95,
+                    random.nextInt(500), createdAt, createdAt);
+            flushEvery(i, products);
+        }
+        finish("products", start, products);
+        return priceCents;
+    }
+
+    private void generateOrders(SplittableRandom random, long userBase, long productBase, long[] priceCents)
+            throws SQLException {
+        long start = System.nanoTime();
+        long orderId = maxId("orders");
+        long itemId = maxId("order_items");
+        Scatter users = new Scatter(options.getUsers());
+        Scatter products = new Scatter(options.getProducts());
+        OrderStatus[] inFlight = {OrderStatus.PENDING, OrderStatus.CONFIRMED, OrderStatus.PREPARING,
+            OrderStatus.READY, OrderStatus.OUT_FOR_DELIVERY};
+
+        TableWriter orders = writer("orders", "id", "user_id", "total_amount", "status", "delivery_address",
+                "delivery_notes", "estimated_delivery_time", "actual_delivery_time", "created_at", "updated_at");
+        TableWriter items = writer("order_items", "id", "order_id", "product_id", "quantity", "price",
+                "created_at", "updated_at");
+        for (int i = 1; i <= options.getOrders(); i++) {
+            long id = ++orderId;
+            long userId = userBase + 1 + users.map(Distributions.zipf(random, options.getUsers(), USER_SKEW));
+            LocalDateTime createdAt = orderTime(random);
+
+            long totalCents = 0;
+            int lines = Distributions.geometric(random, 1, 8, 0.45);
+            for (int line = 0; line < lines; line++) {
+                int product = products.map(Distributions.zipf(random, options.getProducts(), PRODUCT_SKEW));
+                int quantity = Distributions.geometric(random, 1, 5, 0.25);
+                totalCents += priceCents[product] * quantity;
+                items.write(++itemId, id, productBase + 1 + product, quantity,
+                        BigDecimal.valueOf(priceCents[product], 2), createdAt, createdAt);
+            }
+
+            OrderStatus status;
+            LocalDateTime deliveredAt = null;
+            if (createdAt.isAfter(options.getNow().minusHours(2))) {
+                status = inFlight[random.nextInt(inFlight.length)];
+            } else if (random.nextInt(100) < 92) {
+                status = OrderStatus.DELIVERED;
+                deliveredAt = createdAt.plusMinutes(25 + random.nextInt(50));
+            } else {
+                status = OrderStatus.CANCELLED;
+            }
+            orders.write(id, userId, BigDecimal.valueOf(totalCents, 2), status.name(), street(random),
+                    random.nextInt(100) < 20 ? "Ring the bell twice" : null, createdAt.plusMinutes(45),
+                    deliveredAt, createdAt, deliveredAt != null ? deliveredAt : createdAt);
+
+            // Orders first, so the items' foreign keys resolve
+            if (i % options.getBatchSize() == 0) {
+                orders.flush();
+                items.flush();
+                connection.commit();
+            }
+        }
+        orders.flush();
+        items.flush();
+        connection.commit();
+        finish("orders", start, orders);
+        finish("order_items", start, items);
+    }
+
+    private void generateReviews(SplittableRandom random, long userBase, long productBase) throws SQLException {
+        long start = System.nanoTime();
+        long id = maxId("reviews");
+        Scatter users = new Scatter(options.getUsers());
+        Scatter products = new Scatter(options.getProducts());
+        TableWriter reviews = writer("reviews", "id", "rating", "comment", "created_at", "product_id", "user_id");
+        for (int i = 1; i <= options.getReviews(); i++) {
+            reviews.write(++id, 1 + Distributions.weighted(random, RATING_WEIGHTS), pick(random, REVIEW_COMMENTS),
+                    pastTime(random),
+                    productBase + 1 + products.map(Distributions.zipf(random, options.getProducts(), PRODUCT_SKEW)),
+                    userBase + 1 + users.map(Distributions.zipf(random, options.getUsers(), USER_SKEW)));
+            flushEvery(i, reviews);
+        }
+        finish("reviews", start, reviews);
+    }
+
+    /**
+     * Recount the reviews per product and star rating, as the V7 migration does.
+     */
+    private void rebuildRatingCounts() throws SQLException {
+        long start = System.nanoTime();
+        execute("DELETE FROM product_rating_counts");
+        int rows;
+        try (Statement statement = connection.createStatement()) {
+            rows = statement.executeUpdate(
+                    "INSERT INTO product_rating_counts (product_id, stars_1, stars_2, stars_3, stars_4, stars_5) "
+                    + "SELECT product_id, "
+                    + "COUNT(*) FILTER (WHERE rating = 1), "
+                    + "COUNT(*) FILTER (WHERE rating = 2), "
+                    + "COUNT(*) FILTER (WHERE rating = 3), "
+                    + "COUNT(*) FILTER (WHERE rating = 4), "
+                    + "COUNT(*) FILTER (WHERE rating = 5) "
+                    + "FROM reviews GROUP BY product_id");
+        }
+        connection.commit();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf(Locale.ROOT, "%-12s %,12d rows in %7.1f s%n", "rating_counts", rows, seconds);
+    }
+
+    private void generateContacts(SplittableRandom random) throws SQLException {
+        long start = System.nanoTime();
+        long id = maxId("contacts");
+        TableWriter contacts = writer("contacts", "id", "name", "email", "subject", "message", "phone_number",
+                "status", "created_at", "updated_at");
+        for (int i = 1; i <= options.getContacts(); i++) {
+            LocalDateTime createdAt = pastTime(random);
+            ContactStatus status;
+            if (createdAt.isAfter(options.getNow().minusDays(3))) {
+                status = random.nextBoolean() ? ContactStatus.PENDING : ContactStatus.IN_PROGRESS;
+            } else {
+                status = random.nextInt(100) < 80 ? ContactStatus.RESOLVED : ContactStatus.CLOSED;
+            }
+            StringBuilder message = new StringBuilder();
+            int sentences = Distributions.geometric(random, 1, 6, 0.5);
+            for (int n = 0; n < sentences; n++) {
+                message.append(n > 0 ? " " : "").append(pick(random, CONTACT_SENTENCES));
+            }
+            String name = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+            contacts.write(++id, name, "contact" + id + "@example.test", pick(random, CONTACT_SUBJECTS),
+                    message.toString(), random.nextBoolean() ? phone(random) : null, status.name(),
+                    createdAt, createdAt.plusHours(random.nextInt(72)));
+            flushEvery(i, contacts);
+        }
+        finish("contacts", start, contacts);
+    }
+
+    private TableWriter writer(String table, String... columns) throws SQLException {
+        return postgres
+                ? new CopyTableWriter(connection, table, List.of(columns))
+                : new BatchInsertTableWriter(connection, table, List.of(columns));
+    }
+
+    private void flushEvery(int row, TableWriter writer) throws SQLException {
+        if (row % options.getBatchSize() == 0) {
+            writer.flush();
+            connection.commit();
+        }
+    }
+
+    private void finish(String table, long startNanos, TableWriter writer) throws SQLException {
+        writer.flush();
+        connection.commit();
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.printf(Locale.ROOT, "%-12s %,12d rows in %7.1f s (%,.0f rows/s)%n",
+                table, writer.getRowCount(), seconds, writer.getRowCount() / Math.max(seconds, 1e-3));
+    }
+
+    private void truncate() throws SQLException {
+        if (postgres) {
+            execute("TRUNCATE TABLE order_items, orders, reviews, product_rating_counts, addresses, contacts, "
+                    + "cart_items, carts, products, users RESTART IDENTITY");
+        } else {
+            execute("SET REFERENTIAL_INTEGRITY FALSE");
+            for (String table : List.of("order_items", "orders", "reviews", "product_rating_counts", "addresses",
+                    "contacts", "cart_items", "carts", "products", "users")) {
+                execute("TRUNCATE TABLE " + table);
+            }
+            execute("SET REFERENTIAL_INTEGRITY TRUE");
+        }
+        connection.commit();
+    }
+
+    private void resetIdentities() throws SQLException {
+        for (String table : TABLES) {
+            long next = maxId(table) + 1;
+            if (postgres) {
+                execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), " + next + ", false)");
+            } else {
+                execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+            }
+        }
+    }
+
+    private long maxId(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /**
+     * A time within the history window, uniformly distributed.
+     */
+    private LocalDateTime pastTime(SplittableRandom random) {
+        return options.getNow().minusSeconds(random.nextLong((long) options.getHistoryDays() * 86_400));
+    }
+
+    /**
+     * An order time before the reference time: recent days are busier than
+     * old ones, and most orders fall around lunch and dinner.
+     */
+    private LocalDateTime orderTime(SplittableRandom random) {
+        double u = random.nextDouble();
+        int daysAgo = 1 + (int) ((options.getHistoryDays() - 1) * u * u);
+        return options.getNow().minusDays(daysAgo).toLocalDate().atStartOfDay()
+                .plusHours(Distributions.weighted(random, HOUR_WEIGHTS))
+                .plusSeconds(random.nextInt(3_600));
+    }
+
+    private static String street(SplittableRandom random) {
+        return pick(random, STREETS) + " " + (1 + random.nextInt(200)) + ", Athens";
+    }
+
+    private static String postalCode(SplittableRandom random) {
+        return String.valueOf(10_000 + random.nextInt(90_000));
+    }
+
+    private static String phone(SplittableRandom random) {
+        return "69" + (10_000_000 + random.nextInt(90_000_000));
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Bijective shuffle of {@code [0, n)}, so that the most popular ranks do
+     * not all land on the lowest ids. Multiplies by a number coprime to
+     * {@code n} near {@code n / phi}, which spreads consecutive ranks across
+     * the whole range.
+     */
+    private static final class Scatter {
+
+        private final long n;
+        private final long multiplier;
+
+        Scatter(long n) {
+            this.n = n;
+            long candidate = Math.max(1, Math.round(n * 0.6180339887));
+            while (gcd(candidate, n) != 1) {
+                candidate++;
+            }
+            this.multiplier = candidate;
+        }
+
+        int map(int rank) {
+            return (int) ((rank * multiplier + n / 3) % n);
+        }
+
+        private static long gcd(long a, long b) {
+            return b == 0 ? a : gcd(b, a % b);
+        }
+    }
+}
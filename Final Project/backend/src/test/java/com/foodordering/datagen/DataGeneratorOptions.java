@@ -0,0 +1,98 @@
+package com.foodordering.datagen;
+
+import java.time.LocalDateTime;
+
+/**
+ * Command line options for the data generator.
+ *
+ * Options are passed as {@code --name=value}; see {@link #usage()}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class DataGeneratorOptions {
+
+    private String url = "jdbc:postgresql://localhost:5432/food_ordering_db";
+    private String username = "postgres";
+    private String password = "12345";
+    private int users = 1_000_000;
+    private int products = 5_000;
+    private int orders = 3_000_000;
+    private int reviews = 2_000_000;
+    private int contacts = 200_000;
+    private double addressesPerUser = 1.3;
+    private long seed = 42L;
+    private int batchSize = 10_000;
+    private LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private int historyDays = 730;
+    private boolean truncate;
+    private boolean createSchema;
+
+    public static DataGeneratorOptions parse(String[] args) {
+        DataGeneratorOptions options = new DataGeneratorOptions();
+        for (String arg : args) {
+            if (arg.equals("--truncate")) {
+                options.truncate = true;
+                continue;
+            }
+            if (arg.equals("--create-schema")) {
+                options.createSchema = true;
+                continue;
+            }
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unrecognized argument: " + arg + "\n" + usage());
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "url" -> options.url = value;
+                case "username" -> options.username = value;
+                case "password" -> options.password = value;
+                case "users" -> options.users = Integer.parseInt(value);
+                case "products" -> options.products = Integer.parseInt(value);
+                case "orders" -> options.orders = Integer.parseInt(value);
+                case "reviews" -> options.reviews = Integer.parseInt(value);
+                case "contacts" -> options.contacts = Integer.parseInt(value);
+                case "addresses-per-user" -> options.addressesPerUser = Double.parseDouble(value);
+                case "seed" -> options.seed = Long.parseLong(value);
+                case "batch-size" -> options.batchSize = Integer.parseInt(value);
+                case "now" -> options.now = LocalDateTime.parse(value);
+                case "history-days" -> options.historyDays = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + name + "\n" + usage());
+            }
+        }
+        if (options.users < 1 || options.products < 1) {
+            throw new IllegalArgumentException("--users and --products must be at least 1");
+        }
+        return options;
+    }
+
+    public static String usage() {
+        return "Options:\n"
+                + "  --url=jdbc:postgresql://localhost:5432/food_ordering_db   target database (PostgreSQL or H2)\n"
+                + "  --username=postgres --password=12345\n"
+                + "  --users=1000000 --products=5000 --orders=3000000 --reviews=2000000 --contacts=200000\n"
+                + "  --addresses-per-user=1.3   mean saved addresses per user\n"
+                + "  --seed=42                  same seed and sizes produce the same rows\n"
+                + "  --batch-size=10000         rows per COPY / JDBC batch\n"
+                + "  --now=2025-01-01T00:00     reference time; data spans --history-days=730 before it\n"
+                + "  --truncate                 empty the tables first instead of appending\n"
+                + "  --create-schema            create the tables from the JPA entities first";
+    }
+
+    public String getUrl() { return url; }
+    public String getUsername() { return username; }
+    public String getPassword() { return password; }
+    public int getUsers() { return users; }
+    public int getProducts() { return products; }
+    public int getOrders() { return orders; }
+    public int getReviews() { return reviews; }
+    public int getContacts() { return contacts; }
+    public double getAddressesPerUser() { return addressesPerUser; }
+    public long getSeed() { return seed; }
+    public int getBatchSize() { return batchSize; }
+    public LocalDateTime getNow() { return now; }
+    public int getHistoryDays() { return historyDays; }
+    public boolean isTruncate() { return truncate; }
+    public boolean isCreateSchema() { return createSchema; }
+}
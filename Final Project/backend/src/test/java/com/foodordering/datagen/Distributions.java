@@ -0,0 +1,63 @@
+package com.foodordering.datagen;
+
+import java.util.SplittableRandom;
+
+/**
+ * Skewed random distributions used by the data generator.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+final class Distributions {
+
+    private Distributions() {
+    }
+
+    /**
+     * Zipf-like rank in {@code [0, n)}: rank 0 is the most likely, with
+     * probability falling off roughly as {@code 1 / rank^exponent}.
+     *
+     * Samples the continuous bounded power law by inversion, which needs no
+     * per-rank table and so works for millions of ranks.
+     */
+    static int zipf(SplittableRandom random, int n, double exponent) {
+        double u = random.nextDouble();
+        double rank;
+        if (Math.abs(exponent - 1.0) < 1e-9) {
+            rank = Math.pow(n + 1.0, u);
+        } else {
+            double oneMinusS = 1.0 - exponent;
+            rank = Math.pow(u * (Math.pow(n + 1.0, oneMinusS) - 1.0) + 1.0, 1.0 / oneMinusS);
+        }
+        return Math.min(n - 1, (int) rank - 1);
+    }
+
+    /**
+     * Geometric count starting at {@code min}, capped at {@code max}.
+     */
+    static int geometric(SplittableRandom random, int min, int max, double continueProbability) {
+        int count = min;
+        while (count < max && random.nextDouble() < continueProbability) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Pick an index according to relative weights.
+     */
+    static int weighted(SplittableRandom random, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int ticket = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            ticket -= weights[i];
+            if (ticket < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+}
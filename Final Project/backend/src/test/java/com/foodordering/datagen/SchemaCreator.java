@@ -0,0 +1,53 @@
+package com.foodordering.datagen;
+
+import com.foodordering.entity.Address;
+import com.foodordering.entity.Cart;
+import com.foodordering.entity.CartItem;
+import com.foodordering.entity.Contact;
+import com.foodordering.entity.Order;
+import com.foodordering.entity.OrderItem;
+import com.foodordering.entity.Product;
+import com.foodordering.entity.ProductRatingCounts;
+import com.foodordering.entity.Review;
+import com.foodordering.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+
+/**
+ * Creates the tables from the JPA entities with the same naming strategies
+ * Spring Boot uses, for databases the application has not initialized yet.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+final class SchemaCreator {
+
+    private SchemaCreator() {
+    }
+
+    static void createSchema(DataGeneratorOptions options) {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.URL, options.getUrl())
+                .applySetting(AvailableSettings.USER, options.getUsername())
+                .applySetting(AvailableSettings.PASS, options.getPassword())
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create")
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, new CamelCaseToUnderscoresNamingStrategy())
+                .applySetting(AvailableSettings.IMPLICIT_NAMING_STRATEGY, new SpringImplicitNamingStrategy())
+                .build();
+        try {
+            SessionFactory sessionFactory = new MetadataSources(registry)
+                    .addAnnotatedClasses(User.class, Product.class, Order.class, OrderItem.class, Review.class,
+                            ProductRatingCounts.class, Address.class, Contact.class, Cart.class, CartItem.class)
+                    .buildMetadata()
+                    .buildSessionFactory();
+            sessionFactory.close();
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+}
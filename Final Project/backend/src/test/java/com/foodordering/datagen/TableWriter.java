@@ -0,0 +1,34 @@
+package com.foodordering.datagen;
+
+import java.sql.SQLException;
+
+/**
+ * Buffers generated rows for one table and writes them in bulk.
+ *
+ * The caller decides when to flush, so rows referenced by foreign keys can
+ * be flushed before the rows that reference them.
+ *
+ * Values are passed in the column order given when the writer was created.
+ * Supported value types are strings, numbers, booleans,
+ * {@link java.time.LocalDateTime} and {@code null}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public interface TableWriter {
+
+    /**
+     * Buffer one row until the next {@link #flush()}.
+     */
+    void write(Object... values) throws SQLException;
+
+    /**
+     * Write all buffered rows to the database.
+     */
+    void flush() throws SQLException;
+
+    /**
+     * Rows written (or buffered) so far.
+     */
+    long getRowCount();
+}
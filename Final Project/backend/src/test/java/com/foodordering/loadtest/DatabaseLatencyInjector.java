@@ -0,0 +1,79 @@
+package com.foodordering.loadtest;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Adds a fixed delay to every SQL statement the application executes.
+ *
+ * The in-memory H2 database answers in microseconds, which hides the cost of
+ * threads blocked on a real database. Sleeping before each execute call
+ * stands in for the network round trip, so thread-per-request and
+ * virtual-thread serving can be compared under I/O-bound load.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+class DatabaseLatencyInjector implements BeanPostProcessor {
+
+    private final long delayNanos;
+
+    DatabaseLatencyInjector(Duration delay) {
+        this.delayNanos = delay.toNanos();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return delaying(Connection.class, super.getConnection());
+                }
+
+                @Override
+                public Connection getConnection(String username, String password) throws SQLException {
+                    return delaying(Connection.class, super.getConnection(username, password));
+                }
+            };
+        }
+        return bean;
+    }
+
+    /**
+     * Proxy a connection or statement: statements created from the connection
+     * are proxied in turn, and their execute methods sleep first.
+     */
+    private <T> T delaying(Class<T> type, Object target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (target instanceof Statement && method.getName().startsWith("execute")) {
+                Thread.sleep(delayNanos / 1_000_000, (int) (delayNanos % 1_000_000));
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+            if (target instanceof Connection && result instanceof Statement && isStatementFactory(method)) {
+                return delaying(method.getReturnType(), result);
+            }
+            return result;
+        };
+        return type.cast(Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static boolean isStatementFactory(Method method) {
+        return Statement.class.isAssignableFrom(method.getReturnType());
+    }
+}
@@ -0,0 +1,157 @@
+package com.foodordering.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and error counts for one run.
+ *
+ * Latencies are recorded in microseconds, up to one minute, with three
+ * significant digits.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<LoadScenario, ConcurrentHistogram> histograms = new EnumMap<>(LoadScenario.class);
+    private final Map<LoadScenario, LongAdder> errors = new EnumMap<>(LoadScenario.class);
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean recording;
+
+    public LatencyReport() {
+        for (LoadScenario scenario : LoadScenario.values()) {
+            histograms.put(scenario, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(scenario, new LongAdder());
+        }
+    }
+
+    /**
+     * Discard everything seen so far (the warmup) and start recording.
+     */
+    public void startRecording() {
+        histograms.values().forEach(Histogram::reset);
+        errors.values().forEach(LongAdder::reset);
+        dropped.reset();
+        recording = true;
+    }
+
+    public void stopRecording() {
+        recording = false;
+    }
+
+    public void record(LoadScenario scenario, long latencyNanos, boolean success) {
+        if (!recording) {
+            return;
+        }
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        histograms.get(scenario).recordValue(micros);
+        if (!success) {
+            errors.get(scenario).increment();
+        }
+    }
+
+    /**
+     * Count an open-model request that was never sent because too many were
+     * already outstanding.
+     */
+    public void recordDropped() {
+        if (recording) {
+            dropped.increment();
+        }
+    }
+
+    public void print(PrintStream out, LoadTestOptions options, double elapsedSeconds) {
+        out.printf(Locale.ROOT, "%nLoad test: mode=%s %s, measured %.1fs%n",
+                options.getMode().name().toLowerCase(Locale.ROOT),
+                options.getMode() == LoadTestOptions.Mode.OPEN
+                        ? "rate=" + options.getRate() + "/s"
+                        : "concurrency=" + options.getConcurrency(),
+                elapsedSeconds);
+        out.printf(Locale.ROOT, "%-28s %8s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "rps", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        for (LoadScenario scenario : LoadScenario.values()) {
+            Histogram histogram = histograms.get(scenario);
+            if (histogram.getTotalCount() > 0) {
+                printRow(out, scenario.getEndpoint(), histogram, errors.get(scenario).sum(), elapsedSeconds);
+            }
+        }
+        printRow(out, "TOTAL", total(), totalErrors(), elapsedSeconds);
+        if (dropped.sum() > 0) {
+            out.printf(Locale.ROOT, "Dropped %d requests at the max-in-flight limit; the server could not keep up%n",
+                    dropped.sum());
+        }
+    }
+
+    /**
+     * All endpoints merged into one histogram.
+     */
+    public Histogram total() {
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        histograms.values().forEach(total::add);
+        return total;
+    }
+
+    public long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Print one summary line per run, for comparing runs of the same load.
+     */
+    public static void printComparison(PrintStream out, Map<String, LatencyReport> reports, double elapsedSeconds) {
+        out.printf(Locale.ROOT, "%nComparison%n%-28s %8s %8s %7s %9s %9s %9s %9s %9s%n",
+                "run", "count", "rps", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        reports.forEach((name, report) ->
+                printRow(out, name, report.total(), report.totalErrors(), elapsedSeconds));
+    }
+
+    private static void printRow(PrintStream out, String label, Histogram histogram, long errorCount,
+                                 double elapsedSeconds) {
+        out.printf(Locale.ROOT, "%-28s %8d %8.1f %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                label,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / elapsedSeconds,
+                errorCount,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    /**
+     * Write one HdrHistogram percentile distribution (.hgrm) per endpoint, in
+     * milliseconds, so runs can be plotted and compared.
+     */
+    public void writeDistributions(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (LoadScenario scenario : LoadScenario.values()) {
+            Histogram histogram = histograms.get(scenario);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            Path file = directory.resolve(scenario.getScenarioName() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
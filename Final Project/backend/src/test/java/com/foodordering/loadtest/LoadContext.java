@@ -0,0 +1,84 @@
+package com.foodordering.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Shared state the scenarios draw from: the server address, seeded ids and
+ * pre-issued tokens, plus a ring of recently placed orders to poll.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class LoadContext {
+
+    public static final String PASSWORD = "password123";
+
+    private static final int RECENT_ORDERS = 8192;
+
+    private final String baseUrl;
+    private final List<SeededUser> users;
+    private final String adminToken;
+    private final long[] productIds;
+    private final List<String> searchTerms;
+    private final AtomicLongArray recentOrders = new AtomicLongArray(RECENT_ORDERS);
+    private final AtomicLong recentOrderCursor = new AtomicLong();
+
+    public LoadContext(String baseUrl, List<SeededUser> users, String adminToken,
+                       long[] productIds, long[] orderIds, List<String> searchTerms) {
+        this.baseUrl = baseUrl;
+        this.users = users;
+        this.adminToken = adminToken;
+        this.productIds = productIds;
+        this.searchTerms = searchTerms;
+        for (long orderId : orderIds) {
+            recordOrder(orderId);
+        }
+    }
+
+    public HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept", "application/json");
+    }
+
+    public SeededUser randomUser(SplittableRandom random) {
+        return users.get(random.nextInt(users.size()));
+    }
+
+    public long randomProductId(SplittableRandom random) {
+        return productIds[random.nextInt(productIds.length)];
+    }
+
+    public String randomSearchTerm(SplittableRandom random) {
+        return searchTerms.get(random.nextInt(searchTerms.size()));
+    }
+
+    public void recordOrder(long orderId) {
+        long slot = recentOrderCursor.getAndIncrement() % RECENT_ORDERS;
+        recentOrders.set((int) slot, orderId);
+    }
+
+    /**
+     * A recently placed order, or 0 when none has been recorded yet.
+     */
+    public long randomRecentOrder(SplittableRandom random) {
+        long filled = Math.min(recentOrderCursor.get(), RECENT_ORDERS);
+        if (filled == 0) {
+            return 0L;
+        }
+        return recentOrders.get(random.nextInt((int) filled));
+    }
+
+    public String getAdminToken() {
+        return adminToken;
+    }
+
+    /**
+     * A seeded customer account and a pre-issued access token for it.
+     */
+    public record SeededUser(long id, String username, String token) {}
+}
@@ -0,0 +1,154 @@
+package com.foodordering.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * The request types the load generator mixes, each mapped to one endpoint
+ * so latency is reported per endpoint.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public enum LoadScenario {
+
+    BROWSE("browse", "GET /products", 30) {
+        @Override
+        HttpRequest request(LoadContext ctx, SplittableRandom random) {
+            return ctx.request("/products").GET().build();
+        }
+    },
+    PRODUCT_DETAIL("product-detail", "GET /products/{id}", 12) {
+        @Override
+        HttpRequest request(LoadContext ctx, SplittableRandom random) {
+            return ctx.request("/products/" + ctx.randomProductId(random)).GET().build();
+        }
+    },
+    PRODUCT_REVIEWS("product-reviews", "GET /products/{id}/reviews", 8) {
+        @Override
+        HttpRequest request(LoadContext ctx, SplittableRandom random) {
+            return ctx.request("/products/" + ctx.randomProductId(random) + "/reviews").GET().build();
+        }
+    },
+    SEARCH("search", "GET /products?search=", 10) {
+        @Override
+        HttpRequest request(LoadContext ctx, SplittableRandom random) {
+            return ctx.request("/products?search=" + ctx.randomSearchTerm(random)).GET().build();
+        }
+    },
+    LOGIN("login", "POST /auth/login", 5) {
+        @Override
+        HttpRequest request(LoadContext ctx, SplittableRandom random) {
+            String body = "{\"username\":\"" + ctx.randomUser(random).username()
+                    + "\",\"password\":\"" + LoadContext.PASSWORD + "\"}";
+            return ctx.request("/auth/login")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+    },
+    ADD_ORDER("add-order", "POST /orders", 10) {
+        @Override
+        HttpRequest request(LoadContext ctx, SplittableRandom random) {
+            StringBuilder body = new StringBuilder("{\"deliveryAddress\":\"Ermou 1, Athens\",\"items\":[");
+            int items = 1 + random.nextInt(4);
+            for (int i = 0; i < items; i++) {
+                if (i > 0) {
+                    body.append(',');
+                }
+                body.append("{\"productId\":").append(ctx.randomProductId(random))
+                        .append(",\"quantity\":").append(1 + random.nextInt(3)).append('}');
+            }
+            body.append("]}");
+            return ctx.request("/orders")
+                    .header("Content-Type", "application/json")
+                    .header("Authorization", "Bearer " + ctx.randomUser(random).token())
+                    .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                    .build();
+        }
+
+        @Override
+        void onResponse(LoadContext ctx, int status, String body) {
+            if (status == 201) {
+                Matcher matcher = ORDER_ID.matcher(body);
+                if (matcher.find()) {
+                    ctx.recordOrder(Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+    },
+    POLL_STATUS("poll-status", "GET /orders/{id}", 15) {
+        @Override
+        HttpRequest request(LoadContext ctx, SplittableRandom random) {
+            return ctx.request("/orders/" + ctx.randomRecentOrder(random))
+                    .header("Authorization", "Bearer " + ctx.randomUser(random).token())
+                    .GET()
+                    .build();
+        }
+    },
+    ADMIN_ORDERS("admin-orders", "GET /orders", 4) {
+        @Override
+        HttpRequest request(LoadContext ctx, SplittableRandom random) {
+            return ctx.request("/orders").header("Authorization", "Bearer " + ctx.getAdminToken()).GET().build();
+        }
+    },
+    ADMIN_USERS("admin-users", "GET /users", 3) {
+        @Override
+        HttpRequest request(LoadContext ctx, SplittableRandom random) {
+            return ctx.request("/users").header("Authorization", "Bearer " + ctx.getAdminToken()).GET().build();
+        }
+    },
+    ADMIN_CONTACTS("admin-contacts", "GET /contacts", 3) {
+        @Override
+        HttpRequest request(LoadContext ctx, SplittableRandom random) {
+            return ctx.request("/contacts").header("Authorization", "Bearer " + ctx.getAdminToken()).GET().build();
+        }
+    };
+
+    private static final Pattern ORDER_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final String scenarioName;
+    private final String endpoint;
+    private final int defaultWeight;
+
+    LoadScenario(String scenarioName, String endpoint, int defaultWeight) {
+        this.scenarioName = scenarioName;
+        this.endpoint = endpoint;
+        this.defaultWeight = defaultWeight;
+    }
+
+    abstract HttpRequest request(LoadContext ctx, SplittableRandom random);
+
+    void onResponse(LoadContext ctx, int status, String body) {
+        // Most scenarios do not need anything from the response
+    }
+
+    public String getScenarioName() {
+        return scenarioName;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    public static LoadScenario fromName(String name) {
+        String normalized = name.toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.scenarioName.equals(normalized))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scenario '" + name + "', expected one of " + names()));
+    }
+
+    public static String names() {
+        return Arrays.stream(values()).map(LoadScenario::getScenarioName).collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,146 @@
+package com.foodordering.loadtest;
+
+import com.foodordering.entity.Order;
+import com.foodordering.entity.OrderItem;
+import com.foodordering.entity.Product;
+import com.foodordering.entity.ProductCategory;
+import com.foodordering.entity.Review;
+import com.foodordering.entity.User;
+import com.foodordering.entity.UserRole;
+import com.foodordering.repository.OrderRepository;
+import com.foodordering.repository.ProductRepository;
+import com.foodordering.repository.ReviewRepository;
+import com.foodordering.repository.UserRepository;
+import com.foodordering.security.JwtTokenProvider;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * Seeds the load test database through the application's own repositories
+ * and issues an access token for every seeded user up front, so the run
+ * does not spend its time on BCrypt except in the login scenario.
+ *
+ * Product popularity is skewed: a few products collect most reviews and
+ * order lines, like a real menu.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class LoadTestDataSeeder {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String[] ADJECTIVES = {
+        "Classic", "Spicy", "Crispy", "Smoky", "Fresh", "Double", "Garden", "Truffle", "Honey", "Greek"
+    };
+    private static final String[] DISHES = {
+        "Margherita", "Burger", "Salad", "Wings", "Fries", "Brownie", "Lemonade", "Souvlaki", "Pasta", "Gyro"
+    };
+
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final ReviewRepository reviewRepository;
+    private final OrderRepository orderRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtTokenProvider tokenProvider;
+
+    public LoadTestDataSeeder(ApplicationContext context) {
+        this.userRepository = context.getBean(UserRepository.class);
+        this.productRepository = context.getBean(ProductRepository.class);
+        this.reviewRepository = context.getBean(ReviewRepository.class);
+        this.orderRepository = context.getBean(OrderRepository.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.tokenProvider = context.getBean(JwtTokenProvider.class);
+    }
+
+    /**
+     * Insert users, products, reviews and orders and return a context that
+     * points the scenarios at them.
+     */
+    public LoadContext seed(LoadTestOptions options, String baseUrl) {
+        SplittableRandom random = new SplittableRandom(options.getSeed());
+        // One hash for everyone; hashing per user would dominate seeding time
+        String passwordHash = passwordEncoder.encode(LoadContext.PASSWORD);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < options.getUsers(); i++) {
+            users.add(new User("load_user_" + i, "load_user_" + i + "@loadtest.local", passwordHash, UserRole.USER));
+        }
+        users = saveInBatches(users, userRepository::saveAll);
+        User admin = userRepository.save(
+                new User("load_admin", "load_admin@loadtest.local", passwordHash, UserRole.ADMIN));
+
+        ProductCategory[] categories = ProductCategory.values();
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < options.getProducts(); i++) {
+            String dish = DISHES[i % DISHES.length];
+            Product product = new Product(ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + dish + " " + i,
+                    "Load test " + dish.toLowerCase() + " number " + i,
+                    BigDecimal.valueOf(250 + random.nextInt(2_000), 2),
+                    categories[i % categories.length]);
+            product.setStockQuantity(1_000_000);
+            products.add(product);
+        }
+        products = saveInBatches(products, productRepository::saveAll);
+
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < options.getReviews(); i++) {
+            Review review = new Review();
+            review.setUser(users.get(random.nextInt(users.size())));
+            review.setProduct(products.get(skewedIndex(random, products.size())));
+            review.setRating(1 + random.nextInt(5));
+            review.setComment("Load test review " + i);
+            reviews.add(review);
+        }
+        saveInBatches(reviews, reviewRepository::saveAll);
+
+        List<Order> orders = new ArrayList<>();
+        for (User user : users) {
+            for (int i = 0; i < options.getOrdersPerUser(); i++) {
+                Order order = new Order(user, BigDecimal.ZERO, "Ermou 1, Athens");
+                int lines = 1 + random.nextInt(4);
+                for (int line = 0; line < lines; line++) {
+                    Product product = products.get(skewedIndex(random, products.size()));
+                    order.addItem(new OrderItem(order, product, 1 + random.nextInt(3), product.getPrice()));
+                }
+                order.calculateTotal();
+                orders.add(order);
+            }
+        }
+        orders = saveInBatches(orders, orderRepository::saveAll);
+
+        List<LoadContext.SeededUser> seededUsers = new ArrayList<>(users.size());
+        for (User user : users) {
+            seededUsers.add(new LoadContext.SeededUser(user.getId(), user.getUsername(),
+                    tokenProvider.generateAccessToken(user)));
+        }
+        long[] productIds = products.stream().mapToLong(Product::getId).toArray();
+        long[] orderIds = orders.stream().mapToLong(Order::getId).toArray();
+        List<String> searchTerms = List.of(DISHES).stream().map(String::toLowerCase).toList();
+
+        return new LoadContext(baseUrl, seededUsers, tokenProvider.generateAccessToken(admin),
+                productIds, orderIds, searchTerms);
+    }
+
+    /**
+     * Index biased towards the front of the list (roughly 80/20).
+     */
+    private static int skewedIndex(SplittableRandom random, int size) {
+        double u = random.nextDouble();
+        return (int) (size * u * u * u);
+    }
+
+    private static <T> List<T> saveInBatches(List<T> entities, Function<List<T>, List<T>> saveAll) {
+        List<T> saved = new ArrayList<>(entities.size());
+        for (int from = 0; from < entities.size(); from += BATCH_SIZE) {
+            saved.addAll(saveAll.apply(entities.subList(from, Math.min(from + BATCH_SIZE, entities.size()))));
+        }
+        return saved;
+    }
+}
@@ -0,0 +1,135 @@
+package com.foodordering.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line options for the load test harness.
+ *
+ * Options are passed as {@code --name=value}; see {@link #usage()}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class LoadTestOptions {
+
+    /**
+     * Closed model: a fixed number of clients, each waiting for its response
+     * before sending the next request. Open model: requests arrive at a fixed
+     * rate regardless of how fast the server answers.
+     */
+    public enum Mode {
+        CLOSED,
+        OPEN
+    }
+
+    /**
+     * Threads the server handles requests on. BOTH runs the load twice, once
+     * per model, and prints a comparison.
+     */
+    public enum Threads {
+        PLATFORM,
+        VIRTUAL,
+        BOTH
+    }
+
+    private Mode mode = Mode.OPEN;
+    private Threads threads = Threads.PLATFORM;
+    private Duration dbLatency = Duration.ZERO;
+    private double rate = 200;
+    private Duration duration = Duration.ofSeconds(60);
+    private Duration warmup = Duration.ofSeconds(10);
+    private int concurrency = 32;
+    private Duration thinkTime = Duration.ZERO;
+    private int maxInFlight = 2_000;
+    private int users = 500;
+    private int products = 200;
+    private int reviews = 5_000;
+    private int ordersPerUser = 3;
+    private long seed = 42L;
+    private String reportDir = "target/loadtest";
+    private final Map<LoadScenario, Integer> mix = new EnumMap<>(LoadScenario.class);
+
+    public LoadTestOptions() {
+        for (LoadScenario scenario : LoadScenario.values()) {
+            mix.put(scenario, scenario.getDefaultWeight());
+        }
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unrecognized argument: " + arg + "\n" + usage());
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "mode" -> options.mode = Mode.valueOf(value.toUpperCase(Locale.ROOT));
+                case "threads" -> options.threads = Threads.valueOf(value.toUpperCase(Locale.ROOT));
+                case "db-latency" -> options.dbLatency = DurationStyle.detectAndParse(value);
+                case "rate" -> options.rate = Double.parseDouble(value);
+                case "duration" -> options.duration = DurationStyle.detectAndParse(value);
+                case "warmup" -> options.warmup = DurationStyle.detectAndParse(value);
+                case "concurrency" -> options.concurrency = Integer.parseInt(value);
+                case "think-time" -> options.thinkTime = DurationStyle.detectAndParse(value);
+                case "max-in-flight" -> options.maxInFlight = Integer.parseInt(value);
+                case "users" -> options.users = Integer.parseInt(value);
+                case "products" -> options.products = Integer.parseInt(value);
+                case "reviews" -> options.reviews = Integer.parseInt(value);
+                case "orders-per-user" -> options.ordersPerUser = Integer.parseInt(value);
+                case "seed" -> options.seed = Long.parseLong(value);
+                case "report-dir" -> options.reportDir = value;
+                case "mix" -> options.parseMix(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + name + "\n" + usage());
+            }
+        }
+        return options;
+    }
+
+    private void parseMix(String value) {
+        mix.replaceAll((scenario, weight) -> 0);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split(":");
+            mix.put(LoadScenario.fromName(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+    }
+
+    public static String usage() {
+        return "Options:\n"
+                + "  --mode=open|closed        arrival model (default open)\n"
+                + "  --threads=platform|virtual|both   server request threads; both compares the two\n"
+                + "  --db-latency=0ms          delay added to every SQL statement, emulating a remote database\n"
+                + "  --rate=200                target requests/second in open mode\n"
+                + "  --concurrency=32          clients in closed mode\n"
+                + "  --think-time=0ms          pause between requests per closed-mode client\n"
+                + "  --duration=60s            measured run length\n"
+                + "  --warmup=10s              unmeasured warmup before the run\n"
+                + "  --max-in-flight=2000      open-mode cap on outstanding requests\n"
+                + "  --users=500 --products=200 --reviews=5000 --orders-per-user=3   seed sizes\n"
+                + "  --seed=42                 random seed for data and request mix\n"
+                + "  --mix=browse:30,search:10 scenario weights (" + LoadScenario.names() + ")\n"
+                + "  --report-dir=target/loadtest   where .hgrm percentile files are written";
+    }
+
+    public Mode getMode() { return mode; }
+    public Threads getThreads() { return threads; }
+    public Duration getDbLatency() { return dbLatency; }
+    public double getRate() { return rate; }
+    public Duration getDuration() { return duration; }
+    public Duration getWarmup() { return warmup; }
+    public int getConcurrency() { return concurrency; }
+    public Duration getThinkTime() { return thinkTime; }
+    public int getMaxInFlight() { return maxInFlight; }
+    public int getUsers() { return users; }
+    public int getProducts() { return products; }
+    public int getReviews() { return reviews; }
+    public int getOrdersPerUser() { return ordersPerUser; }
+    public long getSeed() { return seed; }
+    public String getReportDir() { return reportDir; }
+    public Map<LoadScenario, Integer> getMix() { return mix; }
+}
@@ -0,0 +1,279 @@
+package com.foodordering.loadtest;
+
+import com.foodordering.FoodOrderingApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test for the backend.
+ *
+ * Boots the application in-process on a random port with the H2 "test"
+ * profile, seeds it through {@link LoadTestDataSeeder} and drives a weighted
+ * mix of {@link LoadScenario}s over real HTTP. Nothing outside the JVM is
+ * needed. Run it with {@code mvn -Ploadtest verify -DskipTests} and pass
+ * options through {@code -Dloadtest.args="..."}; see
+ * {@link LoadTestOptions#usage()}.
+ *
+ * With {@code --threads=both} the same load runs against a server on
+ * platform threads and then on virtual threads (Java 21+), and the two are
+ * compared; add {@code --db-latency} to make the load I/O-bound.
+ *
+ * In open mode latency is measured from the time a request was scheduled to
+ * start, not from when it was actually sent, so a stalled server shows up in
+ * the percentiles instead of silently lowering the request rate.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public class LoadTestRunner {
+
+    private final LoadTestOptions options;
+    private final LoadContext context;
+    private final LatencyReport report = new LatencyReport();
+    private final LoadScenario[] scenarios;
+    private final int[] cumulativeWeights;
+    private final HttpClient httpClient;
+    private final ExecutorService callbackExecutor;
+
+    public LoadTestRunner(LoadTestOptions options, LoadContext context) {
+        this.options = options;
+        this.context = context;
+
+        List<LoadScenario> enabled = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int sum = 0;
+        for (Map.Entry<LoadScenario, Integer> entry : options.getMix().entrySet()) {
+            if (entry.getValue() > 0) {
+                sum += entry.getValue();
+                enabled.add(entry.getKey());
+                cumulative.add(sum);
+            }
+        }
+        if (enabled.isEmpty()) {
+            throw new IllegalArgumentException("The scenario mix has no positive weights");
+        }
+        this.scenarios = enabled.toArray(new LoadScenario[0]);
+        this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+
+        this.callbackExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(callbackExecutor)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        List<LoadTestOptions.Threads> runs = options.getThreads() == LoadTestOptions.Threads.BOTH
+                ? List.of(LoadTestOptions.Threads.PLATFORM, LoadTestOptions.Threads.VIRTUAL)
+                : List.of(options.getThreads());
+        if (runs.contains(LoadTestOptions.Threads.VIRTUAL) && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need Java 21 or newer, running on " + Runtime.version());
+        }
+
+        // Devtools would relaunch main() in a restart classloader; the harness runs once
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        Map<String, LatencyReport> reports = new LinkedHashMap<>();
+        for (LoadTestOptions.Threads threads : runs) {
+            String name = threads.name().toLowerCase(Locale.ROOT);
+            Path reportDir = runs.size() > 1 ? Path.of(options.getReportDir(), name) : Path.of(options.getReportDir());
+            System.out.printf("%nServing on %s threads%n", name);
+            reports.put(name, runOnce(options, threads == LoadTestOptions.Threads.VIRTUAL, reportDir));
+        }
+        if (reports.size() > 1) {
+            LatencyReport.printComparison(System.out, reports, options.getDuration().toNanos() / 1e9);
+        }
+    }
+
+    private static LatencyReport runOnce(LoadTestOptions options, boolean virtualThreads, Path reportDir)
+            throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(FoodOrderingApplication.class)
+                .profiles("test");
+        if (!options.getDbLatency().isZero()) {
+            builder.initializers(context -> context.getBeanFactory()
+                    .addBeanPostProcessor(new DatabaseLatencyInjector(options.getDbLatency())));
+        }
+        // Passed as command line arguments so they win over application.properties
+        ConfigurableApplicationContext application = builder.run("--server.port=0",
+                // The harness seeds its own data; data-test.sql uses fixed ids
+                "--spring.sql.init.mode=never",
+                "--rate-limit.enabled=false",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--logging.level.root=WARN",
+                "--logging.level.com.foodordering=WARN",
+                "--logging.level.org.hibernate.SQL=WARN");
+        try {
+            String port = application.getEnvironment().getProperty("local.server.port");
+            String contextPath = application.getEnvironment().getProperty("server.servlet.context-path", "");
+            String baseUrl = "http://localhost:" + port + contextPath;
+
+            long seedStart = System.nanoTime();
+            LoadContext context = new LoadTestDataSeeder(application).seed(options, baseUrl);
+            System.out.printf("Seeded %d users, %d products, %d reviews, %d orders in %d ms%n",
+                    options.getUsers(), options.getProducts(), options.getReviews(),
+                    options.getUsers() * options.getOrdersPerUser(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStart));
+
+            LoadTestRunner runner = new LoadTestRunner(options, context);
+            try {
+                runner.run(reportDir);
+            } finally {
+                runner.shutdown();
+            }
+            return runner.report;
+        } finally {
+            application.close();
+        }
+    }
+
+    /**
+     * Run the warmup followed by the measured phase and print the report.
+     */
+    public void run(Path reportDir) throws Exception {
+        long start = System.nanoTime();
+        long measureFrom = start + options.getWarmup().toNanos();
+        long measureUntil = measureFrom + options.getDuration().toNanos();
+
+        Thread phases = new Thread(() -> {
+            parkUntil(measureFrom);
+            report.startRecording();
+            parkUntil(measureUntil);
+            report.stopRecording();
+        }, "loadtest-phases");
+        phases.setDaemon(true);
+        phases.start();
+
+        if (options.getMode() == LoadTestOptions.Mode.OPEN) {
+            runOpen(start, measureUntil);
+        } else {
+            runClosed(measureUntil);
+        }
+        phases.join();
+
+        report.print(System.out, options, options.getDuration().toNanos() / 1e9);
+        report.writeDistributions(reportDir);
+        System.out.println("Percentile distributions written to " + reportDir.toAbsolutePath());
+    }
+
+    /**
+     * Open model: one dispatcher issues requests on a fixed schedule and never
+     * waits for responses.
+     */
+    private void runOpen(long start, long end) throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(options.getSeed());
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / options.getRate());
+        AtomicInteger inFlight = new AtomicInteger();
+
+        for (long n = 0; ; n++) {
+            long intendedStart = start + n * intervalNanos;
+            if (intendedStart - end >= 0) {
+                break;
+            }
+            parkUntil(intendedStart);
+
+            LoadScenario scenario = pickScenario(random);
+            if (inFlight.get() >= options.getMaxInFlight()) {
+                report.recordDropped();
+                continue;
+            }
+            HttpRequest request = scenario.request(context, random);
+            inFlight.incrementAndGet();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, failure) -> {
+                        long latency = System.nanoTime() - intendedStart;
+                        inFlight.decrementAndGet();
+                        complete(scenario, latency, response, failure);
+                    });
+        }
+
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() - drainDeadline < 0) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Closed model: a fixed set of clients, each sending its next request only
+     * after the previous one has completed.
+     */
+    private void runClosed(long end) throws InterruptedException {
+        List<Thread> clients = new ArrayList<>();
+        SplittableRandom seedRandom = new SplittableRandom(options.getSeed());
+        for (int i = 0; i < options.getConcurrency(); i++) {
+            SplittableRandom random = seedRandom.split();
+            Thread client = new Thread(() -> {
+                while (System.nanoTime() - end < 0) {
+                    LoadScenario scenario = pickScenario(random);
+                    HttpRequest request = scenario.request(context, random);
+                    long sentAt = System.nanoTime();
+                    HttpResponse<String> response = null;
+                    Throwable failure = null;
+                    try {
+                        response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        failure = e;
+                    }
+                    complete(scenario, System.nanoTime() - sentAt, response, failure);
+                    if (!options.getThinkTime().isZero()) {
+                        LockSupport.parkNanos(options.getThinkTime().toNanos());
+                    }
+                }
+            }, "loadtest-client-" + i);
+            clients.add(client);
+            client.start();
+        }
+        for (Thread client : clients) {
+            client.join();
+        }
+    }
+
+    private void complete(LoadScenario scenario, long latencyNanos, HttpResponse<String> response, Throwable failure) {
+        boolean success = failure == null && response.statusCode() < 400;
+        report.record(scenario, latencyNanos, success);
+        if (response != null) {
+            scenario.onResponse(context, response.statusCode(), response.body());
+        }
+    }
+
+    private LoadScenario pickScenario(SplittableRandom random) {
+        int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private void shutdown() {
+        callbackExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,69 @@
+package com.foodordering.monitoring;
+
+import com.foodordering.entity.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for {@link BusinessMetrics}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+class BusinessMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BusinessMetrics businessMetrics = new BusinessMetrics(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testOrderCreated_InTransaction_CountedOnCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        businessMetrics.orderCreated();
+        businessMetrics.orderStatusChanged(OrderStatus.PENDING, OrderStatus.CONFIRMED);
+
+        // Then
+        assertEquals(0, ordersCreated());
+        assertEquals(0, transitions());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, ordersCreated());
+        assertEquals(1, transitions());
+    }
+
+    @Test
+    void testOrderCreated_TransactionRolledBack_NotCounted() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        businessMetrics.orderCreated();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertEquals(0, ordersCreated());
+    }
+
+    private double ordersCreated() {
+        return meterRegistry.get("orders.created").counter().count();
+    }
+
+    private double transitions() {
+        return meterRegistry.get("orders.status.transitions").tag("from", "PENDING").tag("to", "CONFIRMED")
+                .counter().count();
+    }
+}
@@ -0,0 +1,95 @@
+package com.foodordering.monitoring;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Unit tests for {@link RequestIdFilter}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+class RequestIdFilterTest {
+
+    private final RequestIdFilter filter = new RequestIdFilter();
+
+    @Test
+    void testDoFilter_WithoutHeader_GeneratesIdForMdcAndResponse() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> seen = new AtomicReference<>();
+        FilterChain chain = (req, res) -> seen.set(MDC.get(RequestIdFilter.MDC_KEY));
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertNotNull(seen.get());
+        assertEquals(seen.get(), response.getHeader(RequestIdFilter.HEADER));
+        assertNull(MDC.get(RequestIdFilter.MDC_KEY));
+    }
+
+    @Test
+    void testDoFilter_WithValidHeader_ReusesIt() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products");
+        request.addHeader(RequestIdFilter.HEADER, "edge-42.abc");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> seen.set(MDC.get(RequestIdFilter.MDC_KEY)));
+
+        // Then
+        assertEquals("edge-42.abc", seen.get());
+        assertEquals("edge-42.abc", response.getHeader(RequestIdFilter.HEADER));
+    }
+
+    @Test
+    void testDoFilter_WithMalformedHeader_ReplacesIt() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products");
+        request.addHeader(RequestIdFilter.HEADER, "bad id\n{\"forged\":true}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        // When
+        filter.doFilter(request, response, (req, res) -> seen.set(MDC.get(RequestIdFilter.MDC_KEY)));
+
+        // Then
+        assertNotNull(seen.get());
+        assertNotEquals("bad id\n{\"forged\":true}", seen.get());
+    }
+
+    @Test
+    void testTaskDecorator_CarriesRequestIdToOtherThread() throws Exception {
+        // Given
+        AtomicReference<String> seen = new AtomicReference<>();
+        MDC.put(RequestIdFilter.MDC_KEY, "req-1");
+        Runnable task;
+        try {
+            task = new MdcTaskDecorator().decorate(() -> seen.set(MDC.get(RequestIdFilter.MDC_KEY)));
+        } finally {
+            MDC.remove(RequestIdFilter.MDC_KEY);
+        }
+
+        // When
+        Thread thread = new Thread(task);
+        thread.start();
+        thread.join();
+
+        // Then
+        assertEquals("req-1", seen.get());
+    }
+}
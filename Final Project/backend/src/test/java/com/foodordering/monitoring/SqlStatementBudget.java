@@ -0,0 +1,39 @@
+package com.foodordering.monitoring;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MockMvc matchers for the number of SQL statements a request issued.
+ *
+ * Usage: {@code mockMvc.perform(get("/products")).andExpect(SqlStatementBudget.atMost(2))}
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public final class SqlStatementBudget {
+
+    private SqlStatementBudget() {
+    }
+
+    /**
+     * Fail when the request issued more than {@code maxStatements} statements.
+     */
+    public static ResultMatcher atMost(int maxStatements) {
+        return result -> {
+            int statements = statementCount(result);
+            assertTrue(statements <= maxStatements, () -> result.getRequest().getMethod() + " "
+                    + result.getRequest().getRequestURI() + " issued " + statements
+                    + " SQL statements, budget is " + maxStatements);
+        };
+    }
+
+    public static int statementCount(MvcResult result) {
+        Object count = result.getRequest().getAttribute(SqlStatementCountingFilter.STATEMENT_COUNT_ATTRIBUTE);
+        assertNotNull(count, "SqlStatementCountingFilter did not run for this request");
+        return (Integer) count;
+    }
+}
@@ -0,0 +1,176 @@
+package com.foodordering.monitoring;
+
+import com.foodordering.dto.ContactSummaryDto;
+import com.foodordering.entity.Contact;
+import com.foodordering.entity.Order;
+import com.foodordering.entity.OrderItem;
+import com.foodordering.entity.Product;
+import com.foodordering.entity.Review;
+import com.foodordering.entity.User;
+import com.foodordering.repository.ContactRepository;
+import com.foodordering.repository.OrderRepository;
+import com.foodordering.repository.ProductRepository;
+import com.foodordering.repository.ReviewRepository;
+import com.foodordering.repository.UserRepository;
+import com.foodordering.security.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query budgets for the main read endpoints.
+ *
+ * Each test seeds enough reviews and orders that a per-row lazy load would
+ * blow the budget, so N+1 regressions fail here instead of in production.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlStatementBudgetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    private User customer;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.findByUsername("user1").orElseThrow();
+        List<Product> products = productRepository.findAll();
+
+        for (Product product : products) {
+            for (int rating = 1; rating <= 3; rating++) {
+                Review review = new Review();
+                review.setUser(customer);
+                review.setProduct(product);
+                review.setRating(rating);
+                review.setComment("Budget test review");
+                reviewRepository.save(review);
+            }
+        }
+
+        for (int i = 0; i < 3; i++) {
+            Order newOrder = new Order(customer, BigDecimal.ZERO, "Ermou 1, Athens");
+            for (Product product : products) {
+                newOrder.addItem(new OrderItem(newOrder, product, 1, product.getPrice()));
+            }
+            newOrder.calculateTotal();
+            order = orderRepository.save(newOrder);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        reviewRepository.deleteAll();
+        contactRepository.deleteAll();
+    }
+
+    @Test
+    void testGetProducts_StaysWithinBudget() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/products"))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatementBudget.atMost(2))
+                .andReturn();
+
+        // Then
+        assertTrue(SqlStatementBudget.statementCount(result) > 0, "Statements were not counted");
+    }
+
+    @Test
+    void testGetProductById_StaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/products/{id}", 1))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatementBudget.atMost(2));
+    }
+
+    @Test
+    void testGetProductReviews_StaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/products/{id}/reviews", 1))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatementBudget.atMost(2));
+    }
+
+    @Test
+    void testGetAllOrders_StaysWithinBudget() throws Exception {
+        // Given
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+
+        // When / Then: one statement authenticates the caller, one loads the orders
+        mockMvc.perform(get("/orders").header("Authorization", bearer(admin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].items").doesNotExist())
+                .andExpect(SqlStatementBudget.atMost(2));
+    }
+
+    @Test
+    void testGetAllContacts_StaysWithinBudgetAndPreviewsMessage() throws Exception {
+        // Given
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        contactRepository.save(new Contact("Budget Test", "budget@example.com", "Long message",
+                "x".repeat(ContactSummaryDto.PREVIEW_LENGTH * 10), null));
+
+        // When / Then
+        mockMvc.perform(get("/contacts").header("Authorization", bearer(admin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].message").doesNotExist())
+                .andExpect(jsonPath("$[0].messagePreview").value("x".repeat(ContactSummaryDto.PREVIEW_LENGTH)))
+                .andExpect(jsonPath("$[0].messageTruncated").value(true))
+                .andExpect(SqlStatementBudget.atMost(2));
+    }
+
+    @Test
+    void testGetUserOrders_StaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/orders/user/{userId}", customer.getId()).header("Authorization", bearer(customer)))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatementBudget.atMost(2));
+    }
+
+    @Test
+    void testGetOrderById_StaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/orders/{orderId}", order.getId()).header("Authorization", bearer(customer)))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatementBudget.atMost(2));
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + tokenProvider.generateAccessToken(user);
+    }
+}
@@ -0,0 +1,121 @@
+package com.foodordering.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the Flyway migrations against PostgreSQL, lets Hibernate validate the
+ * resulting schema, and checks with EXPLAIN that the hot queries use their
+ * indexes. Sequential scans are disabled for the check, because on the
+ * small seed tables the planner would rightly prefer them. Skipped when
+ * Docker is not available.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class HotQueryIndexTests {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://" + POSTGRES.getHost() + ":"
+                + POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + POSTGRES.getDatabaseName());
+        registry.add("spring.r2dbc.username", POSTGRES::getUsername);
+        registry.add("spring.r2dbc.password", POSTGRES::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.defer-datasource-initialization", () -> "false");
+        registry.add("spring.sql.init.mode", () -> "never");
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void ordersOfUserUseUserCreatedIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM orders WHERE user_id = 2 ORDER BY created_at DESC",
+                "idx_orders_user_created");
+    }
+
+    @Test
+    void reviewsOfProductUseProductIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM reviews WHERE product_id = 1", "idx_reviews_product");
+    }
+
+    @Test
+    void bestRatedReviewsOfProductUseRatingIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM reviews WHERE product_id = 1 ORDER BY rating DESC, id DESC LIMIT 21",
+                "idx_reviews_product_rating");
+    }
+
+    @Test
+    void availableProductsByCategoryUseCategoryIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM products WHERE category = 'PIZZA' AND is_available = true",
+                "idx_products_category_available");
+    }
+
+    @Test
+    void contactsByStatusUseStatusCreatedIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM contacts WHERE status = 'PENDING' ORDER BY created_at DESC",
+                "idx_contacts_status_created");
+    }
+
+    @Test
+    void defaultAddressUsesPartialIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM addresses WHERE user_id = 2 AND is_default = true",
+                "idx_addresses_user_default");
+    }
+
+    @Test
+    void caseInsensitiveProductSearchUsesTrigramIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM products WHERE lower(name) LIKE lower('%pizza%')",
+                "idx_products_name_trgm");
+    }
+
+    @Test
+    void contactFullTextSearchUsesGinIndex() throws SQLException {
+        assertUsesIndex("SELECT * FROM contacts WHERE search_vector @@ websearch_to_tsquery('simple', 'order')",
+                "idx_contacts_search");
+    }
+
+    private void assertUsesIndex(String query, String index) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            try (ResultSet rs = statement.executeQuery("EXPLAIN " + query)) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+            } finally {
+                statement.execute("RESET enable_seqscan");
+            }
+        }
+        assertTrue(plan.toString().contains(index), "Expected " + index + " in plan:\n" + plan);
+    }
+}
@@ -0,0 +1,114 @@
+package com.foodordering.repository;
+
+import com.foodordering.entity.Product;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Second-level and query cache behaviour for the hot entities, including
+ * invalidation when the application writes.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTests {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void repeatedFindByIdIsServedFromCache() {
+        // Given
+        productRepository.findById(1L).orElseThrow();
+
+        // When
+        productRepository.findById(1L).orElseThrow();
+
+        // Then
+        assertEquals(1, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(Product.class.getName()).getHitCount());
+    }
+
+    @Test
+    void updateRefreshesCachedEntity() {
+        // Given
+        Product product = productRepository.findById(2L).orElseThrow();
+        String originalName = product.getName();
+
+        // When
+        product.setName(originalName + " (updated)");
+        productRepository.save(product);
+
+        // Then
+        try {
+            assertEquals(originalName + " (updated)", productRepository.findById(2L).orElseThrow().getName());
+        } finally {
+            product.setName(originalName);
+            productRepository.save(product);
+        }
+    }
+
+    @Test
+    void cachedQueryIsInvalidatedByWrites() {
+        // Given
+        productRepository.findByAvailableTrue();
+        productRepository.findByAvailableTrue();
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        Product product = productRepository.findById(3L).orElseThrow();
+
+        // When
+        product.setAvailable(false);
+        productRepository.save(product);
+
+        // Then
+        try {
+            List<Product> available = productRepository.findByAvailableTrue();
+            assertFalse(available.stream().anyMatch(p -> p.getId().equals(3L)));
+        } finally {
+            product.setAvailable(true);
+            productRepository.save(product);
+        }
+    }
+
+    @Test
+    void findByUsernameUsesQueryCache() {
+        // Given
+        userRepository.findByUsername("user1").orElseThrow();
+
+        // When
+        userRepository.findByUsername("user1").orElseThrow();
+
+        // Then
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getQueryExecutionCount());
+    }
+}
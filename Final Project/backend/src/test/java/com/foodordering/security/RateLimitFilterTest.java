@@ -0,0 +1,105 @@
+package com.foodordering.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RateLimitFilter.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+class RateLimitFilterTest {
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setPattern("/products/**");
+        rule.setLimit(5);
+        rule.setUserLimit(2);
+        rule.setPeriod(Duration.ofMinutes(1));
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule));
+        filter = new RateLimitFilter(properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testUserBucket_FollowsVerifiedUserAcrossTokensAndAddresses() throws Exception {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "user1", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+
+        // When
+        MockHttpServletResponse first = call("10.0.0.1", "token-a");
+        MockHttpServletResponse second = call("10.0.0.2", "token-b");
+        MockHttpServletResponse third = call("10.0.0.3", "token-c");
+
+        // Then
+        assertEquals(200, first.getStatus());
+        assertEquals("2", first.getHeader("X-RateLimit-Limit"));
+        assertEquals("1", first.getHeader("X-RateLimit-Remaining"));
+        assertEquals(200, second.getStatus());
+        assertEquals(429, third.getStatus());
+        assertEquals("0", third.getHeader("X-RateLimit-Remaining"));
+        assertEquals("60", third.getHeader("X-RateLimit-Reset"));
+        assertNotNull(third.getHeader("Retry-After"));
+    }
+
+    @Test
+    void testUnverifiedTokens_DoNotGetTheirOwnBuckets() throws Exception {
+        // Given - no authentication: JwtAuthenticationFilter rejected every token
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, call("10.0.0.1", "random-" + i).getStatus());
+        }
+        MockHttpServletResponse rejected = call("10.0.0.1", "random-5");
+
+        // Then
+        assertEquals(429, rejected.getStatus());
+        assertEquals("5", rejected.getHeader("X-RateLimit-Limit"));
+    }
+
+    @Test
+    void testResetHeader_OnGrantedRequest() throws Exception {
+        // When
+        MockHttpServletResponse response = call("10.0.0.1", null);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals("5", response.getHeader("X-RateLimit-Limit"));
+        assertEquals("4", response.getHeader("X-RateLimit-Remaining"));
+        assertEquals("12", response.getHeader("X-RateLimit-Reset"));
+    }
+
+    private MockHttpServletResponse call(String remoteAddr, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products/1");
+        request.setRemoteAddr(remoteAddr);
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
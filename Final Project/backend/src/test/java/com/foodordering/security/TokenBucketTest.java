@@ -0,0 +1,83 @@
+package com.foodordering.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TokenBucket.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+class TokenBucketTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    void testTryAcquire_AllowsFullBurstThenRejects() {
+        // Given
+        TokenBucket bucket = new TokenBucket(5, MINUTE, 0L);
+
+        // When / Then
+        for (int expectedRemaining = 4; expectedRemaining >= 0; expectedRemaining--) {
+            assertEquals(expectedRemaining, bucket.tryAcquire(0L));
+        }
+        assertTrue(bucket.tryAcquire(0L) < 0);
+    }
+
+    @Test
+    void testTryAcquire_WhenRejected_ReportsWaitUntilNextToken() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, MINUTE, 0L);
+        bucket.tryAcquire(0L);
+        bucket.tryAcquire(0L);
+
+        // When
+        long result = bucket.tryAcquire(0L);
+
+        // Then
+        long waitNanos = -result - 1;
+        assertEquals(MINUTE / 2, waitNanos);
+    }
+
+    @Test
+    void testTryAcquire_RefillsOverTime() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, MINUTE, 0L);
+        bucket.tryAcquire(0L);
+        bucket.tryAcquire(0L);
+
+        // When
+        long result = bucket.tryAcquire(MINUTE / 2);
+
+        // Then
+        assertEquals(0L, result);
+    }
+
+    @Test
+    void testNanosUntilFull_CountsDownAsTokensRefill() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, MINUTE, 0L);
+        bucket.tryAcquire(0L);
+        bucket.tryAcquire(0L);
+
+        // Then
+        assertEquals(MINUTE, bucket.nanosUntilFull(0L));
+        assertEquals(MINUTE / 2, bucket.nanosUntilFull(MINUTE / 2));
+        assertEquals(0L, bucket.nanosUntilFull(2 * MINUTE));
+    }
+
+    @Test
+    void testIsIdle_OnlyAfterBucketHasBeenFullForTimeout() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, MINUTE, 0L);
+        bucket.tryAcquire(0L);
+
+        // Then
+        assertFalse(bucket.isIdle(MINUTE, MINUTE));
+        assertTrue(bucket.isIdle(3 * MINUTE, MINUTE));
+    }
+}
@@ -1,20 +1,32 @@
 package com.foodordering.service;
 
+import com.foodordering.availability.UserAvailabilityIndex;
+import com.foodordering.concurrency.SingleFlight;
+import com.foodordering.dto.UserDto;
 import com.foodordering.entity.User;
 import com.foodordering.entity.UserRole;
+import com.foodordering.exception.UserAlreadyExistsException;
 import com.foodordering.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -32,6 +44,15 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private SingleFlight<String, UserDetails> userDetailsLookups;
+
+    @Mock
+    private SingleFlight<String, UserDto> userLookups;
+
     @InjectMocks
     private UserService userService;
 
@@ -52,6 +73,7 @@ class UserServiceTest {
     void testExistsByUsername_WhenUserExists_ReturnsTrue() {
         // Given
         String username = "testuser";
+        when(availabilityIndex.mightContainUsername(username)).thenReturn(true);
         when(userRepository.existsByUsername(username)).thenReturn(true);
 
         // When
@@ -65,6 +87,7 @@ class UserServiceTest {
     void testExistsByUsername_WhenUserDoesNotExist_ReturnsFalse() {
         // Given
         String username = "nonexistentuser";
+        when(availabilityIndex.mightContainUsername(username)).thenReturn(true);
         when(userRepository.existsByUsername(username)).thenReturn(false);
 
         // When
@@ -78,6 +101,7 @@ class UserServiceTest {
     void testExistsByEmail_WhenEmailExists_ReturnsTrue() {
         // Given
         String email = "test@example.com";
+        when(availabilityIndex.mightContainEmail(email)).thenReturn(true);
         when(userRepository.existsByEmail(email)).thenReturn(true);
 
         // When
@@ -91,6 +115,7 @@ class UserServiceTest {
     void testExistsByEmail_WhenEmailDoesNotExist_ReturnsFalse() {
         // Given
         String email = "nonexistent@example.com";
+        when(availabilityIndex.mightContainEmail(email)).thenReturn(true);
         when(userRepository.existsByEmail(email)).thenReturn(false);
 
         // When
@@ -99,4 +124,87 @@ class UserServiceTest {
         // Then
         assertFalse(result);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testExistsByUsername_WhenFilterRulesItOut_SkipsDatabase() {
+        // Given
+        String username = "brandnewuser";
+        when(availabilityIndex.mightContainUsername(username)).thenReturn(false);
+
+        // When
+        boolean result = userService.existsByUsername(username);
+
+        // Then
+        assertFalse(result);
+        verify(userRepository, never()).existsByUsername(any());
+    }
+
+    @Test
+    void testRegisterUser_WhenEmailConstraintViolated_ThrowsUserAlreadyExists() {
+        // Given
+        when(passwordEncoder.encode("secret1")).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException("duplicate", "23505"),
+                        User.EMAIL_CONSTRAINT)));
+
+        // When
+        UserAlreadyExistsException ex = assertThrows(UserAlreadyExistsException.class,
+                () -> userService.registerUser("newuser", "test@example.com", "secret1"));
+
+        // Then
+        assertEquals("Email already exists: test@example.com", ex.getMessage());
+        verify(userRepository, never()).existsByUsername(any());
+        verify(availabilityIndex, never()).record(any(), any());
+    }
+
+    @Test
+    void testUpdateUser_WhenUsernameConstraintViolated_ThrowsUserAlreadyExists() {
+        // Given: the availability filter has not seen the name yet
+        UserDto rename = new UserDto();
+        rename.setUsername("takenuser");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(availabilityIndex.mightContainUsername("takenuser")).thenReturn(false);
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException("duplicate", "23505"),
+                        User.USERNAME_CONSTRAINT)));
+
+        // When
+        UserAlreadyExistsException ex = assertThrows(UserAlreadyExistsException.class,
+                () -> userService.updateUser(1L, rename));
+
+        // Then
+        assertEquals("Username already exists: takenuser", ex.getMessage());
+        verify(availabilityIndex, never()).record(any(), any());
+    }
+
+    @Test
+    void testRegisterUser_WhenInserted_RecordsNames() {
+        // Given
+        when(passwordEncoder.encode("secret1")).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(testUser);
+
+        // When
+        userService.registerUser("testuser", "test@example.com", "secret1");
+
+        // Then
+        verify(availabilityIndex).record("testuser", "test@example.com");
+    }
+
+    @Test
+    void testLoadUserByUsername_SharedLookup_EachCallerGetsOwnCopy() {
+        // Given
+        UserDetails shared = org.springframework.security.core.userdetails.User
+                .withUsername("testuser").password("encodedPassword").roles("USER").build();
+        when(userDetailsLookups.get(eq("testuser"), any())).thenReturn(shared);
+
+        // When
+        UserDetails first = userService.loadUserByUsername("testuser");
+        ((CredentialsContainer) first).eraseCredentials();
+        UserDetails second = userService.loadUserByUsername("testuser");
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals("encodedPassword", second.getPassword());
+        assertEquals("encodedPassword", shared.getPassword());
+    }
+}
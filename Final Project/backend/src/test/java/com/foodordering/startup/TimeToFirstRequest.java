@@ -0,0 +1,151 @@
+package com.foodordering.startup;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time-to-first-request: the time from launching the backend process
+ * until an HTTP request to it first succeeds.
+ *
+ * Run with: {@code mvn -Pstartup verify -DskipTests -Dstartup.args="..."}.
+ * Options come first, then {@code --} and the command that starts the
+ * backend, e.g.
+ * <pre>
+ * --url=http://localhost:8080/api/products --runs=3 --max=8s -- java -jar target/food-ordering-backend-1.0.0.jar
+ * </pre>
+ * Each run starts a fresh process, polls the URL until it returns a 2xx
+ * response and stops the process. The median is reported; with
+ * {@code --max} the tool exits with status 1 when the median is slower, so
+ * CI can fail on a startup regression. Process output goes to
+ * {@code --log-dir}.
+ *
+ * @author Food Ordering Team
+ * @version 1.0.0
+ */
+public final class TimeToFirstRequest {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    private URI url = URI.create("http://localhost:8080/api/products");
+    private int runs = 3;
+    private Duration timeout = Duration.ofMinutes(2);
+    private Duration max;
+    private Path logDir = Path.of("target", "startup");
+    private final List<String> command = new ArrayList<>();
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private TimeToFirstRequest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        TimeToFirstRequest tool = parse(args);
+        long[] millis = new long[tool.runs];
+        for (int run = 0; run < tool.runs; run++) {
+            millis[run] = tool.measure(run + 1);
+            System.out.printf("Run %d: first request after %d ms%n", run + 1, millis[run]);
+        }
+        Arrays.sort(millis);
+        long median = millis[millis.length / 2];
+        System.out.printf("Time to first request: median %d ms, min %d ms, max %d ms over %d runs%n",
+                median, millis[0], millis[millis.length - 1], millis.length);
+        if (tool.max != null && median > tool.max.toMillis()) {
+            System.out.printf("FAILED: median %d ms exceeds the %d ms budget%n", median, tool.max.toMillis());
+            System.exit(1);
+        }
+    }
+
+    static TimeToFirstRequest parse(String[] args) {
+        TimeToFirstRequest tool = new TimeToFirstRequest();
+        int i = 0;
+        for (; i < args.length && !args[i].equals("--"); i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unrecognized argument: " + arg + "\n" + usage());
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "url" -> tool.url = URI.create(value);
+                case "runs" -> tool.runs = Integer.parseInt(value);
+                case "timeout" -> tool.timeout = DurationStyle.detectAndParse(value);
+                case "max" -> tool.max = DurationStyle.detectAndParse(value);
+                case "log-dir" -> tool.logDir = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + name + "\n" + usage());
+            }
+        }
+        tool.command.addAll(Arrays.asList(args).subList(Math.min(i + 1, args.length), args.length));
+        if (tool.command.isEmpty()) {
+            throw new IllegalArgumentException("No command to start the backend\n" + usage());
+        }
+        return tool;
+    }
+
+    static String usage() {
+        return "Usage: [options] -- <command starting the backend>\n"
+                + "  --url=http://localhost:8080/api/products   request that has to succeed\n"
+                + "  --runs=3                  process launches; the median is reported\n"
+                + "  --timeout=2m              give up on a run after this long\n"
+                + "  --max=8s                  fail when the median is slower (optional)\n"
+                + "  --log-dir=target/startup  where the output of each run is written";
+    }
+
+    private long measure(int run) throws IOException, InterruptedException {
+        Files.createDirectories(logDir);
+        File log = logDir.resolve("run-" + run + ".log").toFile();
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log);
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Backend exited with status " + process.exitValue()
+                            + " before serving a request, see " + log);
+                }
+                if (succeeds()) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+            throw new IllegalStateException("No successful request within " + timeout + ", see " + log);
+        } finally {
+            stop(process);
+        }
+    }
+
+    private boolean succeeds() throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(5)).GET().build();
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status >= 200 && status < 300;
+        } catch (IOException ex) {
+            // Not listening yet
+            return false;
+        }
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+}
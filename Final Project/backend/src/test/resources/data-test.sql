@@ -26,4 +26,7 @@ INSERT INTO products (id, name, description, price, category, image_url, is_avai
 (6, 'Pizza & Rice', 'Pizza with rice and fresh vegetables.', 8.80, 'PIZZA', '/images/pizza-and-rice.png', true, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
 (7, 'Greek Salad', 'Fresh salad with tomato, cucumber, onion and feta cheese.', 5.50, 'SALAD', '/images/salad.png', true, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
 (8, 'Chicken with Vegetables', 'Chicken fillet with fresh vegetables and sauce.', 10.20, 'SIDE', '/images/meat.png', true, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-(9, 'Athletic Plate', 'Healthy plate with grilled chicken and fresh vegetables.', 11.50, 'SIDE', '/images/athletic-menu.png', true, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP); 
\ No newline at end of file
+(9, 'Athletic Plate', 'Healthy plate with grilled chicken and fresh vegetables.', 11.50, 'SIDE', '/images/athletic-menu.png', true, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP); 
+-- Continue generated ids after the explicit ones above
+ALTER TABLE users ALTER COLUMN id RESTART WITH 100;
+ALTER TABLE products ALTER COLUMN id RESTART WITH 100;
@@ -12,6 +12,18 @@ interface Review {
   createdAt: string;
 }
 
+interface ReviewPage {
+  reviews: Review[];
+  nextCursor: string | null;
+}
+
+interface RatingHistogram {
+  totalReviews: number;
+  averageRating: number | null;
+}
+
+const PAGE_SIZE = 20;
+
 interface ProductReviewsProps {
   productId: number;
 }
@@ -19,7 +31,10 @@ interface ProductReviewsProps {
 const ProductReviews: React.FC<ProductReviewsProps> = ({ productId }) => {
   const { user } = useAuth();
   const [reviews, setReviews] = useState<Review[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [histogram, setHistogram] = useState<RatingHistogram | null>(null);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState('');
   const [rating, setRating] = useState<number | null>(null);
   const [comment, setComment] = useState('');
@@ -27,13 +42,23 @@ const ProductReviews: React.FC<ProductReviewsProps> = ({ productId }) => {
   const [success, setSuccess] = useState('');
   const theme = useTheme();
 
+  // Reviews come one page at a time; the totals come from the rating histogram
+  const fetchFirstPage = async () => {
+    const [page, counts] = await Promise.all([
+      api.get<ReviewPage>(`/products/${productId}/reviews/feed`, { params: { size: PAGE_SIZE } }),
+      api.get<RatingHistogram>(`/products/${productId}/reviews/histogram`)
+    ]);
+    setReviews(page.data.reviews);
+    setNextCursor(page.data.nextCursor);
+    setHistogram(counts.data);
+  };
+
   useEffect(() => {
     const fetchReviews = async () => {
       setLoading(true);
       setError('');
       try {
-        const res = await api.get(`/products/${productId}/reviews`);
-        setReviews(res.data);
+        await fetchFirstPage();
       } catch {
         setError('Failed to load reviews');
       } finally {
@@ -43,6 +68,21 @@ const ProductReviews: React.FC<ProductReviewsProps> = ({ productId }) => {
     fetchReviews();
   }, [productId]);
 
+  const handleLoadMore = async () => {
+    if (!nextCursor) return;
+    setLoadingMore(true);
+    try {
+      const res = await api.get<ReviewPage>(`/products/${productId}/reviews/feed`,
+        { params: { size: PAGE_SIZE, after: nextCursor } });
+      setReviews(prev => [...prev, ...res.data.reviews]);
+      setNextCursor(res.data.nextCursor);
+    } catch {
+      setError('Failed to load reviews');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleSubmit = async () => {
     setSubmitError('');
     setSuccess('');
@@ -57,8 +97,7 @@ const ProductReviews: React.FC<ProductReviewsProps> = ({ productId }) => {
       setRating(null);
       setComment('');
       // Refresh reviews
-      const res = await api.get(`/products/${productId}/reviews`);
-      setReviews(res.data);
+      await fetchFirstPage();
     } catch (err: any) {
       let msg = 'Failed to submit review';
       if (err?.response?.data?.message) msg = err.response.data.message;
@@ -67,14 +106,15 @@ const ProductReviews: React.FC<ProductReviewsProps> = ({ productId }) => {
     }
   };
 
-  const avgRating = reviews.length > 0 ? (reviews.reduce((sum, r) => sum + r.rating, 0) / reviews.length) : 0;
+  const avgRating = histogram?.averageRating ?? 0;
+  const totalReviews = histogram?.totalReviews ?? 0;
 
   return (
     <Box mt={2}>
       <Typography variant="subtitle1" fontWeight={700} gutterBottom>Reviews</Typography>
       <Box display="flex" alignItems="center" mb={1}>
         <Rating value={avgRating} precision={0.5} readOnly />
-        <Typography variant="body2" sx={{ ml: 1 }}>{avgRating.toFixed(1)} / 5 ({reviews.length} reviews)</Typography>
+        <Typography variant="body2" sx={{ ml: 1 }}>{avgRating.toFixed(1)} / 5 ({totalReviews} reviews)</Typography>
       </Box>
       {loading ? <Typography>Loading...</Typography> :
         error ? <Alert severity="error">{error}</Alert> :
@@ -90,6 +130,11 @@ const ProductReviews: React.FC<ProductReviewsProps> = ({ productId }) => {
               <Typography variant="body2" sx={{ ml: 1 }}>{r.comment}</Typography>
             </Box>
           ))}
+          {nextCursor && (
+            <Button onClick={handleLoadMore} disabled={loadingMore}>
+              {loadingMore ? 'Loading...' : 'Show more reviews'}
+            </Button>
+          )}
         </Box>
       }
       {user && (
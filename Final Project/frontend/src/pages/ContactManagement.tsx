@@ -44,6 +44,17 @@ import {
 } from '@mui/icons-material';
 import { contactService } from '../services/api';
 
+interface ContactSummary {
+  id: number;
+  name: string;
+  email: string;
+  subject: string;
+  messagePreview: string;
+  messageTruncated: boolean;
+  status: 'PENDING' | 'IN_PROGRESS' | 'RESOLVED' | 'CLOSED';
+  createdAt: string;
+}
+
 interface Contact {
   id: number;
   name: string;
@@ -56,6 +67,20 @@ interface Contact {
   updatedAt: string;
 }
 
+const PREVIEW_LENGTH = 120;
+
+// Inbox search results carry the full message, the list only needs the summary fields
+const toSummary = (contact: Contact): ContactSummary => ({
+  id: contact.id,
+  name: contact.name,
+  email: contact.email,
+  subject: contact.subject,
+  messagePreview: contact.message.slice(0, PREVIEW_LENGTH),
+  messageTruncated: contact.message.length > PREVIEW_LENGTH,
+  status: contact.status,
+  createdAt: contact.createdAt,
+});
+
 interface ContactStatistics {
   totalContacts: number;
   pendingContacts: number;
@@ -64,11 +89,12 @@ interface ContactStatistics {
 }
 
 const ContactManagement: React.FC = () => {
-  const [contacts, setContacts] = useState<Contact[]>([]);
-  const [filteredContacts, setFilteredContacts] = useState<Contact[]>([]);
+  const [contacts, setContacts] = useState<ContactSummary[]>([]);
+  const [filteredContacts, setFilteredContacts] = useState<ContactSummary[]>([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const [searchTerm, setSearchTerm] = useState('');
+  const [searchResults, setSearchResults] = useState<ContactSummary[] | null>(null);
   const [statusFilter, setStatusFilter] = useState<string>('all');
   const [selectedContact, setSelectedContact] = useState<Contact | null>(null);
   const [dialogOpen, setDialogOpen] = useState(false);
@@ -82,9 +108,37 @@ const ContactManagement: React.FC = () => {
     fetchStatistics();
   }, []);
 
+  // The list only holds message previews, so searching runs on the server against the full text
+  useEffect(() => {
+    const query = searchTerm.trim();
+    if (!query) {
+      setSearchResults(null);
+      return;
+    }
+
+    let cancelled = false;
+    const timeout = setTimeout(async () => {
+      try {
+        const response = await contactService.searchInbox(query);
+        if (!cancelled) {
+          setSearchResults(response.contacts.map(toSummary));
+        }
+      } catch (err: any) {
+        if (!cancelled) {
+          setError(err.response?.data?.message || 'Σφάλμα κατά την αναζήτηση των επικοινωνιών');
+        }
+      }
+    }, 300);
+
+    return () => {
+      cancelled = true;
+      clearTimeout(timeout);
+    };
+  }, [searchTerm]);
+
   useEffect(() => {
     filterContacts();
-  }, [contacts, searchTerm, statusFilter]);
+  }, [contacts, searchResults, statusFilter]);
 
   const fetchContacts = async () => {
     try {
@@ -108,17 +162,7 @@ const ContactManagement: React.FC = () => {
   };
 
   const filterContacts = () => {
-    let filtered = contacts;
-
-    // Filter by search term
-    if (searchTerm) {
-      filtered = filtered.filter(contact =>
-        contact.name.toLowerCase().includes(searchTerm.toLowerCase()) ||
-        contact.email.toLowerCase().includes(searchTerm.toLowerCase()) ||
-        contact.subject.toLowerCase().includes(searchTerm.toLowerCase()) ||
-        contact.message.toLowerCase().includes(searchTerm.toLowerCase())
-      );
-    }
+    let filtered = searchResults ?? contacts;
 
     // Filter by status
     if (statusFilter !== 'all') {
@@ -134,11 +178,12 @@ const ContactManagement: React.FC = () => {
       await contactService.updateStatus(contactId, newStatus);
       
       // Update local state
-      setContacts(prev => prev.map(contact =>
+      const withStatus = (contact: ContactSummary) =>
         contact.id === contactId
-          ? { ...contact, status: newStatus as Contact['status'] }
-          : contact
-      ));
+          ? { ...contact, status: newStatus as ContactSummary['status'] }
+          : contact;
+      setContacts(prev => prev.map(withStatus));
+      setSearchResults(prev => prev && prev.map(withStatus));
       
       // Refresh statistics
       fetchStatistics();
@@ -149,6 +194,19 @@ const ContactManagement: React.FC = () => {
     }
   };
 
+  // The list only carries a preview of the message, so the dialog loads the full contact
+  const openContact = async (contactId: number) => {
+    setSelectedContact(null);
+    setDialogOpen(true);
+    try {
+      const response = await contactService.getById(contactId);
+      setSelectedContact(response);
+    } catch (err: any) {
+      setDialogOpen(false);
+      setError(err.response?.data?.message || 'Σφάλμα κατά τη φόρτωση της επικοινωνίας');
+    }
+  };
+
   const handleDeleteContact = async (contactId: number) => {
     if (!window.confirm('Είστε σίγουροι ότι θέλετε να διαγράψετε αυτή την επικοινωνία;')) {
       return;
@@ -157,6 +215,7 @@ const ContactManagement: React.FC = () => {
     try {
       await contactService.delete(contactId);
       setContacts(prev => prev.filter(contact => contact.id !== contactId));
+      setSearchResults(prev => prev && prev.filter(contact => contact.id !== contactId));
       fetchStatistics();
     } catch (err: any) {
       setError(err.response?.data?.message || 'Σφάλμα κατά τη διαγραφή');
@@ -386,10 +445,7 @@ const ContactManagement: React.FC = () => {
                           variant="body2"
                           noWrap
                           sx={{ maxWidth: 200, cursor: 'pointer', textDecoration: 'underline', color: 'primary.main' }}
-                          onClick={() => {
-                            setSelectedContact(contact);
-                            setDialogOpen(true);
-                          }}
+                          onClick={() => openContact(contact.id)}
                         >
                           {contact.subject}
                         </Typography>
@@ -419,10 +475,7 @@ const ContactManagement: React.FC = () => {
                         <Tooltip title="Προβολή λεπτομερειών">
                           <IconButton
                             size="small"
-                            onClick={() => {
-                              setSelectedContact(contact);
-                              setDialogOpen(true);
-                            }}
+                            onClick={() => openContact(contact.id)}
                           >
                             <Visibility />
                           </IconButton>
@@ -453,6 +506,11 @@ const ContactManagement: React.FC = () => {
         maxWidth="md"
         fullWidth
       >
+        {!selectedContact && (
+          <Box display="flex" justifyContent="center" p={4}>
+            <CircularProgress />
+          </Box>
+        )}
         {selectedContact && (
           <>
             <DialogTitle>
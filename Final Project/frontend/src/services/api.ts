@@ -240,6 +240,11 @@ export const contactService = {
     return response.data;
   },
 
+  searchInbox: async (query: string, size: number = 200) => {
+    const response = await api.get(`/contacts/inbox?q=${encodeURIComponent(query)}&size=${size}`);
+    return response.data;
+  },
+
   getStatistics: async () => {
     const response = await api.get('/contacts/statistics');
     return response.data;